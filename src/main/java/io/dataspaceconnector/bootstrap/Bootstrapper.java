@@ -19,7 +19,6 @@ import de.fraunhofer.iais.eis.Resource;
 import de.fraunhofer.iais.eis.ResourceCatalog;
 import de.fraunhofer.ids.messaging.core.config.ConfigUpdateException;
 import io.dataspaceconnector.bootstrap.util.BootstrapUtils;
-import io.dataspaceconnector.service.message.GlobalMessageService;
 import io.dataspaceconnector.model.ArtifactDesc;
 import io.dataspaceconnector.model.OfferedResource;
 import io.dataspaceconnector.model.OfferedResourceDesc;
@@ -49,10 +48,12 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -127,9 +128,9 @@ public class Bootstrapper {
     private final @NonNull ConnectorService connectorSvc;
 
     /**
-     * Service for interacting with a broker.
+     * Registers the resources at brokers.
      */
-    private final @NonNull GlobalMessageService brokerSvc;
+    private final @NonNull BrokerRegistration brokerRegistration;
 
     /**
      * Bootstrap the connector. Will load JSON-LD files containing IDS catalog entities and register
@@ -160,12 +161,8 @@ public class Bootstrapper {
             }
         }
 
-        // register resources at broker
-        if (!registerAtBroker(properties, idsResources)) {
-            if (log.isInfoEnabled()) {
-                log.info("An error occurred while registering resources at the broker.");
-            }
-        }
+        // register resources at broker in the background
+        brokerRegistration.register(groupByBroker(properties, idsResources));
 
         if (log.isInfoEnabled()) {
             log.info("Finished bootstrapping of connector.");
@@ -173,16 +170,15 @@ public class Bootstrapper {
     }
 
     /**
-     * Register resources at the broker.
+     * Find the broker of each resource that should be registered at a broker.
      *
      * @param properties Bootstrap properties.
-     * @param resources  The ids resources to register.
-     * @return true if all resources could be registered.
+     * @param resources  The ids resources.
+     * @return The resources by broker.
      */
-    private boolean registerAtBroker(final Properties properties,
-                                    final Map<URI, Resource> resources) {
-        final var knownBrokers = new HashSet<URL>();
-        // Iterate over all registered resources.
+    private Map<URI, List<Resource>> groupByBroker(final Properties properties,
+                                                   final Map<URI, Resource> resources) {
+        final var brokers = new LinkedHashMap<URI, List<Resource>>();
         for (final var entry : resources.entrySet()) {
             final var propertyKey = "broker.register." + entry.getKey().toString();
             if (properties.containsKey(propertyKey)) {
@@ -192,32 +188,21 @@ public class Bootstrapper {
                         log.warn("Skipping broker due to invalid url. [broker=({})]",
                                 properties.getProperty(propertyKey));
                     }
-                    return false;
+                    continue;
                 }
 
-                final var broker = brokerUrl.get();
-
                 try {
-                    if (!knownBrokers.contains(broker)) {
-                        knownBrokers.add(broker);
-                        if (!brokerSvc.sendConnectorUpdateMessage(broker.toURI())) {
-                            return false;
-                        }
-                    }
-
-                    if (!brokerSvc.sendResourceUpdateMessage(broker.toURI(), entry.getValue())) {
-                        return false;
-                    }
-                } catch (Exception e) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Could not register resource at broker [resourceId=({}), "
-                                + "broker=({})].", entry.getKey().toString(), broker, e);
+                    brokers.computeIfAbsent(brokerUrl.get().toURI(), x -> new ArrayList<>())
+                            .add(entry.getValue());
+                } catch (URISyntaxException e) {
+                    if (log.isWarnEnabled()) {
+                        log.warn("Skipping broker due to invalid url. [broker=({})]",
+                                brokerUrl.get());
                     }
-                    return false;
                 }
             }
         }
-        return true;
+        return brokers;
     }
 
     private List<File> loadBootstrapData() {
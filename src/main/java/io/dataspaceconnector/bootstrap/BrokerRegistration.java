@@ -0,0 +1,294 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.bootstrap;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.fraunhofer.iais.eis.Resource;
+import io.dataspaceconnector.service.message.GlobalMessageService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers bootstrapped resources at brokers in the background once the application has started.
+ * The brokers are served in parallel, the resources of a broker by a bounded number of workers.
+ * Resources that could not be registered are retried in later rounds.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class BrokerRegistration implements MeterBinder, DisposableBean {
+
+    /**
+     * Service for interacting with a broker.
+     */
+    private final @NonNull GlobalMessageService brokerSvc;
+
+    /**
+     * The resources waiting for the application to start, by broker.
+     */
+    private final Map<URI, List<Resource>> waiting = new LinkedHashMap<>();
+
+    /**
+     * The number of resources not yet registered or given up.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * The number of registered resources.
+     */
+    private final AtomicInteger registered = new AtomicInteger();
+
+    /**
+     * The number of resources that could not be registered.
+     */
+    private final AtomicInteger failed = new AtomicInteger();
+
+    /**
+     * Numbers the worker threads.
+     */
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * Runs the registrations.
+     */
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        final var thread = new Thread(runnable,
+                "broker-registration-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The maximum number of resources registered at once at a broker.
+     */
+    @Value("${bootstrap.broker.concurrency:4}")
+    private int concurrency;
+
+    /**
+     * The number of rounds in which a resource is sent before it is given up.
+     */
+    @Value("${bootstrap.broker.max-attempts:3}")
+    private int maxAttempts;
+
+    /**
+     * The time to wait before resending the failed resources, in milliseconds.
+     */
+    @Value("${bootstrap.broker.retry-delay:10000}")
+    private long retryDelay;
+
+    /**
+     * Whether the application has started.
+     */
+    private boolean ready;
+
+    /**
+     * Register resources at brokers. The registration starts once the application has started.
+     *
+     * @param resources The resources by broker.
+     */
+    public synchronized void register(final Map<URI, List<Resource>> resources) {
+        for (final var entry : resources.entrySet()) {
+            pending.addAndGet(entry.getValue().size());
+            if (ready) {
+                start(entry.getKey(), entry.getValue());
+            } else {
+                waiting.computeIfAbsent(entry.getKey(), x -> new ArrayList<>())
+                        .addAll(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Start the registrations that have been waiting for the application to start.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void onApplicationReady() {
+        ready = true;
+        for (final var entry : waiting.entrySet()) {
+            start(entry.getKey(), entry.getValue());
+        }
+        waiting.clear();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        bindGauge(registry, "pending", pending);
+        bindGauge(registry, "registered", registered);
+        bindGauge(registry, "failed", failed);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void bindGauge(final MeterRegistry registry, final String state,
+                           final AtomicInteger value) {
+        Gauge.builder("dsc.bootstrap.broker.resources", value, AtomicInteger::get)
+                .description("Bootstrapped resources by state of their broker registration.")
+                .tag("state", state)
+                .register(registry);
+    }
+
+    private void start(final URI broker, final List<Resource> resources) {
+        try {
+            executor.execute(() -> registerAtBroker(broker, List.copyOf(resources)));
+        } catch (RejectedExecutionException e) {
+            // Shutting down.
+            giveUp(resources.size());
+        }
+    }
+
+    /**
+     * Register the connector and then the resources at a broker.
+     *
+     * @param broker    The broker.
+     * @param resources The resources.
+     */
+    void registerAtBroker(final URI broker, final List<Resource> resources) {
+        var remaining = resources;
+        for (var attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (attempt > 1 && !awaitRetry()) {
+                break;
+            }
+
+            if (updateConnector(broker)) {
+                remaining = registerResources(broker, remaining);
+                if (log.isInfoEnabled()) {
+                    log.info("Registered resources at broker. [broker=({}), round=({}), "
+                                    + "registered=({}), remaining=({})]", broker, attempt,
+                            resources.size() - remaining.size(), remaining.size());
+                }
+            }
+
+            if (remaining.isEmpty()) {
+                return;
+            }
+        }
+
+        if (log.isWarnEnabled()) {
+            log.warn("Failed to register resources at broker. [broker=({}), failed=({})]",
+                    broker, remaining.size());
+        }
+        giveUp(remaining.size());
+    }
+
+    private boolean updateConnector(final URI broker) {
+        try {
+            return brokerSvc.sendConnectorUpdateMessage(broker);
+        } catch (Exception e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not register connector at broker [broker=({})].", broker, e);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Send the resources to a broker with a bounded number of workers.
+     *
+     * @param broker    The broker.
+     * @param resources The resources.
+     * @return The resources that could not be registered.
+     */
+    private List<Resource> registerResources(final URI broker, final List<Resource> resources) {
+        final Queue<Resource> queue = new ConcurrentLinkedQueue<>(resources);
+        final var failures = Collections.synchronizedList(new ArrayList<Resource>());
+        final var workers = Math.max(1, Math.min(concurrency, resources.size()));
+        final var done = new CountDownLatch(workers - 1);
+
+        final Runnable worker = () -> {
+            Resource resource;
+            while ((resource = queue.poll()) != null) {
+                if (updateResource(broker, resource)) {
+                    registered.incrementAndGet();
+                    pending.decrementAndGet();
+                } else {
+                    failures.add(resource);
+                }
+            }
+        };
+
+        // The calling thread is one of the workers.
+        for (var i = 1; i < workers; i++) {
+            executor.execute(() -> {
+                try {
+                    worker.run();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        worker.run();
+
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return new ArrayList<>(failures);
+    }
+
+    private boolean updateResource(final URI broker, final Resource resource) {
+        try {
+            return brokerSvc.sendResourceUpdateMessage(broker, resource);
+        } catch (Exception e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not register resource at broker [resourceId=({}), "
+                        + "broker=({})].", resource.getId(), broker, e);
+            }
+            return false;
+        }
+    }
+
+    private boolean awaitRetry() {
+        try {
+            Thread.sleep(retryDelay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void giveUp(final int count) {
+        failed.addAndGet(count);
+        pending.addAndGet(-count);
+    }
+}
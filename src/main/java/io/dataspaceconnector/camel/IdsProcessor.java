@@ -46,6 +46,7 @@ import io.dataspaceconnector.service.EntityResolver;
 import io.dataspaceconnector.service.EntityUpdateService;
 import io.dataspaceconnector.service.ids.ConnectorService;
 import io.dataspaceconnector.service.ids.DeserializationService;
+import io.dataspaceconnector.service.ids.builder.AbstractIdsBuilder;
 import io.dataspaceconnector.service.message.type.ArtifactResponseService;
 import io.dataspaceconnector.service.message.type.ContractAgreementService;
 import io.dataspaceconnector.service.message.type.ContractRejectionService;
@@ -58,6 +59,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Base64Utils;
@@ -114,6 +116,12 @@ class ResourceDescriptionProcessor extends IdsProcessor<
      */
     private final @NonNull EntityResolver entityResolver;
 
+    /**
+     * The maximum number of children per page of a requested description.
+     */
+    @Value("${ids.description.max-page-size:100}")
+    private int maxPageSize;
+
     /**
      * Generates the description of the requested element as the response payload and creates
      * a DescriptionResponseMessage as the response header.
@@ -128,6 +136,8 @@ class ResourceDescriptionProcessor extends IdsProcessor<
             MessagePayload> msg) throws Exception {
         // Read relevant parameters for message processing.
         final var requested = MessageUtils.extractRequestedElement(msg.getHeader());
+        // Read before loading, so that the description is not cached if a change is missed.
+        final var version = entityResolver.getRdfCacheVersion();
         final var entity = entityResolver.getEntityById(requested);
         final var issuer = MessageUtils.extractIssuerConnector(msg.getHeader());
         final var messageId = MessageUtils.extractMessageId(msg.getHeader());
@@ -135,7 +145,11 @@ class ResourceDescriptionProcessor extends IdsProcessor<
         // If the element has been found, build the ids response message.
         final var desc = new DescriptionResponseMessageDesc(issuer, messageId);
         final var header = messageService.buildMessage(desc);
-        final var payload = entityResolver.getEntityAsRdfString(entity);
+        final var depth = MessageUtils.extractDescriptionDepth(msg.getHeader());
+        final var page = MessageUtils.extractDescriptionPage(msg.getHeader(),
+                maxPageSize);
+        final var payload = entityResolver.getEntityAsRdfString(entity,
+                depth.orElse(AbstractIdsBuilder.DEFAULT_DEPTH), page, version);
 
         // Send ids response message.
         return new Response(header, payload);
@@ -161,6 +175,12 @@ class SelfDescriptionProcessor extends IdsProcessor<
      */
     private final @NonNull DescriptionResponseService messageService;
 
+    /**
+     * The maximum number of catalogs per page of the self-description.
+     */
+    @Value("${ids.description.max-page-size:100}")
+    private int maxPageSize;
+
     /**
      * Generates the self-description as the response payload and creates a
      * DescriptionResponseMessage as the response header.
@@ -175,14 +195,18 @@ class SelfDescriptionProcessor extends IdsProcessor<
             MessagePayload> msg) throws Exception {
         final var issuer = MessageUtils.extractIssuerConnector(msg.getHeader());
         final var messageId = MessageUtils.extractMessageId(msg.getHeader());
-        final var connector = connectorService.getConnectorWithOfferedResources();
+        final var page = MessageUtils.extractDescriptionPage(msg.getHeader(),
+                maxPageSize);
+        final var connector = page.isUnpaged()
+                ? connectorService.getConnectorWithOfferedResourcesAsRdf()
+                : connectorService.getConnectorWithOfferedResourcesAsRdf(page);
 
         // Build ids response message.
         final var desc = new DescriptionResponseMessageDesc(issuer, messageId);
         final var header = messageService.buildMessage(desc);
 
         // Send ids response message.
-        return new Response(header, connector.toRdf());
+        return new Response(header, connector);
     }
 }
 
@@ -476,7 +500,7 @@ class AgreementComparisonProcessor extends IdsProcessor<
         final var agreement = msg.getBody();
         final var storedAgreement = entityResolver.getAgreementByUri(agreement.getId());
         final var storedIdsAgreement = deserializationService
-                .getContractAgreement(storedAgreement.getValue());
+                .getStoredContractAgreement(storedAgreement.getValue());
 
         if (!ContractUtils.compareContractAgreements(agreement, storedIdsAgreement)) {
             throw new ContractException("Received agreement does not match stored agreement.");
@@ -38,9 +38,8 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
 import java.io.InputStreamReader;
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Superclass for Camel processors that transform an incoming message's payload, e.g. by
@@ -247,13 +246,23 @@ class ContractTargetRuleMapTransformer extends IdsTransformer<
 
 /**
  * Transform a {@link MessagePayload} body to a string for error handling, as in case of a
- * not parsable body, the payload is logged.
+ * not parsable body, the payload is logged. Only the beginning of large payloads is read.
  */
 @Component("PayloadStreamReader")
 class PayloadStreamReader extends IdsTransformer<
         RouteMsg<? extends Message, MessagePayload>,
         RouteMsg<? extends Message, String>> {
 
+    /**
+     * The maximum number of characters read from the payload.
+     */
+    static final int MAX_PAYLOAD_LENGTH = 64 * 1024;
+
+    /**
+     * The size of the read buffer.
+     */
+    private static final int BUFFER_SIZE = 4096;
+
     /**
      * Transforms the payload of the incoming RouteMsg from a MessagePayload to a string.
      *
@@ -264,18 +273,30 @@ class PayloadStreamReader extends IdsTransformer<
     @Override
     protected RouteMsg<? extends Message, String> processInternal(final RouteMsg<? extends Message,
             MessagePayload> msg) throws Exception {
-        final var inputStream = msg.getBody().getUnderlyingInputStream();
-
-        // Reset the stream so it can be read again.
-        inputStream.reset();
-
         String payload;
         try {
-            payload = new BufferedReader(
-                    new InputStreamReader(inputStream))
-                    .lines()
-                    .parallel()
-                    .collect(Collectors.joining("\n"));
+            final var inputStream = msg.getBody().getUnderlyingInputStream();
+
+            // Reset the stream so it can be read again.
+            inputStream.reset();
+
+            final var reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+            final var builder = new StringBuilder();
+            final var buffer = new char[BUFFER_SIZE];
+            while (builder.length() < MAX_PAYLOAD_LENGTH) {
+                final var read = reader.read(buffer, 0,
+                        Math.min(buffer.length, MAX_PAYLOAD_LENGTH - builder.length()));
+                if (read < 0) {
+                    break;
+                }
+                builder.append(buffer, 0, read);
+            }
+
+            if (builder.length() == MAX_PAYLOAD_LENGTH && reader.read() >= 0) {
+                builder.append("... [truncated]");
+            }
+
+            payload = builder.toString();
         } catch (Exception e) {
             payload = "Payload could not be read from request.";
         }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.config;
+
+import io.dataspaceconnector.controller.resource.view.ViewAssemblerHelper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * This class handles the self-link settings.
+ */
+@Configuration
+public class SelfLinkConfiguration {
+
+    /**
+     * Set the base uri of self-links built outside of requests, e.g. by background jobs.
+     *
+     * @param baseUri The base uri from application.properties. Empty for none.
+     */
+    @Value("${connector.self-link.base-uri:}")
+    public void setBaseUri(final String baseUri) {
+        ViewAssemblerHelper.setDefaultBaseUri(baseUri);
+    }
+}
@@ -72,7 +72,7 @@ public class MainController {
             @ApiResponse(responseCode = "500", description = "Internal server error")})
     @ResponseBody
     public ResponseEntity<Object> getPrivateSelfDescription() {
-        return ResponseEntity.ok(connectorService.getConnectorWithOfferedResources().toRdf());
+        return ResponseEntity.ok(connectorService.getConnectorWithOfferedResourcesAsRdf());
     }
 
     /**
@@ -24,6 +24,8 @@ import io.dataspaceconnector.exception.MessageResponseException;
 import io.dataspaceconnector.exception.ResourceNotFoundException;
 import io.dataspaceconnector.service.EntityPersistenceService;
 import io.dataspaceconnector.service.EntityUpdateService;
+import io.dataspaceconnector.service.NegotiationJobService;
+import io.dataspaceconnector.service.message.MessageFanOut;
 import io.dataspaceconnector.service.message.type.ArtifactRequestService;
 import io.dataspaceconnector.service.message.type.ContractAgreementService;
 import io.dataspaceconnector.service.message.type.ContractRequestService;
@@ -34,6 +36,7 @@ import io.dataspaceconnector.util.ControllerUtils;
 import io.dataspaceconnector.util.MessageUtils;
 import io.dataspaceconnector.util.RuleUtils;
 import io.dataspaceconnector.controller.resource.view.AgreementViewAssembler;
+import io.dataspaceconnector.controller.resource.view.NegotiationJobViewAssembler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -116,6 +119,21 @@ public class ContractRequestMessageController {
      */
     private final @NonNull EntityPersistenceService persistenceSvc;
 
+    /**
+     * Sends the description and artifact requests in parallel.
+     */
+    private final @NonNull MessageFanOut fanOut;
+
+    /**
+     * Service for negotiations running in the background.
+     */
+    private final @NonNull NegotiationJobService jobService;
+
+    /**
+     * Assembles DTOs for negotiation jobs.
+     */
+    private final @NonNull NegotiationJobViewAssembler jobAsm;
+
     /**
      * Starts a contract, metadata, and data exchange with an external connector.
      *
@@ -124,6 +142,7 @@ public class ContractRequestMessageController {
      * @param artifacts List of requested artifacts by IDs.
      * @param download     Download data directly after successful contract and description request.
      * @param ruleList     List of rules that should be used within a contract request.
+     * @param async        Run the negotiation in the background and return the job.
      * @return The response entity.
      */
     @PostMapping("/contract")
@@ -131,6 +150,7 @@ public class ContractRequestMessageController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Ok"),
             @ApiResponse(responseCode = "201", description = "Created"),
+            @ApiResponse(responseCode = "202", description = "Accepted"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "417", description = "Expectation failed"),
             @ApiResponse(responseCode = "500", description = "Internal server error")})
@@ -149,7 +169,14 @@ public class ContractRequestMessageController {
                     + "download data of an artifact.")
             @RequestParam("download") final boolean download,
             @Parameter(description = "List of ids rules with an artifact id as target.")
-            @RequestBody final List<Rule> ruleList) {
+            @RequestBody final List<Rule> ruleList,
+            @Parameter(description = "Indicates whether the negotiation should run in the "
+                    + "background. The response links the job showing its progress.")
+            @RequestParam(value = "async", defaultValue = "false") final boolean async) {
+        if (async) {
+            return startJob(recipient, resources, artifacts, download, ruleList);
+        }
+
         UUID agreementId;
 
         Map<String, String> response;
@@ -187,19 +214,24 @@ public class ContractRequestMessageController {
             }
 
             // DESCRIPTION REQUESTS ----------------------------------------------------------------
-            // Iterate over list of resource ids to send description request messages for each.
-            for (final var resource : resources) {
-                // Send and validate description request/response message.
-                response = descReqSvc.sendMessage(recipient, resource);
-                if (!descReqSvc.validateResponse(response)) {
-                    // If the response is not a description response message, show the response.
-                    final var content = descReqSvc.getResponseContent(response);
-                    return ControllerUtils.respondWithMessageContent(content);
-                }
+            // Send description request messages for all resource ids in parallel. The responses
+            // are validated and processed in the order of the resource ids.
+            try (var responses = fanOut.send(recipient, resources,
+                    resource -> descReqSvc.sendMessage(recipient, resource))) {
+                while (responses.hasNext()) {
+                    // Wait for and validate the description response message.
+                    response = responses.next();
+                    if (!descReqSvc.validateResponse(response)) {
+                        // If the response is not a description response message, show the
+                        // response.
+                        final var content = descReqSvc.getResponseContent(response);
+                        return ControllerUtils.respondWithMessageContent(content);
+                    }
 
-                // Read and process the response message. Save resource, recipient, and agreement
-                // id to database.
-                persistenceSvc.saveMetadata(response, artifacts, download, recipient);
+                    // Read and process the response message. Save resource, recipient, and
+                    // agreement id to database.
+                    persistenceSvc.saveMetadata(response, artifacts, download, recipient);
+                }
             }
 
             updateService.linkArtifactToAgreement(artifacts, agreementId);
@@ -207,31 +239,36 @@ public class ContractRequestMessageController {
             // ARTIFACT REQUESTS -------------------------------------------------------------------
             // Download data depending on user input.
             if (download) {
-                // Iterate over list of resource ids to send artifact request messages for each.
-                for (final var artifact : artifacts) {
-                    // Send and validate artifact request/response message.
-                    final var transferContract = agreement.getId();
-                    response = artifactReqSvc.sendMessage(recipient, artifact, transferContract);
-                    if (!artifactReqSvc.validateResponse(response)) {
-                        // If the response is not an artifact response message, show the response.
-                        // Ignore when data could not be downloaded, because the artifact request
-                        // can be triggered later again.
-                        final var content = artifactReqSvc.getResponseContent(response);
-                        if (log.isDebugEnabled()) {
-                            log.debug("Data could not be loaded. [content=({})]", content);
+                // Send artifact request messages for all artifact ids in parallel. The responses
+                // are processed in the order of the artifact ids.
+                final var transferContract = agreement.getId();
+                try (var responses = fanOut.send(recipient, artifacts, artifact -> artifactReqSvc
+                        .sendMessage(recipient, artifact, transferContract))) {
+                    for (final var artifact : artifacts) {
+                        // Wait for and validate the artifact response message.
+                        response = responses.next();
+                        if (!artifactReqSvc.validateResponse(response)) {
+                            // If the response is not an artifact response message, show the
+                            // response. Ignore when data could not be downloaded, because the
+                            // artifact request can be triggered later again.
+                            final var content = artifactReqSvc.getResponseContent(response);
+                            if (log.isDebugEnabled()) {
+                                log.debug("Data could not be loaded. [content=({})]", content);
+                            }
                         }
-                    }
 
-                    // Read and process the response message.
-                    try {
-                        persistenceSvc.saveData(response, artifact);
-                    } catch (IOException | ResourceNotFoundException
-                             | MessageResponseException e) {
-                        // Ignore that the data saving failed. Another try can take place later.
-                        if (log.isWarnEnabled()) {
-                            log.warn("Could not save data for artifact."
-                                            + "[artifact=({}), exception=({})]",
-                                    artifact, e.getMessage());
+                        // Read and process the response message.
+                        try {
+                            persistenceSvc.saveData(response, artifact);
+                        } catch (IOException | ResourceNotFoundException
+                                 | MessageResponseException e) {
+                            // Ignore that the data saving failed. Another try can take place
+                            // later.
+                            if (log.isWarnEnabled()) {
+                                log.warn("Could not save data for artifact."
+                                                + "[artifact=({}), exception=({})]",
+                                        artifact, e.getMessage());
+                            }
                         }
                     }
                 }
@@ -258,4 +295,22 @@ public class ContractRequestMessageController {
 
         return new ResponseEntity<>(entity, headers, HttpStatus.CREATED);
     }
+
+    private ResponseEntity<Object> startJob(final URI recipient, final List<URI> resources,
+                                            final List<URI> artifacts, final boolean download,
+                                            final List<Rule> ruleList) {
+        try {
+            final var entity = jobAsm.toModel(
+                    jobService.create(recipient, resources, artifacts, download, ruleList));
+
+            final var headers = new HttpHeaders();
+            headers.setLocation(entity.getRequiredLink("self").toUri());
+
+            return new ResponseEntity<>(entity, headers, HttpStatus.ACCEPTED);
+        } catch (InvalidInputException exception) {
+            return ControllerUtils.respondInvalidInput(exception);
+        } catch (PersistenceException exception) {
+            return ControllerUtils.respondFailedToStoreEntity(exception);
+        }
+    }
 }
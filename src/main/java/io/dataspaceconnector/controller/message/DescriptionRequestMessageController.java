@@ -17,6 +17,7 @@ package io.dataspaceconnector.controller.message;
 
 import io.dataspaceconnector.exception.MessageException;
 import io.dataspaceconnector.exception.MessageResponseException;
+import io.dataspaceconnector.model.message.DescriptionRequestMessageDesc;
 import io.dataspaceconnector.service.ids.DeserializationService;
 import io.dataspaceconnector.service.message.type.DescriptionRequestService;
 import io.dataspaceconnector.util.ControllerUtils;
@@ -64,6 +65,9 @@ public class DescriptionRequestMessageController {
      *
      * @param recipient The target connector url.
      * @param elementId The requested element id.
+     * @param depth     The depth up to which the description is built.
+     * @param page      The page of the requested element's children.
+     * @param size      The page size of the requested element's children.
      * @return The response entity.
      */
     @PostMapping("/description")
@@ -79,11 +83,21 @@ public class DescriptionRequestMessageController {
             @Parameter(description = "The recipient url.", required = true)
             @RequestParam("recipient") final URI recipient,
             @Parameter(description = "The id of the requested resource.")
-            @RequestParam(value = "elementId", required = false) final URI elementId) {
+            @RequestParam(value = "elementId", required = false) final URI elementId,
+            @Parameter(description = "The depth up to which the description is built.")
+            @RequestParam(value = "depth", required = false) final Integer depth,
+            @Parameter(description = "The page of the catalogs or offered resources.")
+            @RequestParam(value = "page", required = false) final Integer page,
+            @Parameter(description = "The page size of the catalogs or offered resources.")
+            @RequestParam(value = "size", required = false) final Integer size) {
         String payload = null;
         try {
             // Send and validate description request/response message.
-            final var response = descriptionReqSvc.sendMessage(recipient, elementId);
+            final var desc = new DescriptionRequestMessageDesc(recipient, elementId);
+            desc.setDepth(depth);
+            desc.setPage(page);
+            desc.setSize(size);
+            final var response = descriptionReqSvc.sendMessage(desc);
             final var valid = descriptionReqSvc.validateResponse(response);
             if (!valid) {
                 // If the response is not a description response message, show the response.
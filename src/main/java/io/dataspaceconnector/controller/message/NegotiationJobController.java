@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.controller.message;
+
+import io.dataspaceconnector.controller.resource.view.NegotiationJobView;
+import io.dataspaceconnector.controller.resource.view.NegotiationJobViewAssembler;
+import io.dataspaceconnector.service.NegotiationJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * This controller provides the endpoints for following contract negotiations running in the
+ * background.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/ids/contract/jobs")
+@Tag(name = "IDS Messages", description = "Endpoints for invoke sending IDS messages")
+public class NegotiationJobController {
+
+    /**
+     * Service for negotiation jobs.
+     */
+    private final @NonNull NegotiationJobService jobService;
+
+    /**
+     * Assembles DTOs for negotiation jobs.
+     */
+    private final @NonNull NegotiationJobViewAssembler jobAsm;
+
+    /**
+     * Get the progress and result of a negotiation.
+     *
+     * @param jobId The id of the job.
+     * @return The job.
+     */
+    @GetMapping("{id}")
+    @Operation(summary = "Get the state of a contract negotiation")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ok"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Not found")})
+    public ResponseEntity<NegotiationJobView> getJob(
+            @Parameter(description = "The id of the job.", required = true)
+            @PathVariable("id") final UUID jobId) {
+        return ResponseEntity.ok(jobAsm.toModel(jobService.get(jobId)));
+    }
+
+    /**
+     * Run a failed negotiation again, starting with the step it failed in.
+     *
+     * @param jobId The id of the job.
+     * @return The job.
+     */
+    @PostMapping("{id}/retry")
+    @Operation(summary = "Retry a failed contract negotiation")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Accepted"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Not found")})
+    public ResponseEntity<NegotiationJobView> retryJob(
+            @Parameter(description = "The id of the job.", required = true)
+            @PathVariable("id") final UUID jobId) {
+        return ResponseEntity.accepted().body(jobAsm.toModel(jobService.retry(jobId)));
+    }
+}
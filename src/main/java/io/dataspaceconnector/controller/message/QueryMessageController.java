@@ -60,6 +60,7 @@ public class QueryMessageController {
      *
      * @param recipient The url of the recipient.
      * @param query     The query statement.
+     * @param bypassCache True to send the query even if a cached response exists.
      * @return The response message or an error.
      */
     @PostMapping("/query")
@@ -81,10 +82,13 @@ public class QueryMessageController {
                             + "FROM <urn:x-arq:UnionGraph>\n"
                             + "WHERE {\n"
                             + "  ?subject ?predicate ?object\n"
-                            + "};") @RequestBody final String query) {
+                            + "};") @RequestBody final String query,
+            @Parameter(description = "Indicates whether a cached response should be ignored.")
+            @RequestParam(value = "bypassCache", defaultValue = "false")
+            final boolean bypassCache) {
         try {
             // Send the query message.
-            final var response = messageService.sendQueryMessage(recipient, query);
+            final var response = messageService.sendQueryMessage(recipient, query, bypassCache);
             return response.<ResponseEntity<Object>>map(ResponseEntity::ok)
                     .orElseGet(ControllerUtils::respondReceivedInvalidResponse);
         } catch (SocketTimeoutException exception) {
@@ -103,6 +107,7 @@ public class QueryMessageController {
      * @param term      The search term.
      * @param limit     The limit of the number of response objects.
      * @param offset    The search offset value.
+     * @param bypassCache True to send the search even if a cached response exists.
      * @return The response message or an error.
      */
     @PostMapping("/search")
@@ -124,11 +129,14 @@ public class QueryMessageController {
             @Parameter(description = "The offset value.", required = true)
             @RequestParam(value = "offset", defaultValue = "0") final Integer offset,
             @Parameter(description = "The search term.", required = true)
-            @RequestBody final String term) {
+            @RequestBody final String term,
+            @Parameter(description = "Indicates whether a cached response should be ignored.")
+            @RequestParam(value = "bypassCache", defaultValue = "false")
+            final boolean bypassCache) {
         try {
             // Send the query message.
-            final var response =
-                    messageService.sendFullTextSearchQueryMessage(recipient, term, limit, offset);
+            final var response = messageService.sendFullTextSearchQueryMessage(recipient, term,
+                    limit, offset, bypassCache);
             return response.<ResponseEntity<Object>>map(ResponseEntity::ok)
                     .orElseGet(ControllerUtils::respondReceivedInvalidResponse);
         } catch (SocketTimeoutException exception) {
@@ -21,12 +21,18 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 
 import io.dataspaceconnector.controller.resource.exception.MethodNotAllowed;
 import io.dataspaceconnector.controller.resource.tag.ResourceDescriptions;
 import io.dataspaceconnector.controller.resource.tag.ResourceNames;
+import io.dataspaceconnector.exception.ResourceNotFoundException;
 import io.dataspaceconnector.model.Agreement;
 import io.dataspaceconnector.model.AgreementDesc;
 import io.dataspaceconnector.model.Artifact;
@@ -49,17 +55,21 @@ import io.dataspaceconnector.service.resource.AgreementService;
 import io.dataspaceconnector.service.resource.ArtifactService;
 import io.dataspaceconnector.service.resource.CatalogService;
 import io.dataspaceconnector.service.resource.ContractService;
+import io.dataspaceconnector.service.resource.OfferedResourceSearchIndex;
+import io.dataspaceconnector.service.resource.OfferedResourceSearchIndex.Facet;
 import io.dataspaceconnector.service.resource.RepresentationService;
 import io.dataspaceconnector.service.resource.ResourceService;
 import io.dataspaceconnector.service.resource.RetrievalInformation;
 import io.dataspaceconnector.service.resource.RuleService;
 import io.dataspaceconnector.service.usagecontrol.DataAccessVerifier;
+import io.dataspaceconnector.util.Utils;
 import io.dataspaceconnector.util.ValidationUtils;
 import io.dataspaceconnector.controller.resource.view.AgreementView;
 import io.dataspaceconnector.controller.resource.view.ArtifactView;
 import io.dataspaceconnector.controller.resource.view.CatalogView;
 import io.dataspaceconnector.controller.resource.view.ContractRuleView;
 import io.dataspaceconnector.controller.resource.view.ContractView;
+import io.dataspaceconnector.controller.resource.view.OfferedResourceSearchView;
 import io.dataspaceconnector.controller.resource.view.OfferedResourceView;
 import io.dataspaceconnector.controller.resource.view.RepresentationView;
 import io.dataspaceconnector.controller.resource.view.RequestedResourceView;
@@ -70,7 +80,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -135,9 +147,79 @@ public final class ResourceControllers {
     @RestController
     @RequestMapping("/api/offers")
     @Tag(name = ResourceNames.OFFERS, description = ResourceDescriptions.OFFERS)
+    @RequiredArgsConstructor
     public static class OfferedResourceController
             extends BaseResourceController<OfferedResource, OfferedResourceDesc,
             OfferedResourceView, ResourceService<OfferedResource, OfferedResourceDesc>> {
+
+        /**
+         * The search index over the offered resources.
+         */
+        private final @NonNull OfferedResourceSearchIndex searchIndex;
+
+        /**
+         * Search the offered resources by their title, description, and keywords. The result
+         * contains the matching offered resources and the most frequent facet values among them.
+         *
+         * @param query     The search terms. All terms have to match.
+         * @param publisher Only return offered resources of this publisher.
+         * @param language  Only return offered resources in this language.
+         * @param license   Only return offered resources with this license.
+         * @param keyword   Only return offered resources with this keyword.
+         * @param page      The page index.
+         * @param size      The page size.
+         * @return The matching offered resources and facets.
+         */
+        @GetMapping("search")
+        @Operation(summary = "Search offered resources")
+        @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
+        public ResponseEntity<OfferedResourceSearchView> search(
+                @RequestParam(value = "q", required = false) final String query,
+                @RequestParam(value = "publisher", required = false) final String publisher,
+                @RequestParam(value = "language", required = false) final String language,
+                @RequestParam(value = "license", required = false) final String license,
+                @RequestParam(value = "keyword", required = false) final String keyword,
+                @RequestParam(required = false, defaultValue = "0") final Integer page,
+                @RequestParam(required = false, defaultValue = "30") final Integer size) {
+            final var filters = new EnumMap<Facet, String>(Facet.class);
+            addFilter(filters, Facet.PUBLISHER, publisher);
+            addFilter(filters, Facet.LANGUAGE, language);
+            addFilter(filters, Facet.LICENSE, license);
+            addFilter(filters, Facet.KEYWORD, keyword);
+
+            final var pageable = Utils.toPageRequest(page, size);
+            final var result = searchIndex.search(query, filters, pageable.getOffset(),
+                    pageable.getPageSize());
+
+            final var resources = new ArrayList<OfferedResourceView>();
+            for (final var resourceId : result.getResources()) {
+                try {
+                    resources.add(getAssembler().toModel(getService().get(resourceId)));
+                } catch (ResourceNotFoundException ignored) {
+                    // Deleted since the search.
+                }
+            }
+
+            final var facets = new LinkedHashMap<String, Map<String, Integer>>();
+            for (final var facet : result.getFacets().entrySet()) {
+                facets.put(facet.getKey().name().toLowerCase(Locale.ROOT), facet.getValue());
+            }
+
+            final var view = new OfferedResourceSearchView();
+            view.setTotal(result.getTotal());
+            view.setPage(pageable.getPageNumber());
+            view.setSize(pageable.getPageSize());
+            view.setResources(resources);
+            view.setFacets(facets);
+            return ResponseEntity.ok(view);
+        }
+
+        private static void addFilter(final Map<Facet, String> filters, final Facet facet,
+                                      final String value) {
+            if (value != null && !value.isBlank()) {
+                filters.put(facet, value);
+            }
+        }
     }
 
     /**
@@ -216,6 +298,12 @@ public final class ResourceControllers {
         private final @NonNull
         DataAccessVerifier accessVerifier;
 
+        /**
+         * The maximum number of artifacts whose data access is evaluated at once.
+         */
+        @Value("${policy.access-decisions.max-artifacts:1000}")
+        private int maxAccessDecisions;
+
         /**
          * Returns data from the local database or a remote data source. In case of a remote data
          * source, all headers and query parameters included in this request will be used for the
@@ -317,6 +405,27 @@ public final class ResourceControllers {
                     .body(body);
         }
 
+        /**
+         * Evaluates the data access for many artifacts at once, without accessing their data.
+         *
+         * @param artifactIds The ids of the artifacts.
+         * @return The access decision per artifact or status 400 if too many ids are passed.
+         */
+        @PostMapping("access")
+        @Operation(summary = "Evaluate data access for a list of artifacts")
+        @ApiResponses(value = {
+                @ApiResponse(responseCode = "200", description = "Ok"),
+                @ApiResponse(responseCode = "400", description = "Too many artifacts")})
+        public ResponseEntity<Object> getAccessDecisions(
+                @RequestBody final List<UUID> artifactIds) {
+            if (artifactIds.size() > maxAccessDecisions) {
+                return new ResponseEntity<>("At most " + maxAccessDecisions
+                        + " artifacts can be evaluated at once.", HttpStatus.BAD_REQUEST);
+            }
+
+            return ResponseEntity.ok(accessVerifier.verifyAll(artifactIds));
+        }
+
         /**
          * Replace the data of an artifact.
          *
@@ -20,14 +20,12 @@ import java.util.UUID;
 import io.dataspaceconnector.controller.resource.RelationControllers;
 import io.dataspaceconnector.controller.resource.ResourceControllers.AgreementController;
 import io.dataspaceconnector.model.Agreement;
-import org.modelmapper.ModelMapper;
+import io.dataspaceconnector.util.ErrorMessages;
+import io.dataspaceconnector.util.Utils;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 /**
  * Assembles the REST resource for an agreement.
  */
@@ -36,15 +34,18 @@ public class AgreementViewAssembler
         implements RepresentationModelAssembler<Agreement, AgreementView>, SelfLinking {
     @Override
     public final AgreementView toModel(final Agreement agreement) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(agreement, AgreementView.class);
+        Utils.requireNonNull(agreement, ErrorMessages.ENTITY_NULL);
+
+        final var view = new AgreementView();
+        view.setCreationDate(agreement.getCreationDate());
+        view.setModificationDate(agreement.getModificationDate());
+        view.setRemoteId(agreement.getRemoteId());
+        view.setConfirmed(agreement.isConfirmed());
+        view.setValue(agreement.getValue());
         view.add(getSelfLink(agreement.getId()));
 
-        final var artifactLink = WebMvcLinkBuilder
-                .linkTo(methodOn(RelationControllers.AgreementsToArtifacts.class)
-                .getResource(agreement.getId(), null, null))
-                .withRel("artifacts");
-        view.add(artifactLink);
+        view.add(ViewAssemblerHelper.getRelationLink(agreement.getId(),
+                RelationControllers.AgreementsToArtifacts.class, "artifacts"));
 
         return view;
     }
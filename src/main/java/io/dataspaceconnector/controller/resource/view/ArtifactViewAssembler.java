@@ -20,17 +20,13 @@ import java.util.UUID;
 import io.dataspaceconnector.controller.resource.RelationControllers;
 import io.dataspaceconnector.controller.resource.ResourceControllers.ArtifactController;
 import io.dataspaceconnector.model.Artifact;
-import io.dataspaceconnector.model.QueryInput;
+import io.dataspaceconnector.util.ErrorMessages;
+import io.dataspaceconnector.util.Utils;
 import lombok.NoArgsConstructor;
-import lombok.SneakyThrows;
-import org.modelmapper.ModelMapper;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 /**
  * Assembles the REST resource for an artifact.
  */
@@ -44,28 +40,28 @@ public class ArtifactViewAssembler
      * @param artifact The artifact.
      * @return The new view.
      */
-    @SneakyThrows
     @Override
     public ArtifactView toModel(final Artifact artifact) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(artifact, ArtifactView.class);
-        view.add(getSelfLink(artifact.getId()));
+        Utils.requireNonNull(artifact, ErrorMessages.ENTITY_NULL);
 
-        final var dataLink = linkTo(methodOn(ArtifactController.class)
-                .getData(artifact.getId(), new QueryInput()))
-                .withRel("data");
-        view.add(dataLink);
+        final var view = new ArtifactView();
+        view.setCreationDate(artifact.getCreationDate());
+        view.setModificationDate(artifact.getModificationDate());
+        view.setRemoteId(artifact.getRemoteId());
+        view.setTitle(artifact.getTitle());
+        view.setNumAccessed(artifact.getNumAccessed());
+        view.setByteSize(artifact.getByteSize());
+        view.setCheckSum(artifact.getCheckSum());
+        view.setAdditional(ViewAssemblerHelper.copyOf(artifact.getAdditional()));
 
-        final var repLink = linkTo(methodOn(RelationControllers.ArtifactsToRepresentations.class)
-                                           .getResource(artifact.getId(), null, null))
-                                    .withRel("representations");
-        view.add(repLink);
+        final var selfLink = getSelfLink(artifact.getId());
+        view.add(selfLink);
+        view.add(Link.of(selfLink.getHref() + "/data", "data"));
 
-        final var agreementLink =
-                linkTo(methodOn(RelationControllers.ArtifactsToAgreements.class)
-                        .getResource(artifact.getId(), null, null))
-                        .withRel("agreements");
-        view.add(agreementLink);
+        view.add(ViewAssemblerHelper.getRelationLink(artifact.getId(),
+                RelationControllers.ArtifactsToRepresentations.class, "representations"));
+        view.add(ViewAssemblerHelper.getRelationLink(artifact.getId(),
+                RelationControllers.ArtifactsToAgreements.class, "agreements"));
 
         return view;
     }
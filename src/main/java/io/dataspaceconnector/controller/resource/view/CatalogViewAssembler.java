@@ -20,15 +20,13 @@ import java.util.UUID;
 import io.dataspaceconnector.controller.resource.RelationControllers;
 import io.dataspaceconnector.controller.resource.ResourceControllers.CatalogController;
 import io.dataspaceconnector.model.Catalog;
+import io.dataspaceconnector.util.ErrorMessages;
+import io.dataspaceconnector.util.Utils;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 /**
  * Assembles the REST resource for a catalog.
  */
@@ -43,15 +41,18 @@ public class CatalogViewAssembler
      */
     @Override
     public CatalogView toModel(final Catalog catalog) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(catalog, CatalogView.class);
+        Utils.requireNonNull(catalog, ErrorMessages.ENTITY_NULL);
+
+        final var view = new CatalogView();
+        view.setCreationDate(catalog.getCreationDate());
+        view.setModificationDate(catalog.getModificationDate());
+        view.setTitle(catalog.getTitle());
+        view.setDescription(catalog.getDescription());
+        view.setAdditional(ViewAssemblerHelper.copyOf(catalog.getAdditional()));
         view.add(getSelfLink(catalog.getId()));
 
-        final var offeredResLink = WebMvcLinkBuilder
-                .linkTo(methodOn(RelationControllers.CatalogsToOfferedResources.class)
-                .getResource(catalog.getId(), null, null))
-                .withRel("offers");
-        view.add(offeredResLink);
+        view.add(ViewAssemblerHelper.getRelationLink(catalog.getId(),
+                RelationControllers.CatalogsToOfferedResources.class, "offers"));
 
         return view;
     }
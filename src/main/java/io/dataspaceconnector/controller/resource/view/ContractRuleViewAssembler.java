@@ -20,15 +20,13 @@ import java.util.UUID;
 import io.dataspaceconnector.controller.resource.RelationControllers;
 import io.dataspaceconnector.controller.resource.ResourceControllers.RuleController;
 import io.dataspaceconnector.model.ContractRule;
+import io.dataspaceconnector.util.ErrorMessages;
+import io.dataspaceconnector.util.Utils;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
 /**
  * Assembles the REST resource for an contract rule.
  */
@@ -43,15 +41,18 @@ public class ContractRuleViewAssembler
      */
     @Override
     public ContractRuleView toModel(final ContractRule rule) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(rule, ContractRuleView.class);
+        Utils.requireNonNull(rule, ErrorMessages.ENTITY_NULL);
+
+        final var view = new ContractRuleView();
+        view.setCreationDate(rule.getCreationDate());
+        view.setModificationDate(rule.getModificationDate());
+        view.setTitle(rule.getTitle());
+        view.setValue(rule.getValue());
+        view.setAdditional(ViewAssemblerHelper.copyOf(rule.getAdditional()));
         view.add(getSelfLink(rule.getId()));
 
-        final var contractLink = WebMvcLinkBuilder
-                .linkTo(methodOn(RelationControllers.RulesToContracts.class)
-                .getResource(rule.getId(), null, null))
-                .withRel("contracts");
-        view.add(contractLink);
+        view.add(ViewAssemblerHelper.getRelationLink(rule.getId(),
+                RelationControllers.RulesToContracts.class, "contracts"));
 
         return view;
     }
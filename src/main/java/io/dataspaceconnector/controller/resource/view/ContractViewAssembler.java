@@ -24,15 +24,12 @@ import io.dataspaceconnector.model.Contract;
 import io.dataspaceconnector.model.OfferedResource;
 import io.dataspaceconnector.model.RequestedResource;
 import io.dataspaceconnector.util.ErrorMessages;
+import io.dataspaceconnector.util.Utils;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.methodOn;
-
 /**
  * Assembles the REST resource for a contracts.
  */
@@ -48,34 +45,35 @@ public class ContractViewAssembler
      */
     @Override
     public ContractView toModel(final Contract contract) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(contract, ContractView.class);
+        Utils.requireNonNull(contract, ErrorMessages.ENTITY_NULL);
+
+        final var view = new ContractView();
+        view.setCreationDate(contract.getCreationDate());
+        view.setModificationDate(contract.getModificationDate());
+        view.setTitle(contract.getTitle());
+        view.setStart(contract.getStart());
+        view.setEnd(contract.getEnd());
+        view.setConsumer(contract.getConsumer());
+        view.setAdditional(ViewAssemblerHelper.copyOf(contract.getAdditional()));
         view.add(getSelfLink(contract.getId()));
 
-        final var rulesLink = linkTo(methodOn(RelationControllers.ContractsToRules.class)
-                                             .getResource(contract.getId(), null, null))
-                                      .withRel("rules");
-        view.add(rulesLink);
+        view.add(ViewAssemblerHelper.getRelationLink(contract.getId(),
+                RelationControllers.ContractsToRules.class, "rules"));
 
         final var resourceType = contract.getResources();
         Link resourceLinker;
         if (resourceType.isEmpty()) {
             // No elements found, default to offered resources
-            resourceLinker = linkTo(methodOn(RelationControllers.ContractsToOfferedResources.class)
-                    .getResource(contract.getId(), null, null))
-                    .withRel("offers");
+            resourceLinker = ViewAssemblerHelper.getRelationLink(contract.getId(),
+                    RelationControllers.ContractsToOfferedResources.class, "offers");
         } else {
             // Construct the link for the right resource type.
             if (resourceType.get(0) instanceof OfferedResource) {
-                resourceLinker =
-                        linkTo(methodOn(RelationControllers.ContractsToOfferedResources.class)
-                                .getResource(contract.getId(), null, null))
-                                .withRel("offers");
+                resourceLinker = ViewAssemblerHelper.getRelationLink(contract.getId(),
+                        RelationControllers.ContractsToOfferedResources.class, "offers");
             } else if (resourceType.get(0) instanceof RequestedResource) {
-                resourceLinker =
-                        linkTo(methodOn(RelationControllers.ContractsToRequestedResources.class)
-                                .getResource(contract.getId(), null, null))
-                                .withRel("requests");
+                resourceLinker = ViewAssemblerHelper.getRelationLink(contract.getId(),
+                        RelationControllers.ContractsToRequestedResources.class, "requests");
             } else {
                 throw new UnreachableLineException(ErrorMessages.UNKNOWN_TYPE);
             }
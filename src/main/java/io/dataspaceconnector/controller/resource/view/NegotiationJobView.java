@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.controller.resource.view;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.dataspaceconnector.model.NegotiationJob;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
+
+/**
+ * A DTO for controlled exposing of negotiation job information in API responses.
+ */
+@Getter
+@Setter
+@EqualsAndHashCode(callSuper = true)
+@Relation(collectionRelation = "negotiations", itemRelation = "negotiation")
+public class NegotiationJobView extends RepresentationModel<NegotiationJobView> {
+
+    /**
+     * The creation date.
+     */
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSZ")
+    private ZonedDateTime creationDate;
+
+    /**
+     * The date of the last progress.
+     */
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSZ")
+    private ZonedDateTime modificationDate;
+
+    /**
+     * The recipient of the messages.
+     */
+    private URI recipient;
+
+    /**
+     * The requested resources.
+     */
+    private List<URI> resources;
+
+    /**
+     * The requested artifacts.
+     */
+    private List<URI> artifacts;
+
+    /**
+     * Whether the data of the artifacts is downloaded.
+     */
+    private boolean download;
+
+    /**
+     * The state of the job.
+     */
+    private NegotiationJob.Status status;
+
+    /**
+     * The next step of the job.
+     */
+    private NegotiationJob.Step step;
+
+    /**
+     * The number of resources whose descriptions have been stored.
+     */
+    private int completedResources;
+
+    /**
+     * The number of artifacts whose data has been requested.
+     */
+    private int completedArtifacts;
+
+    /**
+     * The number of failed runs.
+     */
+    private int attempts;
+
+    /**
+     * The reason of the last failure.
+     */
+    private String error;
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.controller.resource.view;
+
+import java.util.UUID;
+
+import io.dataspaceconnector.controller.message.NegotiationJobController;
+import io.dataspaceconnector.controller.resource.ResourceControllers.AgreementController;
+import io.dataspaceconnector.model.NegotiationJob;
+import io.dataspaceconnector.util.ErrorMessages;
+import io.dataspaceconnector.util.Utils;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Assembles the REST resource for a negotiation job.
+ */
+@Component
+public class NegotiationJobViewAssembler
+        implements RepresentationModelAssembler<NegotiationJob, NegotiationJobView>, SelfLinking {
+    @Override
+    public final NegotiationJobView toModel(final NegotiationJob job) {
+        Utils.requireNonNull(job, ErrorMessages.ENTITY_NULL);
+
+        final var view = new NegotiationJobView();
+        view.setCreationDate(job.getCreationDate());
+        view.setModificationDate(job.getModificationDate());
+        view.setRecipient(job.getRecipient());
+        view.setResources(ViewAssemblerHelper.copyOf(job.getResources()));
+        view.setArtifacts(ViewAssemblerHelper.copyOf(job.getArtifacts()));
+        view.setDownload(job.isDownload());
+        view.setStatus(job.getStatus());
+        view.setStep(job.getStep());
+        view.setCompletedResources(job.getCompletedResources());
+        view.setCompletedArtifacts(job.getCompletedArtifacts());
+        view.setAttempts(job.getAttempts());
+        view.setError(job.getError());
+        view.add(getSelfLink(job.getId()));
+
+        if (job.getAgreementId() != null) {
+            view.add(ViewAssemblerHelper.getSelfLink(job.getAgreementId(),
+                    AgreementController.class).withRel("agreement"));
+        }
+
+        return view;
+    }
+
+    @Override
+    public final Link getSelfLink(final UUID entityId) {
+        return ViewAssemblerHelper.getSelfLink(entityId, NegotiationJobController.class);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.controller.resource.view;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Data;
+
+/**
+ * A DTO for exposing the result of an offered resource search in API responses.
+ */
+@Data
+public class OfferedResourceSearchView {
+
+    /**
+     * The number of matching offered resources.
+     */
+    private int total;
+
+    /**
+     * The page index.
+     */
+    private int page;
+
+    /**
+     * The page size.
+     */
+    private int size;
+
+    /**
+     * The matching offered resources of the page, best match first.
+     */
+    private List<OfferedResourceView> resources;
+
+    /**
+     * The most frequent values and their number of matching offered resources per facet.
+     */
+    private Map<String, Map<String, Integer>> facets;
+}
@@ -20,15 +20,13 @@ import java.util.UUID;
 import io.dataspaceconnector.controller.resource.RelationControllers;
 import io.dataspaceconnector.controller.resource.ResourceControllers.OfferedResourceController;
 import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.util.ErrorMessages;
+import io.dataspaceconnector.util.Utils;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.methodOn;
-
 /**
  * Assembles the REST resource for an offered resource.
  */
@@ -44,27 +42,29 @@ public class OfferedResourceViewAssembler
      */
     @Override
     public OfferedResourceView toModel(final OfferedResource resource) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(resource, OfferedResourceView.class);
-        view.add(getSelfLink(resource.getId()));
+        Utils.requireNonNull(resource, ErrorMessages.ENTITY_NULL);
 
-        final var contractsLink =
-                linkTo(methodOn(RelationControllers.OfferedResourcesToContracts.class)
-                                .getResource(resource.getId(), null, null))
-                        .withRel("contracts");
-        view.add(contractsLink);
-
-        final var repLink =
-                linkTo(methodOn(RelationControllers.OfferedResourcesToRepresentations.class)
-                        .getResource(resource.getId(), null, null))
-                        .withRel("representations");
-        view.add(repLink);
+        final var view = new OfferedResourceView();
+        view.setCreationDate(resource.getCreationDate());
+        view.setModificationDate(resource.getModificationDate());
+        view.setTitle(resource.getTitle());
+        view.setDescription(resource.getDescription());
+        view.setKeywords(ViewAssemblerHelper.copyOf(resource.getKeywords()));
+        view.setPublisher(resource.getPublisher());
+        view.setLanguage(resource.getLanguage());
+        view.setLicense(resource.getLicense());
+        view.setVersion(resource.getVersion());
+        view.setSovereign(resource.getSovereign());
+        view.setEndpointDocumentation(resource.getEndpointDocumentation());
+        view.setAdditional(ViewAssemblerHelper.copyOf(resource.getAdditional()));
+        view.add(getSelfLink(resource.getId()));
 
-        final var catalogLink =
-                linkTo(methodOn(RelationControllers.OfferedResourcesToCatalogs.class)
-                        .getResource(resource.getId(), null, null))
-                        .withRel("catalogs");
-        view.add(catalogLink);
+        view.add(ViewAssemblerHelper.getRelationLink(resource.getId(),
+                RelationControllers.OfferedResourcesToContracts.class, "contracts"));
+        view.add(ViewAssemblerHelper.getRelationLink(resource.getId(),
+                RelationControllers.OfferedResourcesToRepresentations.class, "representations"));
+        view.add(ViewAssemblerHelper.getRelationLink(resource.getId(),
+                RelationControllers.OfferedResourcesToCatalogs.class, "catalogs"));
 
         return view;
     }
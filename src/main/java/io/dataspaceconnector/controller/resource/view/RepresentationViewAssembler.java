@@ -24,15 +24,12 @@ import io.dataspaceconnector.model.OfferedResource;
 import io.dataspaceconnector.model.Representation;
 import io.dataspaceconnector.model.RequestedResource;
 import io.dataspaceconnector.util.ErrorMessages;
+import io.dataspaceconnector.util.Utils;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.methodOn;
-
 /**
  * Assembles the REST resource for an representation.
  */
@@ -48,37 +45,36 @@ public class RepresentationViewAssembler
      */
     @Override
     public RepresentationView toModel(final Representation representation) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(representation, RepresentationView.class);
+        Utils.requireNonNull(representation, ErrorMessages.ENTITY_NULL);
+
+        final var view = new RepresentationView();
+        view.setCreationDate(representation.getCreationDate());
+        view.setModificationDate(representation.getModificationDate());
+        view.setRemoteId(representation.getRemoteId());
+        view.setTitle(representation.getTitle());
+        view.setMediaType(representation.getMediaType());
+        view.setLanguage(representation.getLanguage());
+        view.setAdditional(ViewAssemblerHelper.copyOf(representation.getAdditional()));
         view.add(getSelfLink(representation.getId()));
 
-        final var artifactsLink =
-                linkTo(methodOn(RelationControllers.RepresentationsToArtifacts.class)
-                                .getResource(representation.getId(), null, null))
-                        .withRel("artifacts");
-        view.add(artifactsLink);
+        view.add(ViewAssemblerHelper.getRelationLink(representation.getId(),
+                RelationControllers.RepresentationsToArtifacts.class, "artifacts"));
 
         final var resourceType = representation.getResources();
         Link resourceLinker;
         if (resourceType.isEmpty()) {
             // No elements found, default to offered resources
-            resourceLinker =
-                    linkTo(methodOn(RelationControllers.RepresentationsToOfferedResources.class)
-                                   .getResource(representation.getId(), null, null))
-                            .withRel("offers");
+            resourceLinker = ViewAssemblerHelper.getRelationLink(representation.getId(),
+                    RelationControllers.RepresentationsToOfferedResources.class, "offers");
         } else {
             // Construct the link for the right resource type.
             if (resourceType.get(0) instanceof OfferedResource) {
-                resourceLinker =
-                        linkTo(methodOn(RelationControllers.RepresentationsToOfferedResources.class)
-                                       .getResource(representation.getId(), null, null))
-                                .withRel("offers");
+                resourceLinker = ViewAssemblerHelper.getRelationLink(representation.getId(),
+                        RelationControllers.RepresentationsToOfferedResources.class, "offers");
             } else if (resourceType.get(0) instanceof RequestedResource) {
-                resourceLinker =
-                        linkTo(methodOn(
-                                RelationControllers.RepresentationsToRequestedResources.class)
-                                       .getResource(representation.getId(), null, null))
-                                .withRel("requests");
+                resourceLinker = ViewAssemblerHelper.getRelationLink(representation.getId(),
+                        RelationControllers.RepresentationsToRequestedResources.class,
+                        "requests");
             } else {
                 throw new UnreachableLineException(ErrorMessages.UNKNOWN_TYPE);
             }
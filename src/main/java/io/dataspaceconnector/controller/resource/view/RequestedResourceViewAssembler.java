@@ -20,15 +20,13 @@ import java.util.UUID;
 import io.dataspaceconnector.controller.resource.RelationControllers;
 import io.dataspaceconnector.controller.resource.ResourceControllers.RequestedResourceController;
 import io.dataspaceconnector.model.RequestedResource;
+import io.dataspaceconnector.util.ErrorMessages;
+import io.dataspaceconnector.util.Utils;
 import lombok.NoArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.stereotype.Component;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.reactive.WebFluxLinkBuilder.methodOn;
-
 /**
  * Assembles the REST resource for a requested resource.
  */
@@ -45,27 +43,31 @@ public class RequestedResourceViewAssembler
      */
     @Override
     public RequestedResourceView toModel(final RequestedResource resource) {
-        final var modelMapper = new ModelMapper();
-        final var view = modelMapper.map(resource, RequestedResourceView.class);
-        view.add(getSelfLink(resource.getId()));
+        Utils.requireNonNull(resource, ErrorMessages.ENTITY_NULL);
 
-        final var contractsLink =
-                linkTo(methodOn(RelationControllers.RequestedResourcesToContracts.class)
-                                .getResource(resource.getId(), null, null))
-                        .withRel("contracts");
-        view.add(contractsLink);
-
-        final var representationLink =
-                linkTo(methodOn(RelationControllers.RequestedResourcesToRepresentations.class)
-                               .getResource(resource.getId(), null, null))
-                        .withRel("representations");
-        view.add(representationLink);
+        final var view = new RequestedResourceView();
+        view.setCreationDate(resource.getCreationDate());
+        view.setModificationDate(resource.getModificationDate());
+        view.setRemoteId(resource.getRemoteId());
+        view.setTitle(resource.getTitle());
+        view.setDescription(resource.getDescription());
+        view.setKeywords(ViewAssemblerHelper.copyOf(resource.getKeywords()));
+        view.setPublisher(resource.getPublisher());
+        view.setLanguage(resource.getLanguage());
+        view.setLicense(resource.getLicense());
+        view.setVersion(resource.getVersion());
+        view.setSovereign(resource.getSovereign());
+        view.setEndpointDocumentation(resource.getEndpointDocumentation());
+        view.setAdditional(ViewAssemblerHelper.copyOf(resource.getAdditional()));
+        view.add(getSelfLink(resource.getId()));
 
-        final var catalogLink =
-                linkTo(methodOn(RelationControllers.RequestedResourcesToCatalogs.class)
-                               .getResource(resource.getId(), null, null))
-                        .withRel("catalogs");
-        view.add(catalogLink);
+        view.add(ViewAssemblerHelper.getRelationLink(resource.getId(),
+                RelationControllers.RequestedResourcesToContracts.class, "contracts"));
+        view.add(ViewAssemblerHelper.getRelationLink(resource.getId(),
+                RelationControllers.RequestedResourcesToRepresentations.class,
+                "representations"));
+        view.add(ViewAssemblerHelper.getRelationLink(resource.getId(),
+                RelationControllers.RequestedResourcesToCatalogs.class, "catalogs"));
 
         return view;
     }
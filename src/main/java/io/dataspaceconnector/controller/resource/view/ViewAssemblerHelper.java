@@ -15,16 +15,81 @@
  */
 package io.dataspaceconnector.controller.resource.view;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.hateoas.Link;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
- * Helper for building self-links.
+ * Helper for building views and their links. The path of each controller is resolved once and
+ * the base uri once per request, so that building a link is a string concatenation.
  */
 public final class ViewAssemblerHelper {
+
+    /**
+     * The request attribute holding the base uri of the current request.
+     */
+    private static final String BASE_URI_ATTRIBUTE = ViewAssemblerHelper.class.getName()
+            + ".BASE_URI";
+
+    /**
+     * The request mapping path of each controller class.
+     */
+    private static final ClassValue<String> PATHS = new ClassValue<>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            final var mapping = AnnotatedElementUtils.findMergedAnnotation(type,
+                    RequestMapping.class);
+            if (mapping == null || mapping.path().length == 0) {
+                return "";
+            }
+
+            final var path = mapping.path()[0];
+            return path.startsWith("/") ? path : "/" + path;
+        }
+    };
+
+    /**
+     * The path variable of the owner in the request mapping of relation controllers.
+     */
+    private static final String OWNER_VARIABLE = "{id}";
+
+    /**
+     * The template of the paging parameters of relation controllers.
+     */
+    private static final String PAGING_TEMPLATE = "{?page,size}";
+
+    /**
+     * The request mapping path of each relation controller, split at the owner's path variable.
+     */
+    private static final ClassValue<String[]> RELATION_PATHS = new ClassValue<>() {
+        @Override
+        protected String[] computeValue(final Class<?> type) {
+            final var path = PATHS.get(type);
+            final var index = path.indexOf(OWNER_VARIABLE);
+            if (index < 0) {
+                return new String[]{path, ""};
+            }
+
+            return new String[]{path.substring(0, index),
+                    path.substring(index + OWNER_VARIABLE.length())};
+        }
+    };
+
+    /**
+     * The base uri used outside of requests, e.g. by background jobs. Null if not configured.
+     */
+    private static volatile String defaultBaseUri;
+
     /**
      * Default constructor.
      */
@@ -42,6 +107,94 @@ public final class ViewAssemblerHelper {
      * @throws IllegalArgumentException if the class is null.
      */
     public static <T> Link getSelfLink(final UUID entityId, final Class<T> tClass) {
-        return linkTo(tClass).slash(entityId).withSelfRel();
+        Assert.notNull(tClass, "Controller must not be null!");
+
+        final var path = getBaseUri() + PATHS.get(tClass);
+        return Link.of(entityId == null ? path : path + "/" + entityId);
+    }
+
+    /**
+     * Build the link to the paged relation of an entity, e.g. the representations of an artifact.
+     * Equals the link built by linkTo(methodOn(relation).getResource(entityId, null, null)).
+     *
+     * @param entityId The id of the owning entity.
+     * @param relation The relation controller class.
+     * @param rel      The link relation.
+     * @return The link to the relation.
+     * @throws IllegalArgumentException if the class is null.
+     */
+    public static Link getRelationLink(final UUID entityId, final Class<?> relation,
+                                       final String rel) {
+        Assert.notNull(relation, "Controller must not be null!");
+
+        final var path = RELATION_PATHS.get(relation);
+        return Link.of(getBaseUri() + path[0] + entityId + path[1] + PAGING_TEMPLATE, rel);
+    }
+
+    /**
+     * Copy the additional properties of an entity for its view.
+     *
+     * @param additional The additional properties. May be null.
+     * @return The copy or null.
+     */
+    public static Map<String, String> copyOf(final Map<String, String> additional) {
+        return additional == null ? null : new HashMap<>(additional);
+    }
+
+    /**
+     * Copy a list of values of an entity for its view.
+     *
+     * @param values The values. May be null.
+     * @param <T>    The type of the values.
+     * @return The copy or null.
+     */
+    public static <T> List<T> copyOf(final List<T> values) {
+        return values == null ? null : new ArrayList<>(values);
+    }
+
+    /**
+     * Get the base uri of self-links. Uses the current request or, outside of requests, the
+     * configured default base uri. Without both, self-links are relative, as with linkTo.
+     *
+     * @return The base uri. Empty for relative self-links.
+     */
+    public static String getBaseUri() {
+        final var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            final var baseUri = defaultBaseUri;
+            return baseUri == null ? "" : baseUri;
+        }
+
+        var baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return baseUri;
+    }
+
+    /**
+     * Check whether a base uri for self-links built outside of requests has been configured.
+     *
+     * @return True if self-links built outside of requests are absolute.
+     */
+    public static boolean hasDefaultBaseUri() {
+        return defaultBaseUri != null;
+    }
+
+    /**
+     * Set the base uri used for self-links built outside of requests.
+     *
+     * @param baseUri The base uri, e.g. https://connector.example.com. Null to disable.
+     */
+    public static void setDefaultBaseUri(final String baseUri) {
+        if (baseUri == null || baseUri.isBlank()) {
+            defaultBaseUri = null;
+        } else {
+            defaultBaseUri = baseUri.endsWith("/")
+                    ? baseUri.substring(0, baseUri.length() - 1) : baseUri;
+        }
     }
 }
@@ -74,8 +74,10 @@ public abstract class Artifact extends AbstractEntity {
     private String title;
 
     /**
-     * The counter of how often the underlying data has been accessed.
+     * The counter of how often the underlying data has been accessed. Only written by the
+     * conditional updates of the usage quota service.
      */
+    @Column(updatable = false)
     private long numAccessed;
 
     /**
@@ -104,11 +106,4 @@ public abstract class Artifact extends AbstractEntity {
      */
     @ManyToMany(mappedBy = "artifacts")
     private List<Agreement> agreements;
-
-    /**
-     * Increment the data access counter.
-     */
-    public void incrementAccessCounter() {
-        numAccessed += 1;
-    }
 }
@@ -33,6 +33,7 @@ import lombok.Setter;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
+import static io.dataspaceconnector.model.config.DatabaseConstants.RULE_FINGERPRINT_LENGTH;
 import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LENGTH;
 
 /**
@@ -97,6 +98,13 @@ public class Contract extends AbstractEntity {
     @ManyToMany
     private List<ContractRule> rules;
 
+    /**
+     * Order-independent fingerprint of the rules used by this contract. Null if unknown.
+     */
+    @EqualsAndHashCode.Exclude
+    @Column(name = "rule_fingerprint", length = RULE_FINGERPRINT_LENGTH)
+    private String ruleFingerprint;
+
     /**
      * The representations in which this contract is used.
      */
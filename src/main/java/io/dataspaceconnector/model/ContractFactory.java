@@ -21,6 +21,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import io.dataspaceconnector.util.ErrorMessages;
 import io.dataspaceconnector.util.MetadataUtils;
@@ -96,6 +97,25 @@ public class ContractFactory implements AbstractFactory<Contract, ContractDesc>
                || hasUpdatedTime || hasUpdatedAdditional;
     }
 
+    /**
+     * Update the rule fingerprint of a contract. The fingerprint is derived from the contract's
+     * rules and is therefore not part of the description.
+     * @param contract    The contract to be updated.
+     * @param fingerprint The new fingerprint. May be null if it could not be computed.
+     * @return True if the contract has been modified.
+     * @throws IllegalArgumentException if the contract is null.
+     */
+    public boolean updateRuleFingerprint(final Contract contract, final String fingerprint) {
+        Utils.requireNonNull(contract, ErrorMessages.ENTITY_NULL);
+
+        if (Objects.equals(contract.getRuleFingerprint(), fingerprint)) {
+            return false;
+        }
+
+        contract.setRuleFingerprint(fingerprint);
+        return true;
+    }
+
     private boolean updateRemoteId(final Contract contract, final URI remoteId) {
         final var newUri =
                 MetadataUtils.updateUri(contract.getRemoteId(), remoteId, DEFAULT_REMOTE_ID);
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.model;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.OrderColumn;
+import javax.persistence.Table;
+
+import io.dataspaceconnector.model.util.UriConverter;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LENGTH;
+
+/**
+ * A contract negotiation running in the background. Stores the input of the negotiation and
+ * its progress, so that it can be resumed after a failure or restart.
+ *
+ * <p>Jobs are internal state of the negotiation, not resources managed through the REST API.
+ * They are therefore no {@link AbstractEntity} without additional properties, soft deletion,
+ * or bootstrapping, and are neither created from a description by a factory nor handled by a
+ * {@code BaseEntityService}.</p>
+ */
+@Entity
+@Table(name = "negotiation_job")
+@Getter
+@Setter
+@RequiredArgsConstructor
+public class NegotiationJob {
+
+    /**
+     * The state of a job.
+     */
+    public enum Status {
+        /**
+         * The job waits for a worker.
+         */
+        PENDING,
+
+        /**
+         * The job is being processed.
+         */
+        RUNNING,
+
+        /**
+         * All steps have been completed.
+         */
+        COMPLETED,
+
+        /**
+         * The job has been stopped. It can be retried.
+         */
+        FAILED
+    }
+
+    /**
+     * The steps of a negotiation in the order of execution.
+     */
+    public enum Step {
+        /**
+         * Send the contract request and read the agreement.
+         */
+        CONTRACT_REQUEST,
+
+        /**
+         * Send the contract agreement and store it.
+         */
+        CONTRACT_AGREEMENT,
+
+        /**
+         * Request and store the resource descriptions.
+         */
+        DESCRIPTION_REQUESTS,
+
+        /**
+         * Link the artifacts to the agreement.
+         */
+        ARTIFACT_LINKS,
+
+        /**
+         * Request and store the data of the artifacts.
+         */
+        ARTIFACT_REQUESTS,
+
+        /**
+         * Nothing left to do.
+         */
+        DONE
+    }
+
+    /**
+     * The primary key of the job.
+     */
+    @Id
+    @GeneratedValue
+    @Setter(AccessLevel.NONE)
+    @Column(name = "id", unique = true, nullable = false)
+    @SuppressWarnings("PMD.ShortVariable")
+    private UUID id;
+
+    /**
+     * The date when the job has been created.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "created_date", nullable = false, updatable = false)
+    @CreationTimestamp
+    private ZonedDateTime creationDate;
+
+    /**
+     * The date of the last progress.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "modified_date", nullable = false)
+    @UpdateTimestamp
+    private ZonedDateTime modificationDate;
+
+    /**
+     * The recipient of the messages.
+     */
+    @Convert(converter = UriConverter.class)
+    @Column(length = URI_COLUMN_LENGTH)
+    private URI recipient;
+
+    /**
+     * The requested resources.
+     */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @OrderColumn
+    @Convert(converter = UriConverter.class)
+    @Column(length = URI_COLUMN_LENGTH)
+    private List<URI> resources;
+
+    /**
+     * The requested artifacts.
+     */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @OrderColumn
+    @Convert(converter = UriConverter.class)
+    @Column(length = URI_COLUMN_LENGTH)
+    private List<URI> artifacts;
+
+    /**
+     * Whether the data of the artifacts is downloaded.
+     */
+    private boolean download;
+
+    /**
+     * The rules of the contract request as rdf strings.
+     */
+    @Lob
+    @ElementCollection(fetch = FetchType.EAGER)
+    @OrderColumn
+    private List<String> rules;
+
+    /**
+     * The state of the job.
+     */
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    /**
+     * The next step to run.
+     */
+    @Enumerated(EnumType.STRING)
+    private Step step;
+
+    /**
+     * The ids contract agreement as rdf string. Null until the contract request succeeded.
+     */
+    @Lob
+    private String agreement;
+
+    /**
+     * The id of the stored agreement. Null until the agreement has been stored.
+     */
+    private UUID agreementId;
+
+    /**
+     * The number of resources whose descriptions have been stored.
+     */
+    private int completedResources;
+
+    /**
+     * The number of artifacts whose data has been requested.
+     */
+    private int completedArtifacts;
+
+    /**
+     * The number of failed runs since the job has been started or retried.
+     */
+    private int attempts;
+
+    /**
+     * The earliest time at which a pending job is run.
+     */
+    private ZonedDateTime nextAttempt;
+
+    /**
+     * The reason of the last failure. Null if the last run did not fail.
+     */
+    @Lob
+    private String error;
+}
@@ -25,6 +25,11 @@ public final class DatabaseConstants {
      */
     public static final int URI_COLUMN_LENGTH = 2048;
 
+    /**
+     * The length of database columns containing hex encoded SHA-256 rule fingerprints.
+     */
+    public static final int RULE_FINGERPRINT_LENGTH = 64;
+
     /**
      * Private constructor.
      */
@@ -34,6 +34,21 @@ public class DescriptionRequestMessageDesc extends MessageDesc {
      */
     private URI requestedElement;
 
+    /**
+     * The depth up to which the requested description is built. Null for all.
+     */
+    private Integer depth;
+
+    /**
+     * The page of the requested description's children. Null for all.
+     */
+    private Integer page;
+
+    /**
+     * The page size of the requested description's children. Null for the default.
+     */
+    private Integer size;
+
     /**
      * All args constructor.
      *
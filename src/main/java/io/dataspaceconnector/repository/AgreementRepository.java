@@ -27,7 +27,7 @@ import org.springframework.stereotype.Repository;
  * The repository containing all objects of type {@link Agreement}.
  */
 @Repository
-public interface AgreementRepository extends BaseEntityRepository<Agreement> {
+public interface AgreementRepository extends RemoteEntityRepository<Agreement> {
 
     /**
      * Set the status of an agreement to confirmed.
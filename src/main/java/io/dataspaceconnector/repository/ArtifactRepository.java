@@ -15,12 +15,14 @@
  */
 package io.dataspaceconnector.repository;
 
+import io.dataspaceconnector.model.Agreement;
 import io.dataspaceconnector.model.Artifact;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -62,9 +64,9 @@ public interface ArtifactRepository extends RemoteEntityRepository<Artifact> {
     /**
      * Search for all agreements signed for requested resources by this connector as consumer.
      * @param artifactId The artifact.
-     * @return The list of agreement ids.
+     * @return The list of agreements.
      */
-    @Query("SELECT ag.remoteId "
+    @Query("SELECT ag "
             + "FROM Artifact a, Agreement ag "
             + "WHERE a.id = :artifactId "
             + "AND a.deleted = false "
@@ -73,7 +75,19 @@ public interface ArtifactRepository extends RemoteEntityRepository<Artifact> {
             + "AND ag.archived = false "
             + "AND ag.confirmed = true "
             + "AND ag MEMBER OF a.agreements")
-    List<URI> findRemoteOriginAgreements(UUID artifactId);
+    List<Agreement> findRemoteOriginAgreements(UUID artifactId);
+
+    /**
+     * Finds all artifacts with the given ids and fetches their agreements in the same query.
+     *
+     * @param artifactIds The ids of the artifacts.
+     * @return List of the artifacts that exist.
+     */
+    @Query("SELECT DISTINCT a "
+            + "FROM Artifact a LEFT JOIN FETCH a.agreements "
+            + "WHERE a.id IN :artifactIds "
+            + "AND a.deleted = false")
+    List<Artifact> findAllWithAgreementsByIdIn(Collection<UUID> artifactIds);
 
     /**
      * Set the artifacts data.
@@ -88,6 +102,54 @@ public interface ArtifactRepository extends RemoteEntityRepository<Artifact> {
             + "AND a.deleted = false")
     void setArtifactData(UUID artifactId, long checkSum, long size);
 
+    /**
+     * Get the access counter of an artifact.
+     * @param artifactId The artifact.
+     * @return The access counter or null if the artifact does not exist.
+     */
+    @Query("SELECT a.numAccessed "
+            + "FROM Artifact a "
+            + "WHERE a.id = :artifactId "
+            + "AND a.deleted = false")
+    Long findNumAccessedById(UUID artifactId);
+
+    /**
+     * Increment the artifacts access counter if it is below a maximum.
+     * @param artifactId The artifact.
+     * @param max The maximum number of accesses.
+     * @return The number of updated artifacts, 0 if the maximum has been reached.
+     */
+    @Modifying
+    @Query("UPDATE Artifact a "
+            + "SET a.numAccessed = a.numAccessed + 1 "
+            + "WHERE a.id = :artifactId "
+            + "AND a.numAccessed < :max "
+            + "AND a.deleted = false")
+    int incrementNumAccessed(UUID artifactId, long max);
+
+    /**
+     * Increment the artifacts access counter.
+     * @param artifactId The artifact.
+     */
+    @Modifying
+    @Query("UPDATE Artifact a "
+            + "SET a.numAccessed = a.numAccessed + 1 "
+            + "WHERE a.id = :artifactId "
+            + "AND a.deleted = false")
+    void incrementNumAccessed(UUID artifactId);
+
+    /**
+     * Decrement the artifacts access counter. The counter never drops below 0.
+     * @param artifactId The artifact.
+     */
+    @Modifying
+    @Query("UPDATE Artifact a "
+            + "SET a.numAccessed = a.numAccessed - 1 "
+            + "WHERE a.id = :artifactId "
+            + "AND a.numAccessed > 0 "
+            + "AND a.deleted = false")
+    void decrementNumAccessed(UUID artifactId);
+
     /**
      * Finds all artifacts with a specific bootstrap ID.
      *
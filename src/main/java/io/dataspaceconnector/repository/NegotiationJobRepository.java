@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import io.dataspaceconnector.model.NegotiationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * The repository containing all objects of type {@link NegotiationJob}.
+ */
+@Repository
+public interface NegotiationJobRepository extends JpaRepository<NegotiationJob, UUID> {
+    /**
+     * Find the jobs in one of the states that are due.
+     *
+     * @param status The states.
+     * @param time   The current time.
+     * @return The jobs whose next attempt is before the time.
+     */
+    List<NegotiationJob> findAllByStatusInAndNextAttemptBefore(
+            Collection<NegotiationJob.Status> status, ZonedDateTime time);
+
+    /**
+     * Mark a job as running if it is due. Only one worker can claim a job until its lease
+     * expires.
+     *
+     * @param jobId   The id of the job.
+     * @param status  The states of jobs that may be claimed.
+     * @param running The state of claimed jobs.
+     * @param time    The current time.
+     * @param lease   The time until the job may be claimed again.
+     * @return The number of claimed jobs, 0 if the job is not due or claimed by another worker.
+     */
+    @Modifying
+    @Query("UPDATE NegotiationJob j "
+            + "SET j.status = :running, j.nextAttempt = :lease, j.error = null "
+            + "WHERE j.id = :jobId "
+            + "AND j.status IN :status "
+            + "AND j.nextAttempt <= :time")
+    int claim(UUID jobId, Collection<NegotiationJob.Status> status, NegotiationJob.Status running,
+              ZonedDateTime time, ZonedDateTime lease);
+}
@@ -21,6 +21,7 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import de.fraunhofer.iais.eis.ContractAgreement;
 import io.dataspaceconnector.exception.InvalidResourceException;
@@ -37,8 +38,10 @@ import io.dataspaceconnector.model.OfferedResourceDesc;
 import io.dataspaceconnector.model.QueryInput;
 import io.dataspaceconnector.model.Representation;
 import io.dataspaceconnector.service.ids.DeserializationService;
+import io.dataspaceconnector.service.ids.EntityRdfCache;
+import io.dataspaceconnector.service.ids.IdsCatalogWriter;
+import io.dataspaceconnector.service.ids.builder.AbstractIdsBuilder;
 import io.dataspaceconnector.service.ids.builder.IdsArtifactBuilder;
-import io.dataspaceconnector.service.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.service.ids.builder.IdsContractBuilder;
 import io.dataspaceconnector.service.ids.builder.IdsRepresentationBuilder;
 import io.dataspaceconnector.service.ids.builder.IdsResourceBuilder;
@@ -56,6 +59,7 @@ import io.dataspaceconnector.util.Utils;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 /**
@@ -66,6 +70,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class EntityResolver {
 
+    /**
+     * A version the description cache never has. Descriptions rendered for it are not cached.
+     */
+    private static final long UNKNOWN_VERSION = -1;
+
     /**
      * Service for artifacts.
      */
@@ -109,10 +118,10 @@ public class EntityResolver {
     AgreementService agreementService;
 
     /**
-     * Service for building ids objects.
+     * Service for writing ids catalogs.
      */
     private final @NonNull
-    IdsCatalogBuilder catalogBuilder;
+    IdsCatalogWriter catalogWriter;
 
     /**
      * Service for building ids resource.
@@ -156,6 +165,12 @@ public class EntityResolver {
     private final @NonNull
     DeserializationService deserializationService;
 
+    /**
+     * Cache for rendered ids descriptions.
+     */
+    private final @NonNull
+    EntityRdfCache rdfCache;
+
     /**
      * Return any connector entity by its id.
      *
@@ -203,7 +218,18 @@ public class EntityResolver {
     }
 
     /**
-     * Translate a connector entity to an ids rdf string.
+     * Get the version of the description cache. Must be read before loading an entity whose
+     * description is to be cached.
+     *
+     * @return The version.
+     */
+    public long getRdfCacheVersion() {
+        return rdfCache.getVersion();
+    }
+
+    /**
+     * Translate a connector entity to an ids rdf string. The description is not cached, as
+     * changes committed while the entity was loaded could not be detected.
      *
      * @param <T>    Type of the entity.
      * @param entity The connector's entity.
@@ -211,23 +237,48 @@ public class EntityResolver {
      */
     public <T extends AbstractEntity> String getEntityAsRdfString(final T entity)
             throws InvalidResourceException {
+        return getEntityAsRdfString(entity, AbstractIdsBuilder.DEFAULT_DEPTH, Pageable.unpaged(),
+                UNKNOWN_VERSION);
+    }
+
+    /**
+     * Translate a connector entity to an ids rdf string. Only complete descriptions of entities
+     * other than catalogs are cached, and only if nothing has changed since the entity was
+     * loaded.
+     *
+     * @param <T>      Type of the entity.
+     * @param entity   The connector's entity.
+     * @param maxDepth The depth up to which dependencies are followed. Negative for all.
+     * @param pageable The page of a catalog's offered resources. Ignored for other entities.
+     * @param version  The version of the description cache read before the entity was loaded.
+     * @return A rdf string of an ids object.
+     */
+    public <T extends AbstractEntity> String getEntityAsRdfString(final T entity,
+                                                                  final int maxDepth,
+                                                                  final Pageable pageable,
+                                                                  final long version)
+            throws InvalidResourceException {
+        final var complete = maxDepth < 0 && pageable.isUnpaged();
+
         // NOTE Maybe the builder class could be found without the ugly if array?
         try {
             if (entity instanceof Artifact) {
-                final var artifact = artifactBuilder.create((Artifact) entity);
-                return Objects.requireNonNull(artifact).toRdf();
+                return render(entity, complete, version, () -> Objects.requireNonNull(
+                        artifactBuilder.create((Artifact) entity, maxDepth)).toRdf());
             } else if (entity instanceof OfferedResource) {
-                final var resource = offerBuilder.create((OfferedResource) entity);
-                return Objects.requireNonNull(resource).toRdf();
+                return render(entity, complete, version, () -> Objects.requireNonNull(
+                        offerBuilder.create((OfferedResource) entity, maxDepth)).toRdf());
             } else if (entity instanceof Representation) {
-                final var representation = representationBuilder.create((Representation) entity);
-                return Objects.requireNonNull(representation).toRdf();
+                return render(entity, complete, version, () -> Objects.requireNonNull(
+                        representationBuilder.create((Representation) entity, maxDepth))
+                        .toRdf());
             } else if (entity instanceof Catalog) {
-                final var catalog = catalogBuilder.create((Catalog) entity);
-                return Objects.requireNonNull(catalog).toRdf();
+                // Written page by page to avoid building the whole catalog at once. Not cached,
+                // as the description grows with the number of offered resources.
+                return catalogWriter.getAsRdf((Catalog) entity, maxDepth, pageable);
             } else if (entity instanceof Contract) {
-                final var catalog = contractBuilder.create((Contract) entity);
-                return Objects.requireNonNull(catalog).toRdf();
+                return render(entity, complete, version, () -> Objects.requireNonNull(
+                        contractBuilder.create((Contract) entity, maxDepth)).toRdf());
             } else if (entity instanceof Agreement) {
                 final var agreement = (Agreement) entity;
                 return agreement.getValue();
@@ -257,6 +308,11 @@ public class EntityResolver {
         throw new InvalidResourceException("No provided description for requested element.");
     }
 
+    private String render(final AbstractEntity entity, final boolean cacheable,
+                          final long version, final Supplier<String> renderer) {
+        return cacheable ? rdfCache.get(entity, version, renderer) : renderer.get();
+    }
+
     /**
      * Return artifact by uri. This will skip the access control.
      *
@@ -292,11 +348,21 @@ public class EntityResolver {
         final var uuid = EndpointUtils.getUUIDFromPath(target);
         final var artifact = artifactService.get(uuid);
 
+        return getContractAgreements(artifact);
+    }
+
+    /**
+     * Get stored contract agreements of an already loaded artifact.
+     *
+     * @param artifact The artifact.
+     * @return The respective contract agreements.
+     */
+    public List<ContractAgreement> getContractAgreements(final Artifact artifact) {
         final var agreements = artifact.getAgreements();
         final var agreementList = new ArrayList<ContractAgreement>();
         for (final var agreement : agreements) {
             final var value = agreement.getValue();
-            final var idsAgreement = deserializationService.getContractAgreement(value);
+            final var idsAgreement = deserializationService.getStoredContractAgreement(value);
             agreementList.add(idsAgreement);
         }
         return agreementList;
@@ -0,0 +1,547 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.PersistenceException;
+
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.exception.MessageException;
+import io.dataspaceconnector.exception.MessageResponseException;
+import io.dataspaceconnector.exception.ResourceNotFoundException;
+import io.dataspaceconnector.model.NegotiationJob;
+import io.dataspaceconnector.model.NegotiationJob.Status;
+import io.dataspaceconnector.model.NegotiationJob.Step;
+import io.dataspaceconnector.repository.NegotiationJobRepository;
+import io.dataspaceconnector.service.ids.DeserializationService;
+import io.dataspaceconnector.service.message.MessageFanOut;
+import io.dataspaceconnector.service.message.type.ArtifactRequestService;
+import io.dataspaceconnector.service.message.type.ContractAgreementService;
+import io.dataspaceconnector.service.message.type.ContractRequestService;
+import io.dataspaceconnector.service.message.type.DescriptionRequestService;
+import io.dataspaceconnector.service.resource.AgreementService;
+import io.dataspaceconnector.service.usagecontrol.ContractManager;
+import io.dataspaceconnector.util.MessageUtils;
+import io.dataspaceconnector.util.RuleUtils;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs contract negotiations in the background. The progress of a negotiation is stored in the
+ * same transaction as the results of every step, so that failed or interrupted negotiations
+ * resume with the first step that has not been completed. A message sent right before an
+ * interruption is sent again when the job resumes.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class NegotiationJobService implements DisposableBean {
+
+    /**
+     * The states of jobs that are picked up by the workers. Running jobs are only picked up
+     * once their lease has expired, i.e. the worker processing them has been interrupted.
+     */
+    private static final Set<Status> RESUMABLE = EnumSet.of(Status.PENDING, Status.RUNNING);
+
+    /**
+     * The repository of the jobs.
+     */
+    private final @NonNull NegotiationJobRepository repository;
+
+    /**
+     * Service for contract request message handling.
+     */
+    private final @NonNull ContractRequestService contractReqSvc;
+
+    /**
+     * Service for contract agreement message handling.
+     */
+    private final @NonNull ContractAgreementService agreementSvc;
+
+    /**
+     * Service for description request message handling.
+     */
+    private final @NonNull DescriptionRequestService descReqSvc;
+
+    /**
+     * Service for artifact request message handling.
+     */
+    private final @NonNull ArtifactRequestService artifactReqSvc;
+
+    /**
+     * Sends the description and artifact requests in parallel.
+     */
+    private final @NonNull MessageFanOut fanOut;
+
+    /**
+     * Service for contract processing.
+     */
+    private final @NonNull ContractManager contractManager;
+
+    /**
+     * Service for deserializing the stored rules and agreements.
+     */
+    private final @NonNull DeserializationService deserializationService;
+
+    /**
+     * Service for persisting entities.
+     */
+    private final @NonNull EntityPersistenceService persistenceSvc;
+
+    /**
+     * Service for updating database entities.
+     */
+    private final @NonNull EntityUpdateService updateService;
+
+    /**
+     * Service for looking up stored agreements.
+     */
+    private final @NonNull AgreementService agreementService;
+
+    /**
+     * Stores the results of a step together with the progress of the job.
+     */
+    private final @NonNull PlatformTransactionManager transactionManager;
+
+    /**
+     * The jobs that are queued or processed by this instance.
+     */
+    private final Set<UUID> active = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Numbers the worker threads.
+     */
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * The number of workers.
+     */
+    @Value("${ids.negotiation.workers:2}")
+    private int workers;
+
+    /**
+     * The number of runs of a job failing to send a message before it is stopped.
+     */
+    @Value("${ids.negotiation.max-attempts:3}")
+    private int maxAttempts;
+
+    /**
+     * The time to wait before running a job again after it failed to send a message, in
+     * milliseconds.
+     */
+    @Value("${ids.negotiation.retry-delay:30000}")
+    private long retryDelay;
+
+    /**
+     * The time a running job is not picked up by other workers, in milliseconds. The lease is
+     * renewed whenever the job stores its progress.
+     */
+    @Value("${ids.negotiation.lease:600000}")
+    private long lease;
+
+    /**
+     * Runs the jobs. Created on first use.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Create a job for a negotiation and queue it.
+     *
+     * @param recipient The recipient.
+     * @param resources The requested resources.
+     * @param artifacts The requested artifacts.
+     * @param download  Whether the data of the artifacts is downloaded.
+     * @param ruleList  The rules of the contract request.
+     * @return The created job.
+     * @throws io.dataspaceconnector.exception.InvalidInputException If a rule has no target.
+     * @throws PersistenceException                                  If the job could not be
+     *                                                               stored.
+     */
+    public NegotiationJob create(final URI recipient, final List<URI> resources,
+                                 final List<URI> artifacts, final boolean download,
+                                 final List<Rule> ruleList) throws PersistenceException {
+        RuleUtils.validateRuleTarget(ruleList);
+
+        final var rules = new ArrayList<String>(ruleList.size());
+        for (final var rule : ruleList) {
+            rules.add(rule.toRdf());
+        }
+
+        final var job = new NegotiationJob();
+        job.setRecipient(recipient);
+        job.setResources(new ArrayList<>(resources));
+        job.setArtifacts(new ArrayList<>(artifacts));
+        job.setDownload(download);
+        job.setRules(rules);
+        job.setStatus(Status.PENDING);
+        job.setStep(Step.CONTRACT_REQUEST);
+        job.setNextAttempt(ZonedDateTime.now());
+
+        final var created = repository.save(job);
+        submit(created.getId());
+        return created;
+    }
+
+    /**
+     * Get a job.
+     *
+     * @param jobId The id of the job.
+     * @return The job.
+     * @throws ResourceNotFoundException If the job does not exist.
+     */
+    public NegotiationJob get(final UUID jobId) throws ResourceNotFoundException {
+        return repository.findById(jobId).orElseThrow(() ->
+                new ResourceNotFoundException(getClass().getSimpleName() + ": " + jobId));
+    }
+
+    /**
+     * Run a failed job again. The job resumes with the step it failed in.
+     *
+     * @param jobId The id of the job.
+     * @return The job.
+     * @throws ResourceNotFoundException If the job does not exist.
+     */
+    public NegotiationJob retry(final UUID jobId) throws ResourceNotFoundException {
+        final var job = get(jobId);
+        if (job.getStatus() != Status.FAILED) {
+            return job;
+        }
+
+        job.setStatus(Status.PENDING);
+        job.setAttempts(0);
+        job.setNextAttempt(ZonedDateTime.now());
+
+        final var updated = repository.save(job);
+        submit(updated.getId());
+        return updated;
+    }
+
+    /**
+     * Periodically queues the jobs that are due, e.g. after a failure or a restart.
+     */
+    @Scheduled(fixedDelayString = "${ids.negotiation.retry-interval:10000}")
+    public void resumeJobs() {
+        try {
+            for (final var job : repository.findAllByStatusInAndNextAttemptBefore(RESUMABLE,
+                    ZonedDateTime.now())) {
+                submit(job.getId());
+            }
+        } catch (PersistenceException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to load negotiation jobs. [exception=({})]", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Run all remaining steps of a job.
+     *
+     * @param jobId The id of the job.
+     */
+    void run(final UUID jobId) {
+        if (!claim(jobId)) {
+            return;
+        }
+
+        final var job = repository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        try {
+            while (job.getStep() != Step.DONE) {
+                if (!runStep(job)) {
+                    // The recipient refused the negotiation. Running the job again will not help.
+                    job.setStatus(Status.FAILED);
+                    repository.save(job);
+                    return;
+                }
+            }
+
+            job.setStatus(Status.COMPLETED);
+            repository.save(job);
+        } catch (MessageException | PersistenceException e) {
+            // The recipient or the database was not available. Try again later.
+            stop(jobId, e.getMessage(), true);
+        } catch (RuntimeException e) {
+            stop(jobId, e.getMessage(), false);
+        }
+    }
+
+    /**
+     * Run the next step of a job and store the progress.
+     *
+     * @param job The job.
+     * @return False if the recipient rejected a request.
+     */
+    private boolean runStep(final NegotiationJob job) {
+        switch (job.getStep()) {
+            case CONTRACT_REQUEST:
+                return requestContract(job);
+            case CONTRACT_AGREEMENT:
+                return confirmAgreement(job);
+            case DESCRIPTION_REQUESTS:
+                return requestDescriptions(job);
+            case ARTIFACT_LINKS:
+                inTransaction(() -> {
+                    updateService.linkArtifactToAgreement(job.getArtifacts(),
+                            job.getAgreementId());
+                    advance(job, job.isDownload() ? Step.ARTIFACT_REQUESTS : Step.DONE);
+                });
+                return true;
+            case ARTIFACT_REQUESTS:
+                requestArtifacts(job);
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    private boolean requestContract(final NegotiationJob job) {
+        final var ruleList = new ArrayList<Rule>(job.getRules().size());
+        for (final var rule : job.getRules()) {
+            ruleList.add(deserializationService.getRule(rule));
+        }
+        final var request = contractManager.buildContractRequest(ruleList);
+
+        // Send and validate contract request/response message.
+        final var response = contractReqSvc.sendMessage(job.getRecipient(), request);
+        if (!contractReqSvc.validateResponse(response)) {
+            return reject(job, contractReqSvc.getResponseContent(response));
+        }
+
+        // Read and process the response message.
+        final var payload = MessageUtils.extractPayloadFromMultipartMessage(response);
+        final var agreement = contractManager.validateContractAgreement(payload, request);
+
+        job.setAgreement(agreement.toRdf());
+        advance(job, Step.CONTRACT_AGREEMENT);
+        return true;
+    }
+
+    private boolean confirmAgreement(final NegotiationJob job) {
+        final var agreement = deserializationService.getContractAgreement(job.getAgreement());
+
+        // A stored agreement has been confirmed before the job was interrupted.
+        final var stored = agreementService.identifyByRemoteId(agreement.getId());
+        if (stored.isPresent()) {
+            job.setAgreementId(stored.get());
+            advance(job, Step.DESCRIPTION_REQUESTS);
+            return true;
+        }
+
+        // Send and validate contract agreement/response message.
+        final var response = agreementSvc.sendMessage(job.getRecipient(), agreement);
+        if (!agreementSvc.validateResponse(response)) {
+            return reject(job, agreementSvc.getResponseContent(response));
+        }
+
+        inTransaction(() -> {
+            job.setAgreementId(persistenceSvc.saveContractAgreement(agreement));
+            advance(job, Step.DESCRIPTION_REQUESTS);
+        });
+        if (log.isDebugEnabled()) {
+            log.debug("Policy negotiation success. Saved agreement. [jobId=({}), "
+                    + "agreementId=({})]", job.getId(), job.getAgreementId());
+        }
+
+        return true;
+    }
+
+    private boolean requestDescriptions(final NegotiationJob job) {
+        final var resources = job.getResources();
+        final var remaining = resources.subList(job.getCompletedResources(), resources.size());
+        try (var responses = fanOut.send(job.getRecipient(), remaining,
+                resource -> descReqSvc.sendMessage(job.getRecipient(), resource))) {
+            while (responses.hasNext()) {
+                final var response = responses.next();
+                if (!descReqSvc.validateResponse(response)) {
+                    return reject(job, descReqSvc.getResponseContent(response));
+                }
+
+                // Stored resources are updated by their remote id when the job resumes.
+                inTransaction(() -> {
+                    persistenceSvc.saveMetadata(response, job.getArtifacts(), job.isDownload(),
+                            job.getRecipient());
+                    job.setCompletedResources(job.getCompletedResources() + 1);
+                    progress(job);
+                });
+            }
+        }
+
+        advance(job, Step.ARTIFACT_LINKS);
+        return true;
+    }
+
+    private void requestArtifacts(final NegotiationJob job) {
+        final var transferContract = deserializationService
+                .getContractAgreement(job.getAgreement()).getId();
+        final var artifacts = job.getArtifacts();
+        final var remaining = artifacts.subList(job.getCompletedArtifacts(), artifacts.size());
+        try (var responses = fanOut.send(job.getRecipient(), remaining, artifact -> artifactReqSvc
+                .sendMessage(job.getRecipient(), artifact, transferContract))) {
+            for (final var artifact : remaining) {
+                final var response = responses.next();
+                if (!artifactReqSvc.validateResponse(response)) {
+                    // The data can be requested again later.
+                    if (log.isDebugEnabled()) {
+                        log.debug("Data could not be loaded. [content=({})]",
+                                artifactReqSvc.getResponseContent(response));
+                    }
+                }
+
+                try {
+                    persistenceSvc.saveData(response, artifact);
+                } catch (IOException | ResourceNotFoundException | MessageResponseException e) {
+                    // Ignore that the data saving failed. Another try can take place later.
+                    if (log.isWarnEnabled()) {
+                        log.warn("Could not save data for artifact. "
+                                + "[artifact=({}), exception=({})]", artifact, e.getMessage());
+                    }
+                }
+
+                job.setCompletedArtifacts(job.getCompletedArtifacts() + 1);
+                progress(job);
+            }
+        }
+
+        advance(job, Step.DONE);
+    }
+
+    private boolean claim(final UUID jobId) {
+        final var now = ZonedDateTime.now();
+        final var claimed = new TransactionTemplate(transactionManager).execute(status ->
+                repository.claim(jobId, RESUMABLE, Status.RUNNING, now,
+                        now.plus(Duration.ofMillis(lease))));
+        return claimed != null && claimed > 0;
+    }
+
+    private void advance(final NegotiationJob job, final Step step) {
+        job.setStep(step);
+        progress(job);
+    }
+
+    private void progress(final NegotiationJob job) {
+        job.setNextAttempt(ZonedDateTime.now().plus(Duration.ofMillis(lease)));
+        repository.save(job);
+    }
+
+    private void inTransaction(final Runnable runnable) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> runnable.run());
+    }
+
+    private boolean reject(final NegotiationJob job, final Object content) {
+        job.setError(String.valueOf(content));
+        if (log.isWarnEnabled()) {
+            log.warn("Negotiation rejected. [jobId=({}), step=({}), response=({})]",
+                    job.getId(), job.getStep(), content);
+        }
+        return false;
+    }
+
+    /**
+     * Store the failure of a job. The job is loaded again, so that the progress of a step that
+     * has been rolled back is not stored.
+     *
+     * @param jobId The id of the job.
+     * @param error The reason of the failure.
+     * @param retry Whether the job is run again if it has attempts left.
+     */
+    private void stop(final UUID jobId, final String error, final boolean retry) {
+        try {
+            final var job = repository.findById(jobId).orElse(null);
+            if (job == null) {
+                return;
+            }
+
+            job.setError(error);
+            if (retry) {
+                job.setAttempts(job.getAttempts() + 1);
+            }
+            if (retry && job.getAttempts() < maxAttempts) {
+                job.setStatus(Status.PENDING);
+                job.setNextAttempt(ZonedDateTime.now().plus(Duration.ofMillis(retryDelay)));
+            } else {
+                job.setStatus(Status.FAILED);
+            }
+            repository.save(job);
+        } catch (PersistenceException e) {
+            // The job is resumed once the database is available again and its lease expired.
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to store negotiation job. [jobId=({}), exception=({})]",
+                        jobId, e.getMessage());
+            }
+        }
+    }
+
+    private void submit(final UUID jobId) {
+        if (!active.add(jobId)) {
+            return;
+        }
+
+        try {
+            getExecutor().execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    active.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down. The job is resumed after the restart.
+            active.remove(jobId);
+        }
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(Math.max(workers, 1), runnable -> {
+                final var thread = new Thread(runnable,
+                        "negotiation-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+}
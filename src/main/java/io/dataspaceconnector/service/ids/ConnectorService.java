@@ -27,12 +27,13 @@ import de.fraunhofer.ids.messaging.core.config.ConfigUpdateException;
 import de.fraunhofer.ids.messaging.core.daps.ConnectorMissingCertExtensionException;
 import de.fraunhofer.ids.messaging.core.daps.DapsConnectionException;
 import de.fraunhofer.ids.messaging.core.daps.DapsEmptyResponseException;
-import de.fraunhofer.ids.messaging.core.daps.DapsTokenProvider;
+import io.dataspaceconnector.exception.ResourceNotFoundException;
 import io.dataspaceconnector.model.OfferedResource;
 import io.dataspaceconnector.service.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.service.ids.builder.IdsResourceBuilder;
 import io.dataspaceconnector.service.resource.CatalogService;
 import io.dataspaceconnector.service.resource.OfferedResourceService;
+import io.dataspaceconnector.util.UUIDUtils;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -44,6 +45,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -61,9 +63,9 @@ public class ConnectorService {
     private final @NonNull ConfigContainer configContainer;
 
     /**
-     * The token provider.
+     * Keeps the current DAT.
      */
-    private final @NonNull DapsTokenProvider tokenProvider;
+    private final @NonNull DapsTokenManager tokenManager;
 
     /**
      * Service for persisted catalogs.
@@ -85,6 +87,11 @@ public class ConnectorService {
      */
     private final @NonNull OfferedResourceService offeredResourceService;
 
+    /**
+     * The cached self-description.
+     */
+    private final @NonNull SelfDescriptionCache selfDescriptionCache;
+
     /**
      * Get a local copy of the current connector and extract its id.
      *
@@ -122,7 +129,7 @@ public class ConnectorService {
      */
     public DynamicAttributeToken getCurrentDat() {
         try {
-            return tokenProvider.getDAT();
+            return tokenManager.getDat();
         } catch (ConnectorMissingCertExtensionException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Connector certificate is missing aki/ski extensions."
@@ -158,6 +165,26 @@ public class ConnectorService {
         return connectorImpl;
     }
 
+    /**
+     * Get the base connector object with all offered resources as JSON-LD. The result is cached
+     * until an offered entity changes.
+     *
+     * @return The self-description as JSON-LD.
+     */
+    public String getConnectorWithOfferedResourcesAsRdf() {
+        return selfDescriptionCache.get();
+    }
+
+    /**
+     * Get the base connector object with a page of the catalogs as JSON-LD.
+     *
+     * @param pageable The page of catalogs.
+     * @return The self-description as JSON-LD.
+     */
+    public String getConnectorWithOfferedResourcesAsRdf(final Pageable pageable) {
+        return selfDescriptionCache.getPage(pageable);
+    }
+
     /**
      * Build a base connector object without resources.
      *
@@ -188,6 +215,7 @@ public class ConnectorService {
 
             // Handled at a higher level.
             configContainer.updateConfiguration(configModel);
+            selfDescriptionCache.invalidateAll();
         } catch (ConstraintViolationException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Failed to retrieve connector. [exception=({})]", e.getMessage(), e);
@@ -210,17 +238,23 @@ public class ConnectorService {
     }
 
     /**
-     * Get offered resource by its id.
+     * Get offered resource by its id. The UUIDs contained in the id are looked up directly,
+     * starting with the last one.
      *
      * @param resourceId The resource id.
      * @return The ids resource.
      */
     public Optional<Resource> getOfferedResourceById(final URI resourceId) {
-        final var resource = offeredResourceService.getAll(Pageable.unpaged())
-                .stream()
-                .filter(x -> resourceId.toString().contains(x.getId().toString()))
-                .findAny();
+        final var uuids = UUIDUtils.findUuids(resourceId.toString());
+        for (var i = uuids.size() - 1; i >= 0; i--) {
+            try {
+                final var resource = offeredResourceService.get(UUID.fromString(uuids.get(i)));
+                return Optional.of(resourceBuilder.create(resource));
+            } catch (ResourceNotFoundException ignored) {
+                // The uuid may belong to another entity.
+            }
+        }
 
-        return resource.map(resourceBuilder::create);
+        return Optional.empty();
     }
 }
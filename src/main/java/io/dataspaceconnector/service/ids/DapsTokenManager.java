@@ -0,0 +1,288 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.ids;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import de.fraunhofer.ids.messaging.core.daps.ConnectorMissingCertExtensionException;
+import de.fraunhofer.ids.messaging.core.daps.DapsConnectionException;
+import de.fraunhofer.ids.messaging.core.daps.DapsEmptyResponseException;
+import de.fraunhofer.ids.messaging.core.daps.DapsTokenProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the connector's DAT until shortly before it expires. Tokens about to expire are renewed
+ * in the background. Concurrent requests for an expired token share a single DAPS request.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class DapsTokenManager implements MeterBinder {
+
+    /**
+     * The number of parts of a JWT.
+     */
+    private static final int JWT_PARTS = 3;
+
+    /**
+     * The number of milliseconds per second.
+     */
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    /**
+     * Reads the claims of the DAT.
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Guards the DAPS requests.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The token provider.
+     */
+    private final @NonNull DapsTokenProvider tokenProvider;
+
+    /**
+     * The time before expiry at which the token is renewed in the background, in milliseconds.
+     */
+    @Value("${ids.dat.refresh-margin:60000}")
+    private long refreshMargin;
+
+    /**
+     * The time before expiry at which the token is no longer handed out, in milliseconds.
+     */
+    @Value("${ids.dat.expiry-margin:5000}")
+    private long expiryMargin;
+
+    /**
+     * The lifetime assumed for tokens without a readable expiry, in milliseconds.
+     */
+    @Value("${ids.dat.default-lifetime:60000}")
+    private long defaultLifetime;
+
+    /**
+     * The current token. Null if none has been requested yet.
+     */
+    private volatile Entry current;
+
+    /**
+     * Measures the DAPS requests. Null until bound to a registry.
+     */
+    private volatile Timer refreshTimer;
+
+    /**
+     * Counts the failed DAPS requests. Null until bound to a registry.
+     */
+    private volatile Counter refreshFailures;
+
+    /**
+     * Get the current DAT. Only requests a new token from the DAPS if the current one is about to
+     * expire.
+     *
+     * @return The connector's DAT.
+     * @throws ConnectorMissingCertExtensionException If the certificate misses extensions.
+     * @throws DapsConnectionException                If the DAPS could not be reached.
+     * @throws DapsEmptyResponseException             If the DAPS returned no token.
+     */
+    public DynamicAttributeToken getDat() throws ConnectorMissingCertExtensionException,
+            DapsConnectionException, DapsEmptyResponseException {
+        final var entry = current;
+        if (entry != null && Instant.now().isBefore(entry.getUsableUntil())) {
+            return entry.getToken();
+        }
+
+        return refresh(entry);
+    }
+
+    /**
+     * Periodically renews a token that is about to expire, so that requests do not have to.
+     */
+    @Scheduled(fixedDelayString = "${ids.dat.refresh-interval:10000}")
+    public void refreshExpiring() {
+        final var entry = current;
+        if (entry == null || Instant.now().isBefore(entry.getRefreshAt())) {
+            return;
+        }
+
+        try {
+            refresh(entry);
+        } catch (ConnectorMissingCertExtensionException | DapsConnectionException
+                | DapsEmptyResponseException | RuntimeException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to renew DAT. [exception=({})]", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Remove the current token, so that the next request fetches a new one.
+     */
+    public void invalidate() {
+        current = null;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("dsc.dat.age", this, DapsTokenManager::getAgeInSeconds)
+                .description("Age of the current DAT in seconds.")
+                .baseUnit("seconds")
+                .register(registry);
+        refreshTimer = Timer.builder("dsc.dat.refresh")
+                .description("Latency of DAT requests to the DAPS.")
+                .register(registry);
+        refreshFailures = Counter.builder("dsc.dat.refresh.failures")
+                .description("Failed DAT requests to the DAPS.")
+                .register(registry);
+    }
+
+    private DynamicAttributeToken refresh(final Entry seen)
+            throws ConnectorMissingCertExtensionException, DapsConnectionException,
+            DapsEmptyResponseException {
+        synchronized (lock) {
+            // Another thread may have renewed the token while this one was waiting.
+            final var entry = current;
+            if (entry != null && entry != seen && Instant.now().isBefore(entry.getUsableUntil())) {
+                return entry.getToken();
+            }
+
+            final var start = System.nanoTime();
+            try {
+                final var token = tokenProvider.getDAT();
+                if (token != null) {
+                    current = newEntry(token);
+                }
+                return token;
+            } catch (ConnectorMissingCertExtensionException | DapsConnectionException
+                    | DapsEmptyResponseException | RuntimeException e) {
+                final var failures = refreshFailures;
+                if (failures != null) {
+                    failures.increment();
+                }
+                throw e;
+            } finally {
+                final var timer = refreshTimer;
+                if (timer != null) {
+                    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+    }
+
+    private Entry newEntry(final DynamicAttributeToken token) {
+        final var now = Instant.now();
+        var expiry = getExpiry(token);
+        if (expiry == null) {
+            expiry = now.plusMillis(defaultLifetime);
+        }
+
+        final var usableUntil = expiry.minusMillis(expiryMargin);
+        var refreshAt = expiry.minusMillis(refreshMargin);
+        if (refreshAt.isAfter(usableUntil)) {
+            refreshAt = usableUntil;
+        }
+
+        return new Entry(token, now, refreshAt, usableUntil);
+    }
+
+    /**
+     * Read the expiry from the claims of the DAT. The signature is not checked, the token is
+     * issued to this connector.
+     *
+     * @param token The DAT.
+     * @return The expiry or null if it cannot be read.
+     */
+    private Instant getExpiry(final DynamicAttributeToken token) {
+        final var value = token.getTokenValue();
+        if (value == null) {
+            return null;
+        }
+
+        final var parts = value.split("\\.");
+        if (parts.length != JWT_PARTS) {
+            return null;
+        }
+
+        try {
+            final var claims = objectMapper.readTree(new String(
+                    Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+            final var exp = claims.get("exp");
+            return exp != null && exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong())
+                    : null;
+        } catch (IOException | IllegalArgumentException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to read DAT expiry. [exception=({})]", e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    private double getAgeInSeconds() {
+        final var entry = current;
+        if (entry == null) {
+            return Double.NaN;
+        }
+
+        return Duration.between(entry.getFetchedAt(), Instant.now()).toMillis() / MILLIS_PER_SECOND;
+    }
+
+    /**
+     * A token with its validity.
+     */
+    @Data
+    @AllArgsConstructor
+    private static final class Entry {
+        /**
+         * The DAT.
+         */
+        private final DynamicAttributeToken token;
+
+        /**
+         * When the token has been fetched.
+         */
+        private final Instant fetchedAt;
+
+        /**
+         * When the token is renewed in the background.
+         */
+        private final Instant refreshAt;
+
+        /**
+         * Until when the token is handed out.
+         */
+        private final Instant usableUntil;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.ids;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Size-bounded cache of deserialized ids objects, keyed by the requested type and the SHA-256
+ * hash of the serialized content. Failed deserializations are not cached. The least recently
+ * used entry is evicted if the cache is full.
+ */
+final class DeserializationCache implements MeterBinder {
+
+    /**
+     * Deserializes the content on a cache miss.
+     *
+     * @param <T> The type of the ids object.
+     */
+    @FunctionalInterface
+    interface Loader<T> {
+        /**
+         * Deserialize the content.
+         *
+         * @return The ids object.
+         * @throws IOException If deserialization fails.
+         */
+        T load() throws IOException;
+    }
+
+    /**
+     * The cached ids objects.
+     */
+    private final Map<Key, Object> entries;
+
+    /**
+     * The number of requests answered from the cache.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * The number of requests that had to be deserialized.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * The number of evicted entries.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param maxEntries The maximum number of cached entries.
+     */
+    DeserializationCache(final int maxEntries) {
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Object> eldest) {
+                final var remove = size() > maxEntries;
+                if (remove) {
+                    evictions.incrementAndGet();
+                }
+                return remove;
+            }
+        });
+    }
+
+    /**
+     * Get the deserialized content. Deserializes the content if no entry exists.
+     *
+     * @param type    The requested type.
+     * @param content The serialized content.
+     * @param loader  Deserializes the content.
+     * @param <T>     The type of the ids object.
+     * @return The ids object. Shared between callers, must not be modified.
+     * @throws IOException If deserialization fails.
+     */
+    <T> T get(final Class<T> type, final String content, final Loader<T> loader)
+            throws IOException {
+        final var key = new Key(type, getHash(content));
+        final var cached = entries.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return type.cast(cached);
+        }
+
+        misses.incrementAndGet();
+        final var value = loader.load();
+        if (value != null) {
+            entries.put(key, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * Remove all entries.
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("dsc.deserialization.cache.hits", hits, AtomicLong::get)
+                .description("Deserializations answered from the cache.")
+                .register(registry);
+        FunctionCounter.builder("dsc.deserialization.cache.misses", misses, AtomicLong::get)
+                .description("Deserializations not answered from the cache.")
+                .register(registry);
+        FunctionCounter.builder("dsc.deserialization.cache.evictions", evictions, AtomicLong::get)
+                .description("Entries evicted from the deserialization cache.")
+                .register(registry);
+        Gauge.builder("dsc.deserialization.cache.size", entries, Map::size)
+                .description("Entries in the deserialization cache.")
+                .register(registry);
+    }
+
+    private static String getHash(final String content) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(
+                    digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            // Every java platform supports SHA-256.
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * The key of a cache entry.
+     */
+    @Data
+    @AllArgsConstructor
+    private static final class Key {
+        /**
+         * The requested type.
+         */
+        private final Class<?> type;
+
+        /**
+         * The hash of the serialized content.
+         */
+        private final String hash;
+    }
+}
@@ -26,26 +26,64 @@ import de.fraunhofer.iais.eis.ResourceCatalog;
 import de.fraunhofer.iais.eis.ResponseMessage;
 import de.fraunhofer.iais.eis.Rule;
 import de.fraunhofer.ids.messaging.util.SerializerProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import java.io.IOException;
+import java.util.Set;
 
 /**
- * Service class for ids object deserialization.
+ * Service class for ids object deserialization. Every call returns a new object, that may be
+ * modified by the caller. Only rules and agreements loaded from the database can be read through
+ * {@link #getStoredRule(String)} and {@link #getStoredContractAgreement(String)}, which cache
+ * objects of the configured types and share them between callers.
  */
 @Log4j2
 @Service
 @RequiredArgsConstructor
-public class DeserializationService {
+public class DeserializationService implements MeterBinder {
 
     /**
      * Service for ids serializations.
      */
     private final @NonNull SerializerProvider serializerProvider;
 
+    /**
+     * The simple names of the ids types whose deserialized objects are cached.
+     */
+    @Value("${ids.deserialization-cache.types:ContractAgreement,Rule}")
+    private Set<String> cachedTypes;
+
+    /**
+     * The maximum number of cached objects.
+     */
+    @Value("${ids.deserialization-cache.max-entries:1000}")
+    private int maxEntries;
+
+    /**
+     * The cache for deserialized objects.
+     */
+    private DeserializationCache cache;
+
+    /**
+     * Create the cache once the configuration has been injected.
+     */
+    @PostConstruct
+    public void init() {
+        cache = new DeserializationCache(maxEntries);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        cache.bindTo(registry);
+    }
+
     /**
      * Deserialize string to ids configuration model.
      *
@@ -56,7 +94,7 @@ public class DeserializationService {
     public ConfigurationModel getConfigurationModel(final String config)
             throws IllegalArgumentException {
         try {
-            return serializerProvider.getSerializer().deserialize(config, ConfigurationModel.class);
+            return deserialize(config, ConfigurationModel.class);
         } catch (IOException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Could not deserialize config model. [exception=({})]", e.getMessage(), e);
@@ -75,7 +113,7 @@ public class DeserializationService {
     public InfrastructureComponent getInfrastructureComponent(final String component)
             throws IllegalArgumentException {
         try {
-            return serializerProvider.getSerializer().deserialize(component,
+            return deserialize(component,
                     InfrastructureComponent.class);
         } catch (IOException e) {
             if (log.isDebugEnabled()) {
@@ -94,7 +132,7 @@ public class DeserializationService {
      */
     public Resource getResource(final String resource) throws IllegalArgumentException {
         try {
-            return serializerProvider.getSerializer().deserialize(resource, Resource.class);
+            return deserialize(resource, Resource.class);
         } catch (IOException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Could not deserialize resource. [exception=({})]", e.getMessage(), e);
@@ -114,7 +152,7 @@ public class DeserializationService {
     public ResponseMessage getResponseMessage(final String response)
             throws IllegalArgumentException {
         try {
-            return serializerProvider.getSerializer().deserialize(response, ResponseMessage.class);
+            return deserialize(response, ResponseMessage.class);
         } catch (IOException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Could not deserialize response message. [exception=({})]",
@@ -133,7 +171,7 @@ public class DeserializationService {
      */
     public Message getMessage(final String response) throws IllegalArgumentException {
         try {
-            return serializerProvider.getSerializer().deserialize(response, Message.class);
+            return deserialize(response, Message.class);
         } catch (IOException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Could not deserialize message. [exception=({})]", e.getMessage(), e);
@@ -165,7 +203,27 @@ public class DeserializationService {
     public <T extends Rule> T getRule(final String policy, final Class<T> tClass)
             throws IllegalArgumentException {
         try {
-            return serializerProvider.getSerializer().deserialize(policy, tClass);
+            return deserialize(policy, tClass);
+        } catch (IOException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not deserialize rule. [exception=({})]", exception.getMessage());
+            }
+            throw new IllegalArgumentException("Could not deserialize rule.", exception);
+        }
+    }
+
+    /**
+     * Deserialize a rule loaded from the database. The rule is shared with other callers and
+     * must not be modified. Use {@link #getRule(String)} for rules that are modified or that
+     * have been received from other connectors.
+     *
+     * @param policy The stored policy string.
+     * @return The ids rule.
+     * @throws IllegalArgumentException If deserialization fails.
+     */
+    public Rule getStoredRule(final String policy) throws IllegalArgumentException {
+        try {
+            return deserializeStored(policy, Rule.class);
         } catch (IOException exception) {
             if (log.isWarnEnabled()) {
                 log.warn("Could not deserialize rule. [exception=({})]", exception.getMessage());
@@ -175,7 +233,7 @@ public class DeserializationService {
     }
 
     /**
-     * Check if a string is of type ids rule.
+     * Check if a rule loaded from the database is of an ids rule type.
      *
      * @param policy The policy string.
      * @param tClass The Infomodel class.
@@ -185,8 +243,9 @@ public class DeserializationService {
     public <T extends Rule> boolean isRuleType(final String policy, final Class<T> tClass) {
         var isType = false;
         try {
-            serializerProvider.getSerializer().deserialize(policy, tClass);
-            isType = true;
+            // Deserialized as any rule, so that checking other rule types is answered from the
+            // cache instead of failing deserializations.
+            isType = tClass.isInstance(deserializeStored(policy, Rule.class));
         } catch (IOException expected) {
             // Intentionally empty
         }
@@ -204,7 +263,7 @@ public class DeserializationService {
     public ContractAgreement getContractAgreement(final String contract)
             throws IllegalArgumentException {
         try {
-            return serializerProvider.getSerializer().deserialize(contract,
+            return deserialize(contract,
                     ContractAgreement.class);
         } catch (IOException e) {
             if (log.isWarnEnabled()) {
@@ -214,6 +273,27 @@ public class DeserializationService {
         }
     }
 
+    /**
+     * Deserialize a contract agreement loaded from the database. The agreement is shared with
+     * other callers and must not be modified. Use {@link #getContractAgreement(String)} for
+     * agreements that are modified or that have been received from other connectors.
+     *
+     * @param contract The stored contract string.
+     * @return The ids contract agreement.
+     * @throws IllegalArgumentException If deserialization fails.
+     */
+    public ContractAgreement getStoredContractAgreement(final String contract)
+            throws IllegalArgumentException {
+        try {
+            return deserializeStored(contract, ContractAgreement.class);
+        } catch (IOException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not deserialize agreement. [exception=({})]", e.getMessage(), e);
+            }
+            throw new IllegalArgumentException("Could not deserialize contract agreement.", e);
+        }
+    }
+
     /**
      * Deserialize string to ids catalog.
      *
@@ -223,7 +303,7 @@ public class DeserializationService {
      */
     public Catalog getCatalog(final String catalog) throws IllegalArgumentException {
         try {
-            return serializerProvider.getSerializer().deserialize(catalog,
+            return deserialize(catalog,
                     Catalog.class);
         } catch (IOException e) {
             if (log.isWarnEnabled()) {
@@ -243,7 +323,7 @@ public class DeserializationService {
     public ResourceCatalog getResourceCatalog(final String catalog)
             throws IllegalArgumentException {
         try {
-            return serializerProvider.getSerializer().deserialize(catalog,
+            return deserialize(catalog,
                     ResourceCatalog.class);
         } catch (IOException e) {
             if (log.isWarnEnabled()) {
@@ -264,7 +344,7 @@ public class DeserializationService {
     public ContractRequest getContractRequest(final String contract)
             throws IllegalArgumentException {
         try {
-            return serializerProvider.getSerializer().deserialize(contract, ContractRequest.class);
+            return deserialize(contract, ContractRequest.class);
         } catch (IOException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Could not deserialize request. [exception=({})]", e.getMessage(), e);
@@ -272,4 +352,17 @@ public class DeserializationService {
             throw new IllegalArgumentException("Could not deserialize contract request.", e);
         }
     }
+
+    private <T> T deserialize(final String content, final Class<T> type) throws IOException {
+        return serializerProvider.getSerializer().deserialize(content, type);
+    }
+
+    private <T> T deserializeStored(final String content, final Class<T> type)
+            throws IOException {
+        if (content == null || !cachedTypes.contains(type.getSimpleName())) {
+            return deserialize(content, type);
+        }
+
+        return cache.get(type, content, () -> deserialize(content, type));
+    }
 }
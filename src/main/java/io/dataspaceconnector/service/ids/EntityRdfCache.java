@@ -0,0 +1,272 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.ids;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import io.dataspaceconnector.controller.resource.view.ViewAssemblerHelper;
+import io.dataspaceconnector.model.AbstractEntity;
+import io.dataspaceconnector.model.Artifact;
+import io.dataspaceconnector.model.Contract;
+import io.dataspaceconnector.model.ContractRule;
+import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.model.Representation;
+import io.dataspaceconnector.service.resource.EntityChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.LazyInitializationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Caches the rdf descriptions of offers, representations, artifacts, and contracts offered via
+ * ids. Catalogs are not cached, as they are written page by page. An entry is keyed by the entity
+ * id and only used as long as the entity's modification date and the request's base uri match.
+ * Since descriptions contain their children, changing an entity also invalidates the
+ * descriptions of its parents, e.g. the representations and offers of a changed artifact. The
+ * least recently used entries are evicted once the number of entries or their total size exceed
+ * the configured limits.
+ */
+@Log4j2
+@Component
+public class EntityRdfCache {
+
+    /**
+     * The initial capacity of the entries.
+     */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * The load factor of the entries.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * Whether descriptions should be cached.
+     */
+    @Value("${ids.rdf-cache.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * The maximum number of cached descriptions.
+     */
+    @Value("${ids.rdf-cache.max-entries:10000}")
+    private int maxEntries;
+
+    /**
+     * The maximum total length of the cached descriptions, in characters. Larger descriptions
+     * are not cached.
+     */
+    @Value("${ids.rdf-cache.max-size:16777216}")
+    private long maxSize;
+
+    /**
+     * The cached descriptions per entity id, in order of their last use. Guarded by itself.
+     */
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(
+            INITIAL_CAPACITY, LOAD_FACTOR, true);
+
+    /**
+     * The total length of the cached descriptions. Guarded by the entries.
+     */
+    private long size;
+
+    /**
+     * Incremented on every invalidation. Descriptions rendered before an invalidation are not
+     * stored.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Get the current version of the cache. Must be read before loading an entity whose
+     * description is requested, so that changes committed while loading are detected.
+     *
+     * @return The version.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Get the description of an entity. Renders and caches the description if no valid entry
+     * exists. The description is only cached if nothing has been invalidated since the given
+     * version, as the entity or its children might have been loaded before a change.
+     *
+     * @param entity   The entity.
+     * @param expected The version read before the entity was loaded.
+     * @param renderer Renders the description.
+     * @return The rdf description.
+     */
+    public String get(final AbstractEntity entity, final long expected,
+                      final Supplier<String> renderer) {
+        final var id = entity.getId();
+        if (!enabled || !isCached(entity) || id == null) {
+            return renderer.get();
+        }
+
+        final var baseUri = ViewAssemblerHelper.getBaseUri();
+        synchronized (entries) {
+            final var entry = entries.get(id);
+            if (entry != null
+                    && Objects.equals(entry.getModificationDate(), entity.getModificationDate())
+                    && entry.getBaseUri().equals(baseUri)) {
+                return entry.getRdf();
+            }
+        }
+
+        final var rdf = renderer.get();
+        if (rdf.length() > maxSize) {
+            if (log.isDebugEnabled()) {
+                log.debug("Description exceeds rdf cache size. [id=({}), length=({})]",
+                        id, rdf.length());
+            }
+            return rdf;
+        }
+
+        synchronized (entries) {
+            if (expected == version.get()) {
+                // Not invalidated since the entity was loaded.
+                put(id, new Entry(entity.getModificationDate(), baseUri, rdf));
+            }
+        }
+
+        return rdf;
+    }
+
+    /**
+     * Invalidates the descriptions of a changed entity and of its parents. Called after the
+     * change has been committed.
+     *
+     * @param event The event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        final var entity = event.getEntity();
+        if (!isCached(entity) && !(entity instanceof ContractRule)) {
+            return;
+        }
+
+        final var ids = new HashSet<UUID>();
+        var all = false;
+        try {
+            collect(entity, ids);
+        } catch (LazyInitializationException exception) {
+            // The parents cannot be resolved anymore.
+            all = true;
+        }
+
+        synchronized (entries) {
+            version.incrementAndGet();
+            if (all) {
+                entries.clear();
+                size = 0;
+            } else {
+                for (final var id : ids) {
+                    remove(id);
+                }
+            }
+        }
+    }
+
+    private void put(final UUID id, final Entry entry) {
+        remove(id);
+        entries.put(id, entry);
+        size += entry.getRdf().length();
+
+        final var iterator = entries.values().iterator();
+        while (entries.size() > maxEntries || size > maxSize) {
+            // Evict the least recently used.
+            size -= iterator.next().getRdf().length();
+            iterator.remove();
+        }
+    }
+
+    private void remove(final UUID id) {
+        final var removed = entries.remove(id);
+        if (removed != null) {
+            size -= removed.getRdf().length();
+        }
+    }
+
+    /**
+     * Collect the ids of an entity and of all entities whose descriptions contain it.
+     *
+     * @param entity The entity.
+     * @param ids    The collected ids.
+     */
+    private static void collect(final AbstractEntity entity, final Set<UUID> ids) {
+        if (entity == null || entity.getId() == null || !ids.add(entity.getId())) {
+            return;
+        }
+
+        if (entity instanceof Artifact) {
+            collectAll(((Artifact) entity).getRepresentations(), ids);
+        } else if (entity instanceof Representation) {
+            collectAll(((Representation) entity).getResources(), ids);
+        } else if (entity instanceof Contract) {
+            collectAll(((Contract) entity).getResources(), ids);
+        } else if (entity instanceof ContractRule) {
+            collectAll(((ContractRule) entity).getContracts(), ids);
+        }
+    }
+
+    private static void collectAll(final Collection<? extends AbstractEntity> parents,
+                                   final Set<UUID> ids) {
+        if (parents != null) {
+            for (final var parent : parents) {
+                collect(parent, ids);
+            }
+        }
+    }
+
+    private static boolean isCached(final AbstractEntity entity) {
+        return entity instanceof OfferedResource || entity instanceof Representation
+                || entity instanceof Artifact || entity instanceof Contract;
+    }
+
+    /**
+     * A cached description.
+     */
+    @Data
+    @AllArgsConstructor
+    private static final class Entry {
+        /**
+         * The modification date of the rendered entity.
+         */
+        private final ZonedDateTime modificationDate;
+
+        /**
+         * The base uri of the self-links in the description.
+         */
+        private final String baseUri;
+
+        /**
+         * The rendered description.
+         */
+        private final String rdf;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.ids;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.UUID;
+
+import javax.persistence.EntityManager;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dataspaceconnector.model.Catalog;
+import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.service.ids.builder.AbstractIdsBuilder;
+import io.dataspaceconnector.service.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.service.ids.builder.IdsResourceBuilder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes the JSON-LD of an ids catalog with its offered resources. Instead of building the whole
+ * catalog at once, the offered resources are loaded, built, and written page by page. The pages
+ * are loaded within the caller's transaction, or a read-only one if there is none, and the
+ * persistence context is cleared after each page, so that it does not grow with the catalog.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdsCatalogWriter {
+
+    /**
+     * The JSON-LD property holding the offered resources of a catalog.
+     */
+    private static final String OFFERED_RESOURCE = "ids:offeredResource";
+
+    /**
+     * The JSON-LD context property. Only written once for the catalog.
+     */
+    private static final String CONTEXT = "@context";
+
+    /**
+     * The query for the offered resources of a catalog. Ordered by id to keep pages stable.
+     */
+    private static final String OFFERS_OF_CATALOG = "SELECT o "
+            + "FROM OfferedResource o, Catalog c "
+            + "WHERE c.id = :catalogId "
+            + "AND o MEMBER OF c.offeredResources "
+            + "AND o.deleted = false "
+            + "AND c.deleted = false "
+            + "ORDER BY o.id";
+
+    /**
+     * Reads and writes the JSON-LD of the ids objects.
+     */
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Service for building ids catalogs.
+     */
+    private final @NonNull IdsCatalogBuilder catalogBuilder;
+
+    /**
+     * Service for building ids resources.
+     */
+    private final @NonNull IdsResourceBuilder<OfferedResource> resourceBuilder;
+
+    /**
+     * The shared entity manager the offered resources are loaded with.
+     */
+    private final @NonNull EntityManager entityManager;
+
+    /**
+     * The transaction manager for loading the offered resources.
+     */
+    private final @NonNull PlatformTransactionManager transactionManager;
+
+    /**
+     * The number of offered resources loaded at once.
+     */
+    @Value("${ids.catalog-writer.page-size:100}")
+    private int pageSize;
+
+    /**
+     * Get the catalog with all its offered resources as JSON-LD.
+     *
+     * @param catalog The catalog.
+     * @return The JSON-LD of the ids catalog.
+     * @throws UncheckedIOException If the JSON-LD could not be written.
+     */
+    public String getAsRdf(final Catalog catalog) {
+        return getAsRdf(catalog, AbstractIdsBuilder.DEFAULT_DEPTH, Pageable.unpaged());
+    }
+
+    /**
+     * Get the catalog with a page of its offered resources as JSON-LD.
+     *
+     * @param catalog  The catalog.
+     * @param maxDepth The depth up to which dependencies are followed. Negative for all.
+     * @param pageable The page of offered resources. Unpaged for all.
+     * @return The JSON-LD of the ids catalog.
+     * @throws UncheckedIOException If the JSON-LD could not be written.
+     */
+    public String getAsRdf(final Catalog catalog, final int maxDepth, final Pageable pageable) {
+        final var out = new StringWriter();
+        try {
+            write(catalog, out, maxDepth, pageable);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        return out.toString();
+    }
+
+    private void write(final Catalog catalog, final Writer out, final int maxDepth,
+                       final Pageable pageable) throws IOException {
+        try (var generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            copyFields(catalogBuilder.create(catalog, 0).toRdf(), generator, OFFERED_RESOURCE);
+
+            if (maxDepth != 0) {
+                generator.writeArrayFieldStart(OFFERED_RESOURCE);
+                writeResources(generator, catalog.getId(), maxDepth, pageable);
+                generator.writeEndArray();
+            }
+
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeResources(final JsonGenerator generator, final UUID catalogId,
+                                final int maxDepth, final Pageable pageable)
+            throws IOException {
+        final var template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        try {
+            template.executeWithoutResult(status -> {
+                // Unflushed changes of a caller's writing transaction must not be discarded.
+                final var clearable = status.isNewTransaction()
+                        || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+                try {
+                    writePages(generator, catalogId, maxDepth, pageable, clearable);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    private void writePages(final JsonGenerator generator, final UUID catalogId,
+                            final int maxDepth, final Pageable pageable,
+                            final boolean clearable) throws IOException {
+        // The depth of the resources' dependencies relative to the resources.
+        final var resourceDepth = maxDepth < 0 ? maxDepth : maxDepth - 1;
+        final var size = pageable.isPaged() ? pageable.getPageSize() : pageSize;
+        var offset = pageable.isPaged() ? (int) pageable.getOffset() : 0;
+
+        while (true) {
+            // Load one more to find out whether there is a next page.
+            final var offers = entityManager
+                    .createQuery(OFFERS_OF_CATALOG, OfferedResource.class)
+                    .setParameter("catalogId", catalogId)
+                    .setFirstResult(offset)
+                    .setMaxResults(size + 1)
+                    .getResultList();
+
+            for (final var offer : offers.subList(0, Math.min(size, offers.size()))) {
+                final var resource = resourceBuilder.create(offer, resourceDepth);
+                if (resource != null) {
+                    generator.writeStartObject();
+                    copyFields(resource.toRdf(), generator, CONTEXT);
+                    generator.writeEndObject();
+                }
+            }
+            generator.flush();
+
+            if (pageable.isPaged() || offers.size() <= size) {
+                break;
+            }
+
+            if (clearable) {
+                // Free the written resources.
+                entityManager.clear();
+            }
+            offset += size;
+        }
+    }
+
+    /**
+     * Copy the top-level fields of a JSON object token by token, without building a tree.
+     *
+     * @param json      The JSON object.
+     * @param generator The generator the fields are written to.
+     * @param skipped   The name of the field that is not copied.
+     * @throws IOException If the JSON could not be read or written.
+     */
+    private void copyFields(final String json, final JsonGenerator generator,
+                            final String skipped) throws IOException {
+        try (var parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object.");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final var name = parser.getCurrentName();
+                parser.nextToken();
+                if (skipped.equals(name)) {
+                    parser.skipChildren();
+                } else {
+                    generator.writeFieldName(name);
+                    generator.copyCurrentStructure(parser);
+                }
+            }
+        }
+    }
+}
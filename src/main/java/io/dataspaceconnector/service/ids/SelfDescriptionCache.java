@@ -0,0 +1,322 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.ids;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.fraunhofer.iais.eis.BaseConnector;
+import de.fraunhofer.iais.eis.BaseConnectorImpl;
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import de.fraunhofer.ids.messaging.core.config.ConfigContainer;
+import io.dataspaceconnector.controller.resource.view.ViewAssemblerHelper;
+import io.dataspaceconnector.model.Catalog;
+import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.service.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.service.resource.CatalogService;
+import io.dataspaceconnector.service.resource.EntityChangedEvent;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.LazyInitializationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps the rendered self-description with all offered resources. The ids catalogs are cached
+ * per catalog and only rebuilt if the catalog or one of its offered resources changed. Stale
+ * self-descriptions are rebuilt in the background or, if requested before, on the next request.
+ * The self-description is rendered on a copy of the configured connector, so that the connector
+ * shared with the config container is not modified.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class SelfDescriptionCache {
+
+    /**
+     * The current connector configuration.
+     */
+    private final @NonNull ConfigContainer configContainer;
+
+    /**
+     * Service for persisted catalogs.
+     */
+    private final @NonNull CatalogService catalogService;
+
+    /**
+     * Service for ids catalogs.
+     */
+    private final @NonNull IdsCatalogBuilder catalogBuilder;
+
+    /**
+     * Service for copying the configured connector.
+     */
+    private final @NonNull DeserializationService deserializationService;
+
+    /**
+     * The transaction manager for loading catalogs outside of requests.
+     */
+    private final @NonNull PlatformTransactionManager transactionManager;
+
+    /**
+     * The ids catalogs per catalog id.
+     */
+    private final Map<UUID, ResourceCatalog> catalogs = new ConcurrentHashMap<>();
+
+    /**
+     * The base uri of the self-links in the cached ids catalogs.
+     */
+    private String catalogsBaseUri;
+
+    /**
+     * The catalogs that have to be rebuilt.
+     */
+    private final Set<UUID> staleCatalogs = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Whether all catalogs have to be rebuilt.
+     */
+    private volatile boolean allStale = true;
+
+    /**
+     * Incremented on every invalidation. Self-descriptions rendered before an invalidation are
+     * not stored.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * The rendered self-description. Null if stale.
+     */
+    private volatile String rendered;
+
+    /**
+     * The connector the rendered self-description has been built for.
+     */
+    private volatile BaseConnector renderedFor;
+
+    /**
+     * The base uri of the self-links in the rendered self-description.
+     */
+    private volatile String renderedBaseUri;
+
+    /**
+     * The copy of the configured connector the self-description is rendered on.
+     */
+    private BaseConnectorImpl copy;
+
+    /**
+     * The configured connector the copy has been made of.
+     */
+    private BaseConnector copyOf;
+
+    /**
+     * Get the self-description with all offered resources.
+     *
+     * @return The self-description as JSON-LD.
+     */
+    public String get() {
+        final var current = rendered;
+        if (current != null && renderedFor == configContainer.getConnector()
+                && ViewAssemblerHelper.getBaseUri().equals(renderedBaseUri)) {
+            return current;
+        }
+
+        return rebuild();
+    }
+
+    /**
+     * Get the self-description with a page of the catalogs. Paged self-descriptions are not
+     * cached.
+     *
+     * @param pageable The page of catalogs.
+     * @return The self-description as JSON-LD.
+     */
+    public synchronized String getPage(final Pageable pageable) {
+        final var connector = configContainer.getConnector();
+        final var template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> {
+            final var resourceCatalogs = new ArrayList<ResourceCatalog>();
+            for (final var catalog : catalogService.getAll(pageable)) {
+                final var resourceCatalog = catalogBuilder.create(catalog, 0);
+                if (resourceCatalog != null) {
+                    resourceCatalogs.add(resourceCatalog);
+                }
+            }
+
+            final var connectorImpl = getCopy(connector);
+            connectorImpl.setResourceCatalog(resourceCatalogs);
+            return connectorImpl.toRdf();
+        });
+    }
+
+    /**
+     * Marks the whole self-description as stale, e.g. after the configuration changed.
+     */
+    public void invalidateAll() {
+        allStale = true;
+        version.incrementAndGet();
+        rendered = null;
+    }
+
+    /**
+     * Marks the catalogs affected by a changed catalog or offered resource as stale. Changes of
+     * other entities are ignored, as the catalogs are built without their children. Called after
+     * the change has been committed.
+     *
+     * @param event The event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        final var entity = event.getEntity();
+        if (entity instanceof Catalog) {
+            staleCatalogs.add(entity.getId());
+        } else if (entity instanceof OfferedResource) {
+            markCatalogsStale((OfferedResource) entity);
+        } else {
+            // Not part of the self-description.
+            return;
+        }
+
+        version.incrementAndGet();
+        rendered = null;
+    }
+
+    /**
+     * Periodically rebuilds a stale self-description, so that requests do not have to. Skipped
+     * if no base uri for self-links outside of requests has been configured, as the
+     * self-description would only contain relative self-links.
+     */
+    @Scheduled(fixedDelayString = "${ids.self-description.refresh-interval:5000}")
+    public void refresh() {
+        if (rendered == null && ViewAssemblerHelper.hasDefaultBaseUri()) {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Failed to rebuild self-description. [exception=({})]",
+                            e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private void markCatalogsStale(final OfferedResource resource) {
+        try {
+            if (resource.getCatalogs() != null) {
+                for (final var catalog : resource.getCatalogs()) {
+                    staleCatalogs.add(catalog.getId());
+                }
+            }
+        } catch (LazyInitializationException e) {
+            // The catalogs cannot be resolved anymore.
+            allStale = true;
+        }
+    }
+
+    private synchronized String rebuild() {
+        final var connector = configContainer.getConnector();
+        final var baseUri = ViewAssemblerHelper.getBaseUri();
+        if (rendered != null && renderedFor == connector && baseUri.equals(renderedBaseUri)) {
+            // Rebuilt concurrently.
+            return rendered;
+        }
+
+        final var expected = version.get();
+        final var template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        final String result;
+        try {
+            result = template.execute(status -> render(connector, baseUri));
+        } catch (RuntimeException e) {
+            // Catalogs may have been dropped from the stale set without being rebuilt.
+            allStale = true;
+            throw e;
+        }
+
+        if (expected == version.get()) {
+            renderedFor = connector;
+            renderedBaseUri = baseUri;
+            rendered = result;
+        }
+
+        return result;
+    }
+
+    private String render(final BaseConnector connector, final String baseUri) {
+        final var rebuildAll = allStale || !baseUri.equals(catalogsBaseUri);
+        allStale = false;
+        catalogsBaseUri = baseUri;
+
+        final var present = new HashSet<UUID>();
+        final var resourceCatalogs = new ArrayList<ResourceCatalog>();
+        for (final var catalog : catalogService.getAll(Pageable.unpaged())) {
+            final var catalogId = catalog.getId();
+            present.add(catalogId);
+
+            var resourceCatalog = catalogs.get(catalogId);
+            if (rebuildAll || staleCatalogs.remove(catalogId) || resourceCatalog == null) {
+                resourceCatalog = catalogBuilder.create(catalog, 0);
+                if (resourceCatalog == null) {
+                    catalogs.remove(catalogId);
+                    continue;
+                }
+                catalogs.put(catalogId, resourceCatalog);
+            }
+
+            resourceCatalogs.add(resourceCatalog);
+        }
+
+        catalogs.keySet().retainAll(present);
+        staleCatalogs.retainAll(present);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Rebuilt self-description. [catalogs=({})]", resourceCatalogs.size());
+        }
+
+        // Create a connector with a list of offered resources.
+        final var connectorImpl = getCopy(connector);
+        connectorImpl.setResourceCatalog(resourceCatalogs);
+        return connectorImpl.toRdf();
+    }
+
+    /**
+     * Get the copy of the configured connector. The copy is made once per configuration. Has to
+     * be called holding the lock of this cache.
+     *
+     * @param connector The configured connector.
+     * @return The copy.
+     */
+    private BaseConnectorImpl getCopy(final BaseConnector connector) {
+        if (copyOf != connector) {
+            copy = (BaseConnectorImpl) deserializationService
+                    .getInfrastructureComponent(connector.toRdf());
+            copyOf = connector;
+        }
+
+        return copy;
+    }
+}
@@ -15,8 +15,9 @@
  */
 package io.dataspaceconnector.service.ids.builder;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +52,22 @@ public abstract class AbstractIdsBuilder<T extends AbstractEntity, X> {
      */
     private static final int MAX_DEPTH = 3;
 
+    /**
+     * The type of the setProperty method handles: (idsObject, key, value) -> void.
+     */
+    private static final MethodType SET_PROPERTY_TYPE =
+            MethodType.methodType(void.class, Object.class, String.class, Object.class);
+
+    /**
+     * The setProperty method of each ids class. Resolved once per class.
+     */
+    private static final ClassValue<Optional<MethodHandle>> SET_PROPERTY = new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(final Class<?> type) {
+            return findAdditionalMethod(type);
+        }
+    };
+
     /**
      * Convert an DSC object to an ids object. The default depth will be used to determine the
      * when to stop following dependencies.
@@ -136,15 +153,31 @@ public abstract class AbstractIdsBuilder<T extends AbstractEntity, X> {
     }
 
     private <K> K addAdditionals(final K idsObject, final Map<String, String> additional) {
+        if (additional == null || additional.isEmpty()) {
+            return idsObject;
+        }
+
         // NOTE: The Infomodel lib has setProperty on all classes, but the method is implemented
         // individually...
+        final var setProperty = SET_PROPERTY.get(idsObject.getClass());
+        if (setProperty.isEmpty()) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to set additional fields. [class=({})]",
+                        idsObject.getClass().getName());
+            }
+            return idsObject;
+        }
+
         try {
-            final var setPropertyMethod = findAdditionalMethod(idsObject);
             for (final var entry : additional.entrySet()) {
-                setPropertyMethod.invoke(idsObject, entry.getKey(), entry.getValue());
+                setProperty.get().invokeExact((Object) idsObject, entry.getKey(),
+                        (Object) entry.getValue());
             }
-
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+        } catch (Error e) {
+            // E.g. OutOfMemoryError, must not be mistaken for an invalid field.
+            throw e;
+        } catch (Throwable e) {
+            // Only exceptions remain, as invokeExact declares Throwable.
             if (log.isWarnEnabled()) {
                 log.warn("Failed to set additional fields. [exception=({})]", e.getMessage(), e);
             }
@@ -153,15 +186,17 @@ public abstract class AbstractIdsBuilder<T extends AbstractEntity, X> {
         return idsObject;
     }
 
-    private <K> Method findAdditionalMethod(final K idsResource) throws NoSuchMethodException {
+    private static Optional<MethodHandle> findAdditionalMethod(final Class<?> idsClass) {
         // NOTE: The Infomodel lib has setProperty on all classes, but some of them are implemented
         // higher up the inheritance chain.
         // If the setProperty method has a different signature null is returned.
-        var tClass = idsResource.getClass();
-        for (int i = 0; i < MAX_DEPTH; i++) {
+        var tClass = idsClass;
+        for (int i = 0; i < MAX_DEPTH && tClass != null; i++) {
             try {
-                return tClass.getMethod("setProperty", String.class, Object.class);
-            } catch (NoSuchMethodException ignored) {
+                final var method = tClass.getMethod("setProperty", String.class, Object.class);
+                return Optional.of(MethodHandles.publicLookup().unreflect(method)
+                        .asType(SET_PROPERTY_TYPE));
+            } catch (NoSuchMethodException | IllegalAccessException ignored) {
                 // Intentionally empty
             }
             if (i < MAX_DEPTH - 1) {
@@ -169,6 +204,6 @@ public abstract class AbstractIdsBuilder<T extends AbstractEntity, X> {
             }
         }
 
-        throw new NoSuchMethodException();
+        return Optional.empty();
     }
 }
@@ -44,7 +44,7 @@ public class IdsRuleBuilder<T extends Rule> extends AbstractIdsBuilder<ContractR
     protected final T createInternal(final ContractRule rule, final int currentDepth,
                                      final int maxDepth)
             throws ConstraintViolationException {
-        final var idsRule = deserializer.getRule(rule.getValue());
+        final var idsRule = deserializer.getStoredRule(rule.getValue());
         final var selfLink = getAbsoluteSelfLink(rule);
         var newRule = rule.getValue();
 
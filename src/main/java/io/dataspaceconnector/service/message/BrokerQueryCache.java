@@ -0,0 +1,334 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.fraunhofer.ids.messaging.core.daps.ClaimsException;
+import de.fraunhofer.ids.messaging.core.daps.DapsTokenManagerException;
+import de.fraunhofer.ids.messaging.protocol.multipart.parser.MultipartParseException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Size-bounded cache of broker query responses, keyed by recipient, query type, normalized
+ * query, limit, and offset. Entries expire after a fixed time. Concurrent identical queries share
+ * a single request to the broker. Only successful responses are cached.
+ */
+final class BrokerQueryCache implements MeterBinder {
+
+    /**
+     * The initial capacity of the entry map.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The load factor of the entry map.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * Sends the query on a cache miss.
+     */
+    @FunctionalInterface
+    interface Loader {
+        /**
+         * Send the query.
+         *
+         * @return The response payload or empty if the broker did not answer.
+         * @throws MultipartParseException   If the response could not be parsed.
+         * @throws ClaimsException           If the response's DAT is invalid.
+         * @throws DapsTokenManagerException If no DAT could be acquired.
+         * @throws IOException               If the message could not be sent.
+         */
+        Optional<String> load() throws MultipartParseException, ClaimsException,
+                DapsTokenManagerException, IOException;
+    }
+
+    /**
+     * The cached responses.
+     */
+    private final Map<Key, Entry> entries;
+
+    /**
+     * The queries currently sent to a broker.
+     */
+    private final Map<Key, CompletableFuture<Optional<String>>> inFlight =
+            new ConcurrentHashMap<>();
+
+    /**
+     * The time to live of an entry in nanoseconds. The cache is disabled if zero.
+     */
+    private final long ttl;
+
+    /**
+     * The number of queries answered from the cache.
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * The number of queries sent to a broker.
+     */
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * The number of queries that waited for an identical query.
+     */
+    private final AtomicLong joins = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param ttlMillis  The time to live of an entry in milliseconds. Zero disables the cache.
+     * @param maxEntries The maximum number of cached entries.
+     */
+    BrokerQueryCache(final long ttlMillis, final int maxEntries) {
+        this.ttl = TimeUnit.MILLISECONDS.toNanos(Math.max(ttlMillis, 0));
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(INITIAL_CAPACITY,
+                LOAD_FACTOR, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Get the response to a query. Sends the query if no valid entry exists or the cache is
+     * bypassed. Waits for an identical query if one is being sent.
+     *
+     * @param key    The key of the query.
+     * @param bypass True to send the query in any case. The response replaces the cached one.
+     * @param loader Sends the query.
+     * @return The response payload or empty if the broker did not answer.
+     * @throws MultipartParseException   If the response could not be parsed.
+     * @throws ClaimsException           If the response's DAT is invalid.
+     * @throws DapsTokenManagerException If no DAT could be acquired.
+     * @throws IOException               If the message could not be sent.
+     */
+    Optional<String> get(final Key key, final boolean bypass, final Loader loader)
+            throws MultipartParseException, ClaimsException, DapsTokenManagerException,
+            IOException {
+        if (ttl == 0) {
+            return loader.load();
+        }
+
+        if (!bypass) {
+            final var cached = getValid(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+
+        final var flight = new CompletableFuture<Optional<String>>();
+        final var existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            joins.incrementAndGet();
+            return await(existing);
+        }
+
+        try {
+            // Another query may have finished since the entry has been checked.
+            final var cached = bypass ? null : getValid(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                flight.complete(cached);
+                return cached;
+            }
+
+            misses.incrementAndGet();
+            final var value = loader.load();
+            if (value.isPresent()) {
+                entries.put(key, new Entry(value, System.nanoTime()));
+            }
+            flight.complete(value);
+            return value;
+        } catch (Exception exception) {
+            flight.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("dsc.broker.query.cache.hits", hits, AtomicLong::get)
+                .description("Broker queries answered from the cache.")
+                .register(registry);
+        FunctionCounter.builder("dsc.broker.query.cache.misses", misses, AtomicLong::get)
+                .description("Broker queries sent to the broker.")
+                .register(registry);
+        FunctionCounter.builder("dsc.broker.query.cache.joins", joins, AtomicLong::get)
+                .description("Broker queries that waited for an identical query.")
+                .register(registry);
+        Gauge.builder("dsc.broker.query.cache.size", entries, Map::size)
+                .description("Entries in the broker query cache.")
+                .register(registry);
+    }
+
+    /**
+     * Normalize a query for use in a key. Comments outside of string literals and IRIs are
+     * removed, as they end at the next line break that is collapsed afterwards. Runs of
+     * whitespace outside of string literals and IRIs are replaced by a single space, leading and
+     * trailing whitespace is removed.
+     *
+     * @param query The query.
+     * @return The normalized query.
+     */
+    static String normalize(final String query) {
+        if (query == null) {
+            return "";
+        }
+
+        final var builder = new StringBuilder(query.length());
+        var quote = (char) 0;
+        var space = false;
+        for (var i = 0; i < query.length(); i++) {
+            final var c = query.charAt(i);
+            if (quote != 0) {
+                builder.append(c);
+                if (c == '\\' && quote != '>' && i + 1 < query.length()) {
+                    builder.append(query.charAt(++i));
+                } else if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '#') {
+                // Skip the comment up to the line break.
+                while (i + 1 < query.length() && query.charAt(i + 1) != '\n'
+                        && query.charAt(i + 1) != '\r') {
+                    i++;
+                }
+                space = true;
+            } else if (Character.isWhitespace(c)) {
+                space = true;
+            } else {
+                if (space && builder.length() > 0) {
+                    builder.append(' ');
+                }
+                space = false;
+                builder.append(c);
+                if (c == '"' || c == '\'') {
+                    quote = c;
+                } else if (c == '<') {
+                    quote = '>';
+                }
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private Optional<String> getValid(final Key key) {
+        final var entry = entries.get(key);
+        if (entry == null || System.nanoTime() - entry.getCreated() >= ttl) {
+            return null;
+        }
+        return entry.getValue();
+    }
+
+    private static Optional<String> await(final CompletableFuture<Optional<String>> flight)
+            throws MultipartParseException, ClaimsException, DapsTokenManagerException,
+            IOException {
+        try {
+            return flight.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for broker query.");
+        } catch (ExecutionException exception) {
+            final var cause = exception.getCause();
+            if (cause instanceof MultipartParseException) {
+                throw (MultipartParseException) cause;
+            } else if (cause instanceof ClaimsException) {
+                throw (ClaimsException) cause;
+            } else if (cause instanceof DapsTokenManagerException) {
+                throw (DapsTokenManagerException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * The key of a cache entry.
+     */
+    @Data
+    @AllArgsConstructor
+    static final class Key {
+        /**
+         * The recipient of the query.
+         */
+        private final URI recipient;
+
+        /**
+         * The type of the query, e.g. SPARQL or full text search.
+         */
+        private final String type;
+
+        /**
+         * The normalized query.
+         */
+        private final String query;
+
+        /**
+         * The limit of the results. Null if not applicable.
+         */
+        private final Integer limit;
+
+        /**
+         * The offset of the results. Null if not applicable.
+         */
+        private final Integer offset;
+    }
+
+    /**
+     * A cached response.
+     */
+    @Data
+    @AllArgsConstructor
+    private static final class Entry {
+        /**
+         * The response payload.
+         */
+        private final Optional<String> value;
+
+        /**
+         * When the response has been received, in nanoseconds.
+         */
+        private final long created;
+    }
+}
@@ -24,10 +24,14 @@ import de.fraunhofer.ids.messaging.core.daps.ClaimsException;
 import de.fraunhofer.ids.messaging.core.daps.DapsTokenManagerException;
 import de.fraunhofer.ids.messaging.protocol.multipart.MessageAndPayload;
 import de.fraunhofer.ids.messaging.protocol.multipart.parser.MultipartParseException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import javax.validation.constraints.NotNull;
 import java.io.IOException;
 import java.net.URI;
@@ -39,13 +43,53 @@ import java.util.Optional;
 @Log4j2
 @Service
 @RequiredArgsConstructor
-public class GlobalMessageService {
+public class GlobalMessageService implements MeterBinder {
+
+    /**
+     * The query type of SPARQL queries in the cache.
+     */
+    private static final String SPARQL_QUERY = "sparql";
+
+    /**
+     * The query type of full text searches in the cache.
+     */
+    private static final String FULL_TEXT_SEARCH = "search";
 
     /**
      * The service for communication with an ids broker.
      */
     private final @NotNull IDSBrokerService brokerSvc;
 
+    /**
+     * The time for which query responses are reused, in milliseconds. 0 to disable the cache.
+     */
+    @Value("${ids.broker.query-cache.ttl:30000}")
+    private long queryCacheTtl;
+
+    /**
+     * The maximum number of cached query responses.
+     */
+    @Value("${ids.broker.query-cache.max-entries:1000}")
+    private int queryCacheMaxEntries;
+
+    /**
+     * The cache for query responses.
+     */
+    private BrokerQueryCache queryCache;
+
+    /**
+     * Create the cache once the configuration has been injected.
+     */
+    @PostConstruct
+    public void init() {
+        queryCache = new BrokerQueryCache(queryCacheTtl, queryCacheMaxEntries);
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        queryCache.bindTo(registry);
+    }
+
     /**
      * Send connector update message and validate received response.
      *
@@ -107,7 +151,8 @@ public class GlobalMessageService {
     }
 
     /**
-     * Send query message and validate received response.
+     * Send query message and validate received response. Identical queries are answered from the
+     * cache for a short time.
      *
      * @param recipient The recipient.
      * @param query     The query statement.
@@ -116,19 +161,39 @@ public class GlobalMessageService {
     public Optional<String> sendQueryMessage(final URI recipient, final String query)
             throws MultipartParseException, ClaimsException, DapsTokenManagerException,
             IOException {
-        final var response = brokerSvc.queryBroker(recipient, query,
-                QueryLanguage.SPARQL, QueryScope.ALL, QueryTarget.BROKER);
-        final var msg = String.format("Successfully processed query. [url=(%s)]", recipient);
-        if (validateResponse(response, msg)) {
-            return response.getPayload();
-        }
-
-        return Optional.empty();
+        return sendQueryMessage(recipient, query, false);
     }
 
     /**
      * Send query message and validate received response.
      *
+     * @param recipient   The recipient.
+     * @param query       The query statement.
+     * @param bypassCache True to send the query even if a cached response exists.
+     * @return True if the message was successfully processed by the recipient, false if not.
+     */
+    public Optional<String> sendQueryMessage(final URI recipient, final String query,
+                                             final boolean bypassCache)
+            throws MultipartParseException, ClaimsException, DapsTokenManagerException,
+            IOException {
+        final var key = new BrokerQueryCache.Key(recipient, SPARQL_QUERY,
+                BrokerQueryCache.normalize(query), null, null);
+        return queryCache.get(key, bypassCache, () -> {
+            final var response = brokerSvc.queryBroker(recipient, query,
+                    QueryLanguage.SPARQL, QueryScope.ALL, QueryTarget.BROKER);
+            final var msg = String.format("Successfully processed query. [url=(%s)]", recipient);
+            if (validateResponse(response, msg)) {
+                return response.getPayload();
+            }
+
+            return Optional.empty();
+        });
+    }
+
+    /**
+     * Send query message and validate received response. Identical searches are answered from
+     * the cache for a short time.
+     *
      * @param recipient The recipient.
      * @param term      The search term.
      * @param limit     The limit value.
@@ -139,16 +204,38 @@ public class GlobalMessageService {
                                                            final int limit, final int offset)
             throws MultipartParseException, ClaimsException, DapsTokenManagerException,
             IOException {
-        final var response = brokerSvc.fullTextSearchBroker(recipient, term,
-                QueryScope.ALL, QueryTarget.BROKER, limit, offset);
+        return sendFullTextSearchQueryMessage(recipient, term, limit, offset, false);
+    }
 
-        final var msg = String.format("Successfully processed full text search. [url=(%s)]",
-                recipient);
-        if (validateResponse(response, msg)) {
-            return response.getPayload();
-        }
+    /**
+     * Send query message and validate received response.
+     *
+     * @param recipient   The recipient.
+     * @param term        The search term.
+     * @param limit       The limit value.
+     * @param offset      The offset value.
+     * @param bypassCache True to send the search even if a cached response exists.
+     * @return True if the message was successfully processed by the recipient, false if not.
+     */
+    public Optional<String> sendFullTextSearchQueryMessage(final URI recipient, final String term,
+                                                           final int limit, final int offset,
+                                                           final boolean bypassCache)
+            throws MultipartParseException, ClaimsException, DapsTokenManagerException,
+            IOException {
+        final var key = new BrokerQueryCache.Key(recipient, FULL_TEXT_SEARCH,
+                BrokerQueryCache.normalize(term), limit, offset);
+        return queryCache.get(key, bypassCache, () -> {
+            final var response = brokerSvc.fullTextSearchBroker(recipient, term,
+                    QueryScope.ALL, QueryTarget.BROKER, limit, offset);
+
+            final var msg = String.format("Successfully processed full text search. [url=(%s)]",
+                    recipient);
+            if (validateResponse(response, msg)) {
+                return response.getPayload();
+            }
 
-        return Optional.empty();
+            return Optional.empty();
+        });
     }
 
     /**
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.annotation.PostConstruct;
+
+import io.dataspaceconnector.exception.MessageException;
+import io.dataspaceconnector.util.ErrorMessages;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends ids request messages for a list of elements to the same recipient with bounded
+ * parallelism. The responses are handed out in the order of the elements, so that callers can
+ * process them as if the messages were sent one after another. The number of requests in flight
+ * is limited per recipient across all fan-outs, and the requests of all fan-outs share a bounded
+ * number of threads. Requests exceeding the limit of their recipient wait in a queue of the
+ * recipient instead of in a thread, so that a busy recipient cannot hold the threads needed for
+ * others.
+ */
+@Component
+public class MessageFanOut implements DisposableBean {
+
+    /**
+     * The time in seconds idle threads are kept.
+     */
+    private static final long KEEP_ALIVE = 60;
+
+    /**
+     * Numbers the threads of the executor.
+     */
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * The limits of the recipients with requests in flight or waiting. Only changed while
+     * computing the entry of a recipient.
+     */
+    private final Map<URI, RecipientLimit> limits = new ConcurrentHashMap<>();
+
+    /**
+     * The maximum number of requests sent at once to a recipient. 1 to send them one after another.
+     */
+    @Value("${ids.fan-out.concurrency:4}")
+    private int concurrency;
+
+    /**
+     * The maximum number of threads sending requests for all recipients.
+     */
+    @Value("${ids.fan-out.max-threads:16}")
+    private int maxThreads;
+
+    /**
+     * Runs the requests. Threads are only kept while requests are sent. Null if requests are sent
+     * one after another.
+     */
+    private ThreadPoolExecutor executor;
+
+    /**
+     * Create the executor once the configuration has been injected.
+     */
+    @PostConstruct
+    public void init() {
+        if (concurrency > 1) {
+            final var threads = Math.max(maxThreads, 1);
+            executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        final var thread = new Thread(runnable,
+                                "ids-fan-out-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    /**
+     * Start sending a request for each element.
+     *
+     * @param recipient The recipient of the requests.
+     * @param elements  The requested elements.
+     * @param sender    Sends the request for an element and returns the response.
+     * @return The responses in the order of the elements. Must be closed.
+     */
+    public Responses send(final URI recipient, final List<URI> elements,
+                          final Function<URI, Map<String, String>> sender) {
+        return new Responses(recipient, elements, sender, executor == null ? 1 : concurrency);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Start a request once the recipient has a free slot.
+     *
+     * @param recipient The recipient of the request.
+     * @param task      Sends the request.
+     */
+    private void enqueue(final URI recipient, final FutureTask<?> task) {
+        limits.compute(recipient, (key, value) -> {
+            final var result = value == null ? new RecipientLimit() : value;
+            result.waiting.add(task);
+            return result;
+        });
+        dispatch(recipient, false);
+    }
+
+    /**
+     * Start the waiting requests of a recipient while it has free slots.
+     *
+     * @param recipient The recipient.
+     * @param finished  True if a request of the recipient has just finished.
+     */
+    private void dispatch(final URI recipient, final boolean finished) {
+        final var ready = new ArrayList<FutureTask<?>>();
+        limits.computeIfPresent(recipient, (key, value) -> {
+            if (finished) {
+                value.inFlight--;
+            }
+
+            while (value.inFlight < concurrency && !value.waiting.isEmpty()) {
+                final var task = value.waiting.poll();
+                // Requests cancelled while waiting do not need a slot.
+                if (!task.isDone()) {
+                    value.inFlight++;
+                    ready.add(task);
+                }
+            }
+
+            // Forget recipients without requests in flight.
+            return value.inFlight == 0 ? null : value;
+        });
+
+        for (final var task : ready) {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    dispatch(recipient, true);
+                }
+            });
+        }
+    }
+
+    /**
+     * The requests in flight to a recipient and the requests waiting for a free slot.
+     */
+    private static final class RecipientLimit {
+        /**
+         * The requests waiting for a free slot, in the order they were sent.
+         */
+        private final Queue<FutureTask<?>> waiting = new ArrayDeque<>();
+
+        /**
+         * The number of requests in flight.
+         */
+        private int inFlight;
+    }
+
+    /**
+     * The responses of a fan-out in the order of the requested elements. Closing cancels all
+     * requests whose responses have not been taken yet.
+     */
+    public final class Responses implements AutoCloseable {
+
+        /**
+         * The recipient of the requests.
+         */
+        private final URI recipient;
+
+        /**
+         * The requested elements.
+         */
+        private final List<URI> elements;
+
+        /**
+         * Sends the request for an element.
+         */
+        private final Function<URI, Map<String, String>> sender;
+
+        /**
+         * The maximum number of requests in flight of this fan-out. Requests are sent by the
+         * caller if 1.
+         */
+        private final int limit;
+
+        /**
+         * The pending requests, by the index of their element.
+         */
+        private final Future<?>[] pending;
+
+        /**
+         * The index of the next response to hand out.
+         */
+        private int next;
+
+        /**
+         * Constructor. Starts the first requests.
+         *
+         * @param recipient The recipient of the requests.
+         * @param elements  The requested elements.
+         * @param sender    Sends the request for an element.
+         * @param limit     The maximum number of requests in flight.
+         */
+        private Responses(final URI recipient, final List<URI> elements,
+                          final Function<URI, Map<String, String>> sender, final int limit) {
+            this.recipient = recipient;
+            this.elements = elements;
+            this.sender = sender;
+            this.limit = Math.max(limit, 1);
+            this.pending = new Future<?>[elements.size()];
+
+            if (this.limit > 1) {
+                for (var i = 0; i < Math.min(this.limit, elements.size()); i++) {
+                    submit(i);
+                }
+            }
+        }
+
+        /**
+         * Check if there are responses left.
+         *
+         * @return True if there are responses left.
+         */
+        public boolean hasNext() {
+            return next < elements.size();
+        }
+
+        /**
+         * Wait for the next response in the order of the elements.
+         *
+         * @return The response.
+         * @throws MessageException       If sending the request failed.
+         * @throws NoSuchElementException If all responses have been taken.
+         */
+        @SuppressWarnings("unchecked")
+        public Map<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final var index = next++;
+            if (limit == 1) {
+                return sender.apply(elements.get(index));
+            }
+
+            try {
+                return (Map<String, String>) pending[index].get();
+            } catch (ExecutionException e) {
+                final var cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new MessageException(ErrorMessages.MESSAGE_NOT_SENT.toString(), cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MessageException(ErrorMessages.MESSAGE_NOT_SENT.toString(), e);
+            } finally {
+                pending[index] = null;
+
+                // Keep the number of requests in flight at the limit.
+                if (index + limit < elements.size()) {
+                    submit(index + limit);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            for (var i = next; i < pending.length; i++) {
+                if (pending[i] != null) {
+                    pending[i].cancel(true);
+                    pending[i] = null;
+                }
+            }
+        }
+
+        private void submit(final int index) {
+            final var element = elements.get(index);
+            final var task = new FutureTask<>(() -> sender.apply(element));
+            pending[index] = task;
+            enqueue(recipient, task);
+        }
+    }
+}
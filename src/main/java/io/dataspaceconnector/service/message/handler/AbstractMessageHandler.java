@@ -58,9 +58,15 @@ public abstract class AbstractMessageHandler<T extends Message> implements Messa
      */
     private final @NonNull ConnectorService connectorService;
 
+    /**
+     * Limits the messages processed at once per route.
+     */
+    private final @NonNull MessageHandlerLimiter limiter;
+
     /**
      * This message implements the logic that is needed to handle the message. It creates an
      * {@link org.apache.camel.Exchange} and triggers the route specified by the implementing class.
+     * If the route is saturated, the message is rejected as temporarily not available.
      *
      * @param message The request message.
      * @param payload The message payload.
@@ -69,7 +75,24 @@ public abstract class AbstractMessageHandler<T extends Message> implements Messa
      */
     public MessageResponse handleMessage(final T message,
                                          final MessagePayload payload) throws RuntimeException {
-        final var result = template.send(getHandlerRouteDirect(),
+        final var route = getHandlerRouteDirect();
+        if (!limiter.tryAcquire(route)) {
+            return ErrorResponse.withDefaultHeader(RejectionReason.TEMPORARILY_NOT_AVAILABLE,
+                    "Too many requests. Please try again later.",
+                    connectorService.getConnectorId(),
+                    connectorService.getOutboundModelVersion());
+        }
+
+        try {
+            return process(route, message, payload);
+        } finally {
+            limiter.release(route);
+        }
+    }
+
+    private MessageResponse process(final String route, final T message,
+                                    final MessagePayload payload) {
+        final var result = template.send(route,
                 ExchangeBuilder.anExchange(context)
                         .withBody(new Request<>(message, payload))
                         .build());
@@ -39,11 +39,13 @@ public class ArtifactRequestHandler extends AbstractMessageHandler<ArtifactReque
      * @param template Template for triggering Camel routes.
      * @param context The CamelContext required for constructing the {@link ProducerTemplate}.
      * @param connectorService Service for the current connector configuration.
+     * @param limiter Limits the messages processed at once per route.
      */
     public ArtifactRequestHandler(final ProducerTemplate template,
                                   final CamelContext context,
-                                  final ConnectorService connectorService) {
-        super(template, context, connectorService);
+                                  final ConnectorService connectorService,
+                                  final MessageHandlerLimiter limiter) {
+        super(template, context, connectorService, limiter);
     }
 
     /**
@@ -39,11 +39,13 @@ public class DescriptionRequestHandler
      * @param template Template for triggering Camel routes.
      * @param context The CamelContext required for constructing the {@link ProducerTemplate}.
      * @param connectorService Service for the current connector configuration.
+     * @param limiter Limits the messages processed at once per route.
      */
     public DescriptionRequestHandler(final ProducerTemplate template,
                                      final CamelContext context,
-                                     final ConnectorService connectorService) {
-        super(template, context, connectorService);
+                                     final ConnectorService connectorService,
+                                     final MessageHandlerLimiter limiter) {
+        super(template, context, connectorService, limiter);
     }
 
     /**
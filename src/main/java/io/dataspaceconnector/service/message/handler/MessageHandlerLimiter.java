@@ -0,0 +1,329 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message.handler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits the number of incoming messages processed at once per handler route. Messages exceeding
+ * the limit wait in a bounded queue. Messages that do not fit into the queue or wait too long are
+ * rejected, so that slow routes cannot occupy all request threads.
+ *
+ * <p>The limits of a route are configured with {@code ids.handler.<route>.concurrency},
+ * {@code ids.handler.<route>.queue-size}, and {@code ids.handler.<route>.queue-timeout}, e.g.
+ * {@code ids.handler.artifactRequestHandler.concurrency}. Routes without own limits use
+ * {@code ids.handler.concurrency}, {@code ids.handler.queue-size}, and
+ * {@code ids.handler.queue-timeout}. A concurrency of 0 disables the limit.</p>
+ *
+ * <p>Waiting messages hold a request thread. The sum of concurrency and queue size over all
+ * limited routes has to stay below {@code server.tomcat.threads.max}, otherwise the limited
+ * routes can still occupy all request threads. A warning is logged if it does not.</p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class MessageHandlerLimiter implements MeterBinder {
+
+    /**
+     * The prefix of the configuration properties.
+     */
+    private static final String PREFIX = "ids.handler.";
+
+    /**
+     * The suffix of the concurrency property of a route.
+     */
+    private static final String CONCURRENCY = ".concurrency";
+
+    /**
+     * The configuration.
+     */
+    private final @NonNull Environment environment;
+
+    /**
+     * The limits per route name.
+     */
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    /**
+     * The maximum number of messages processed at once per route, if not configured for the
+     * route. 0 for no limit.
+     */
+    @Value("${ids.handler.concurrency:0}")
+    private int defaultConcurrency;
+
+    /**
+     * The maximum number of messages waiting per route, if not configured for the route.
+     */
+    @Value("${ids.handler.queue-size:10}")
+    private int defaultQueueSize;
+
+    /**
+     * The maximum time a message waits, in milliseconds, if not configured for the route.
+     */
+    @Value("${ids.handler.queue-timeout:5000}")
+    private long defaultQueueTimeout;
+
+    /**
+     * The number of request threads of the server.
+     */
+    @Value("${server.tomcat.threads.max:200}")
+    private int maxThreads;
+
+    /**
+     * The number of request threads the limited routes may hold together.
+     */
+    private final AtomicInteger reservedThreads = new AtomicInteger();
+
+    /**
+     * The registry the meters of new routes are bound to. Null until bound.
+     */
+    private volatile MeterRegistry meterRegistry;
+
+    /**
+     * Create the limits of the routes configured with an own concurrency, so that a
+     * configuration holding all request threads is reported at startup.
+     */
+    @PostConstruct
+    public void init() {
+        if (!(environment instanceof ConfigurableEnvironment)) {
+            return;
+        }
+
+        for (final var source : ((ConfigurableEnvironment) environment).getPropertySources()) {
+            if (!(source instanceof EnumerablePropertySource)) {
+                continue;
+            }
+
+            for (final var key : ((EnumerablePropertySource<?>) source).getPropertyNames()) {
+                if (key.startsWith(PREFIX) && key.endsWith(CONCURRENCY)
+                        && key.length() > PREFIX.length() + CONCURRENCY.length()) {
+                    getBulkheadByName(key.substring(PREFIX.length(),
+                            key.length() - CONCURRENCY.length()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reserve a slot for processing a message in a route. Waits if the route is saturated.
+     * A successful call has to be followed by {@link #release(String)}.
+     *
+     * @param route The route, e.g. {@code direct:artifactRequestHandler}.
+     * @return True if the message may be processed, false if it has to be rejected.
+     */
+    public boolean tryAcquire(final String route) {
+        final var bulkhead = getBulkhead(route);
+        if (bulkhead.tryAcquire()) {
+            return true;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Rejected message, handler route is saturated. [route=({}), "
+                    + "active=({}), queued=({})]", route, bulkhead.getActive().get(),
+                    bulkhead.getQueued().get());
+        }
+        return false;
+    }
+
+    /**
+     * Release the slot of a processed message.
+     *
+     * @param route The route.
+     */
+    public void release(final String route) {
+        getBulkhead(route).release();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        meterRegistry = registry;
+        for (final var bulkhead : bulkheads.values()) {
+            bulkhead.bindTo(registry);
+        }
+    }
+
+    private Bulkhead getBulkhead(final String route) {
+        return getBulkheadByName(route.substring(route.indexOf(':') + 1));
+    }
+
+    private Bulkhead getBulkheadByName(final String name) {
+        return bulkheads.computeIfAbsent(name, x -> {
+            final var bulkhead = new Bulkhead(name,
+                    getProperty(name, "concurrency", Integer.class, defaultConcurrency),
+                    getProperty(name, "queue-size", Integer.class, defaultQueueSize),
+                    getProperty(name, "queue-timeout", Long.class, defaultQueueTimeout));
+
+            final var registry = meterRegistry;
+            if (registry != null) {
+                bulkhead.bindTo(registry);
+            }
+
+            reserve(name, bulkhead);
+            return bulkhead;
+        });
+    }
+
+    private void reserve(final String route, final Bulkhead bulkhead) {
+        if (!bulkhead.isLimited()) {
+            return;
+        }
+
+        final var reserved = reservedThreads.addAndGet(bulkhead.getMaxThreads());
+        if (reserved >= maxThreads && log.isWarnEnabled()) {
+            log.warn("Limited handler routes may hold all request threads. Lower "
+                    + "ids.handler.<route>.concurrency or queue-size. [route=({}), "
+                    + "reserved=({}), maxThreads=({})]", route, reserved, maxThreads);
+        }
+    }
+
+    private <V> V getProperty(final String route, final String key, final Class<V> type,
+                              final V defaultValue) {
+        return environment.getProperty(PREFIX + route + "." + key, type, defaultValue);
+    }
+
+    /**
+     * The limits and state of a route.
+     */
+    private static final class Bulkhead {
+        /**
+         * The name of the route.
+         */
+        private final String name;
+
+        /**
+         * The free slots. Null if the route is not limited.
+         */
+        private final Semaphore permits;
+
+        /**
+         * The maximum number of waiting messages.
+         */
+        private final int queueSize;
+
+        /**
+         * The maximum time a message waits, in milliseconds.
+         */
+        private final long queueTimeout;
+
+        /**
+         * The maximum number of messages processed at once. 0 if the route is not limited.
+         */
+        private final int concurrency;
+
+        /**
+         * The number of messages being processed.
+         */
+        @Getter
+        private final AtomicInteger active = new AtomicInteger();
+
+        /**
+         * The number of waiting messages.
+         */
+        @Getter
+        private final AtomicInteger queued = new AtomicInteger();
+
+        /**
+         * The number of rejected messages.
+         */
+        private final AtomicLong rejected = new AtomicLong();
+
+        Bulkhead(final String name, final int concurrency, final int queueSize,
+                 final long queueTimeout) {
+            this.name = name;
+            this.concurrency = Math.max(concurrency, 0);
+            this.permits = concurrency > 0 ? new Semaphore(concurrency, true) : null;
+            this.queueSize = Math.max(queueSize, 0);
+            this.queueTimeout = Math.max(queueTimeout, 0);
+        }
+
+        boolean isLimited() {
+            return permits != null;
+        }
+
+        int getMaxThreads() {
+            return concurrency + queueSize;
+        }
+
+        boolean tryAcquire() {
+            if (permits == null || permits.tryAcquire()) {
+                active.incrementAndGet();
+                return true;
+            }
+
+            if (queued.incrementAndGet() > queueSize) {
+                queued.decrementAndGet();
+                rejected.incrementAndGet();
+                return false;
+            }
+
+            try {
+                if (permits.tryAcquire(queueTimeout, TimeUnit.MILLISECONDS)) {
+                    active.incrementAndGet();
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                queued.decrementAndGet();
+            }
+
+            rejected.incrementAndGet();
+            return false;
+        }
+
+        void release() {
+            active.decrementAndGet();
+            if (permits != null) {
+                permits.release();
+            }
+        }
+
+        void bindTo(final MeterRegistry registry) {
+            Gauge.builder("dsc.messages.inbound.active", active, AtomicInteger::get)
+                    .description("Incoming IDS messages being processed.")
+                    .tag("route", name)
+                    .register(registry);
+            Gauge.builder("dsc.messages.inbound.queued", queued, AtomicInteger::get)
+                    .description("Incoming IDS messages waiting for a free slot.")
+                    .tag("route", name)
+                    .register(registry);
+            FunctionCounter.builder("dsc.messages.inbound.rejected", rejected, AtomicLong::get)
+                    .description("Incoming IDS messages rejected because the route was busy.")
+                    .tag("route", name)
+                    .register(registry);
+        }
+    }
+}
@@ -40,11 +40,13 @@ public class ResourceUpdateMessageHandler
      * @param template Template for triggering Camel routes.
      * @param context The CamelContext required for constructing the {@link ProducerTemplate}.
      * @param connectorService Service for the current connector configuration.
+     * @param limiter Limits the messages processed at once per route.
      */
     public ResourceUpdateMessageHandler(final ProducerTemplate template,
                                         final CamelContext context,
-                                        final ConnectorService connectorService) {
-        super(template, context, connectorService);
+                                        final ConnectorService connectorService,
+                                        final MessageHandlerLimiter limiter) {
+        super(template, context, connectorService, limiter);
     }
 
     /**
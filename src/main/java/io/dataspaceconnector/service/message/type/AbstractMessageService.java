@@ -31,6 +31,9 @@ import io.dataspaceconnector.service.ids.ConnectorService;
 import io.dataspaceconnector.service.ids.DeserializationService;
 import io.dataspaceconnector.util.ErrorMessages;
 import io.dataspaceconnector.util.MessageUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -39,8 +42,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Abstract class for building, sending, and processing ids messages.
@@ -50,7 +55,17 @@ import java.util.Map;
 @Log4j2
 @Getter(AccessLevel.PROTECTED)
 @Setter(AccessLevel.NONE)
-public abstract class AbstractMessageService<D extends MessageDesc> {
+public abstract class AbstractMessageService<D extends MessageDesc> implements MeterBinder {
+
+    /**
+     * The name of the timer measuring outgoing messages.
+     */
+    private static final String OUTBOUND_TIMER = "dsc.messages.outbound";
+
+    /**
+     * The outcome of messages that have been answered.
+     */
+    private static final String OUTCOME_SUCCESS = "success";
 
     /**
      * Service for ids communication.
@@ -70,6 +85,12 @@ public abstract class AbstractMessageService<D extends MessageDesc> {
     @Autowired
     private DeserializationService deserializer;
 
+    /**
+     * The registry of the outbound message metrics. Null until bound to a registry.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile MeterRegistry meterRegistry;
+
     /**
      * Build ids message with params.
      *
@@ -105,7 +126,16 @@ public abstract class AbstractMessageService<D extends MessageDesc> {
             }
 
             // Send message and return response. TODO Log outgoing messages.
-            return idsHttpService.sendAndCheckDat(body, recipient);
+            final var start = System.nanoTime();
+            var outcome = OUTCOME_SUCCESS;
+            try {
+                return idsHttpService.sendAndCheckDat(body, recipient);
+            } catch (Exception e) {
+                outcome = e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                recordOutbound(recipient, outcome, System.nanoTime() - start);
+            }
         } catch (MessageBuilderException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Failed to build ids request message. [exception=({})]",
@@ -149,6 +179,37 @@ public abstract class AbstractMessageService<D extends MessageDesc> {
         }
     }
 
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        meterRegistry = registry;
+    }
+
+    /**
+     * Record the latency and outcome of an outgoing message per recipient. Recipients are
+     * identified by scheme, host, and port to keep the number of timers bounded.
+     *
+     * @param recipient The recipient.
+     * @param outcome   The simple name of the exception or success.
+     * @param nanos     The time until the response has been received.
+     */
+    private void recordOutbound(final URI recipient, final String outcome, final long nanos) {
+        final var registry = meterRegistry;
+        if (registry == null) {
+            return;
+        }
+
+        final var host = recipient == null || recipient.getHost() == null ? "unknown"
+                : recipient.getScheme() + "://" + recipient.getHost()
+                + (recipient.getPort() < 0 ? "" : ":" + recipient.getPort());
+        Timer.builder(OUTBOUND_TIMER)
+                .description("Latency of outgoing ids messages per recipient.")
+                .tag("recipient", host)
+                .tag("message", getClass().getSimpleName())
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Checks if the response message is of the right type.
      *
@@ -16,6 +16,7 @@
 package io.dataspaceconnector.service.message.type;
 
 import de.fraunhofer.iais.eis.DescriptionRequestMessageBuilder;
+import de.fraunhofer.iais.eis.DescriptionRequestMessageImpl;
 import de.fraunhofer.iais.eis.DescriptionResponseMessageImpl;
 import de.fraunhofer.iais.eis.Message;
 import de.fraunhofer.iais.eis.util.ConstraintViolationException;
@@ -25,6 +26,7 @@ import io.dataspaceconnector.exception.MessageException;
 import io.dataspaceconnector.exception.MessageResponseException;
 import io.dataspaceconnector.model.message.DescriptionRequestMessageDesc;
 import io.dataspaceconnector.util.ErrorMessages;
+import io.dataspaceconnector.util.MessageUtils;
 import io.dataspaceconnector.util.Utils;
 import org.springframework.stereotype.Service;
 
@@ -55,7 +57,7 @@ public final class DescriptionRequestService
         final var recipient = desc.getRecipient();
         final var elementId = desc.getRequestedElement();
 
-        return new DescriptionRequestMessageBuilder()
+        final var message = (DescriptionRequestMessageImpl) new DescriptionRequestMessageBuilder()
                 ._issued_(IdsMessageUtils.getGregorianNow())
                 ._modelVersion_(modelVersion)
                 ._issuerConnector_(connectorId)
@@ -64,6 +66,18 @@ public final class DescriptionRequestService
                 ._securityToken_(token)
                 ._recipientConnector_(Util.asList(recipient))
                 .build();
+
+        if (desc.getDepth() != null) {
+            message.setProperty(MessageUtils.DESCRIPTION_DEPTH, desc.getDepth());
+        }
+        if (desc.getPage() != null) {
+            message.setProperty(MessageUtils.DESCRIPTION_PAGE, desc.getPage());
+        }
+        if (desc.getSize() != null) {
+            message.setProperty(MessageUtils.DESCRIPTION_SIZE, desc.getSize());
+        }
+
+        return message;
     }
 
     @Override
@@ -81,7 +95,20 @@ public final class DescriptionRequestService
      */
     public Map<String, String> sendMessage(final URI recipient, final URI elementId)
             throws MessageException {
-        return send(new DescriptionRequestMessageDesc(recipient, elementId), "");
+        return sendMessage(new DescriptionRequestMessageDesc(recipient, elementId));
+    }
+
+    /**
+     * Build and send a description request message, e.g. for a page of a catalog's offered
+     * resources up to a limited depth.
+     *
+     * @param desc The message parameters.
+     * @return The response map.
+     * @throws MessageException If message handling failed.
+     */
+    public Map<String, String> sendMessage(final DescriptionRequestMessageDesc desc)
+            throws MessageException {
+        return send(desc, "");
     }
 
     /**
@@ -22,13 +22,18 @@ import lombok.NoArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.net.URI;
+import java.util.Optional;
+import java.util.UUID;
+
 /**
  * Handles the basic logic for contracts.
  */
 @Service
 @NoArgsConstructor
 @Transactional
-public class AgreementService extends BaseEntityService<Agreement, AgreementDesc> {
+public class AgreementService extends BaseEntityService<Agreement, AgreementDesc>
+        implements RemoteResolver {
 
     /**
      * Compares the agreement with the persisted one. If they are equal the agreement
@@ -44,9 +49,19 @@ public class AgreementService extends BaseEntityService<Agreement, AgreementDesc
         if (persisted.equals(agreement)) {
             final var repo = (AgreementRepository) getRepository();
             repo.confirmAgreement(agreement.getId());
+            getPublisher().publishEvent(new EntityChangedEvent(persisted, false));
             isConfirmed = true;
         }
 
         return isConfirmed;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<UUID> identifyByRemoteId(final URI remoteId) {
+        final var repo = (AgreementRepository) getRepository();
+        return repo.identifyByRemoteId(remoteId);
+    }
 }
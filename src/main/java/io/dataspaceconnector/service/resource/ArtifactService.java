@@ -28,7 +28,9 @@ import io.dataspaceconnector.repository.ArtifactRepository;
 import io.dataspaceconnector.repository.DataRepository;
 import io.dataspaceconnector.service.ArtifactRetriever;
 import io.dataspaceconnector.service.HttpService;
+import io.dataspaceconnector.service.usagecontrol.AgreementSelector;
 import io.dataspaceconnector.service.usagecontrol.PolicyVerifier;
+import io.dataspaceconnector.service.usagecontrol.UsageQuotaService;
 import io.dataspaceconnector.service.usagecontrol.VerificationResult;
 import io.dataspaceconnector.util.ErrorMessages;
 import io.dataspaceconnector.util.Utils;
@@ -47,6 +49,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -70,6 +73,18 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      **/
     private final @NonNull HttpService httpSvc;
 
+    /**
+     * Selects the agreement used for data access on consumer side.
+     **/
+    @Autowired
+    private AgreementSelector agreementSelector;
+
+    /**
+     * Counts the data accesses.
+     **/
+    @Autowired
+    private UsageQuotaService usageQuota;
+
     /**
      * Constructor for ArtifactService.
      *
@@ -116,8 +131,8 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
     }
 
     /**
-     * Get the artifacts data. If agreements for this resource exist, all of them will be tried for
-     * data access.
+     * Get the artifacts data. If agreements for this resource exist, the most promising of them
+     * will be used for data access.
      *
      * @param accessVerifier Checks if the data access should be allowed.
      * @param retriever      Retrieves the data from an external source.
@@ -139,37 +154,17 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
          * NOTE: Check if agreements with remoteIds are set for this artifact. If such agreements
          * exist the artifact must be assigned to a requested resource. The data access should
          * now be treated from the perspective of the data consumer. Since no knowledge which
-         * agreement applies has been passed we need to query the database for all viable agreements
-         * and try accessing the data till one of them returns the data. If none of them returns
-         * the data it means all data access has been forbidden. Do not proceed.
+         * agreement applies has been passed we need to query the database for all viable
+         * agreements and select the one whose policies still allow the access. If none of them
+         * does it means all data access has been forbidden. Do not proceed.
          */
         final var agreements =
                 ((ArtifactRepository) getRepository()).findRemoteOriginAgreements(artifactId);
         if (agreements.size() > 0) {
-            var policyException = new PolicyRestrictionException(ErrorMessages.POLICY_RESTRICTION);
-            for (final var agRemoteId : agreements) {
-                try {
-                    final var info = new RetrievalInformation(agRemoteId, null, queryInput);
-                    return getData(accessVerifier, retriever, artifactId, info);
-                } catch (PolicyRestrictionException exception) {
-                    // Access denied, log it and try the next agreement.
-                    if (log.isDebugEnabled()) {
-                        log.debug("Tried to access artifact data by trying an agreement. "
-                                        + "[artifactId=({}), agreementId=({})]",
-                                artifactId, agRemoteId);
-                    }
-
-                    policyException = exception;
-                }
-            }
-
-            // All attempts on accessing data failed. Deny access with the last rejection reason.
-            if (log.isDebugEnabled()) {
-                log.debug("The requested resource is not owned by this connector."
-                        + " Access forbidden. [artifactId=({})]", artifactId);
-            }
-
-            throw policyException;
+            // Throws with the reason of the last rejected agreement if none is viable.
+            final var agreement = agreementSelector.select(get(artifactId), agreements);
+            final var info = new RetrievalInformation(agreement, null, queryInput);
+            return getData(accessVerifier, retriever, artifactId, info);
         }
 
         // The artifact is not assigned to any requested resources. It must be offered if it exists.
@@ -206,23 +201,28 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
             throw new PolicyRestrictionException(ErrorMessages.POLICY_RESTRICTION);
         }
 
-        // Make sure the data exists and is up to date.
-        final var shouldDownload = shouldDownload(artifact, information.getForceDownload());
-        if (shouldDownload) {
-            /*
-                NOTE: Make this not blocking.
-             */
-            final var dataStream = retriever.retrieve(artifactId,
-                    artifact.getRemoteAddress(), information.getTransferContract(),
-                    information.getQueryInput());
-            final var persistedData = setData(artifactId, dataStream);
-            artifact.incrementAccessCounter();
-            persist(artifact);
-            return persistedData;
-        }
+        try {
+            // Make sure the data exists and is up to date.
+            final var shouldDownload = shouldDownload(artifact, information.getForceDownload());
+            if (shouldDownload) {
+                /*
+                    NOTE: Make this not blocking.
+                 */
+                final var dataStream = retriever.retrieve(artifactId,
+                        artifact.getRemoteAddress(), information.getTransferContract(),
+                        information.getQueryInput());
+                final var persistedData = setData(artifactId, dataStream);
+                usageQuota.recordAccess(artifactId);
+                return persistedData;
+            }
 
-        // Artifact exists, access granted, data exists and data up to date.
-        return getDataFromInternalDB((ArtifactImpl) artifact, null);
+            // Artifact exists, access granted, data exists and data up to date.
+            return getDataFromInternalDB((ArtifactImpl) artifact, null);
+        } catch (IOException | RuntimeException exception) {
+            // No data has been delivered, give back the access granted by the verifier.
+            usageQuota.release(artifactId);
+            throw exception;
+        }
     }
 
     /**
@@ -246,8 +246,7 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
             throw new UnreachableLineException("Unknown data type.");
         }
 
-        artifact.incrementAccessCounter();
-        persist(artifact);
+        usageQuota.recordAccess(artifact.getId());
 
         return rawData;
     }
@@ -319,6 +318,22 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         return ((ArtifactRepository) getRepository()).findAllByAgreement(agreementId);
     }
 
+    /**
+     * Finds all artifacts with the given ids. Their agreements are loaded with the same query.
+     *
+     * @param artifactIds The ids of the artifacts.
+     * @return List of the artifacts that exist. Unknown ids are ignored.
+     * @throws IllegalArgumentException if the passed collection is null.
+     */
+    public List<Artifact> getAllWithAgreements(final Collection<UUID> artifactIds) {
+        Utils.requireNonNull(artifactIds, ErrorMessages.LIST_NULL);
+        if (artifactIds.isEmpty()) {
+            return List.of();
+        }
+
+        return ((ArtifactRepository) getRepository()).findAllWithAgreementsByIdIn(artifactIds);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -356,6 +371,7 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
                     ((ArtifactRepository) getRepository()).setArtifactData(artifactId,
                             artifact.getCheckSum(),
                             artifact.getByteSize());
+                    getPublisher().publishEvent(new EntityChangedEvent(artifact, false));
                 }
 
                 return new ByteArrayInputStream(bytes);
@@ -28,6 +28,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -52,6 +53,12 @@ public class BaseEntityService<T extends AbstractEntity, D extends AbstractDescr
     @Autowired
     private AbstractFactory<T, D> factory;
 
+    /**
+     * Notifies listeners about changed entities.
+     **/
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
     /**
      * Default constructor.
      */
@@ -147,7 +154,9 @@ public class BaseEntityService<T extends AbstractEntity, D extends AbstractDescr
      */
     public void delete(final UUID entityId) {
         Utils.requireNonNull(entityId, ErrorMessages.ENTITYID_NULL);
+        final var entity = repository.findById(entityId);
         repository.deleteById(entityId);
+        entity.ifPresent(x -> publisher.publishEvent(new EntityChangedEvent(x, true)));
     }
 
     /**
@@ -157,6 +166,8 @@ public class BaseEntityService<T extends AbstractEntity, D extends AbstractDescr
      * @return The persisted entity.
      */
     protected T persist(final T entity) {
-        return repository.saveAndFlush(entity);
+        final var persisted = repository.saveAndFlush(entity);
+        publisher.publishEvent(new EntityChangedEvent(entity, false));
+        return persisted;
     }
 }
@@ -15,24 +15,38 @@
  */
 package io.dataspaceconnector.service.resource;
 
+import de.fraunhofer.iais.eis.Rule;
 import io.dataspaceconnector.model.Contract;
 import io.dataspaceconnector.model.ContractDesc;
+import io.dataspaceconnector.model.ContractFactory;
 import io.dataspaceconnector.repository.ContractRepository;
+import io.dataspaceconnector.service.ids.DeserializationService;
 import io.dataspaceconnector.util.ErrorMessages;
+import io.dataspaceconnector.util.RuleUtils;
 import io.dataspaceconnector.util.Utils;
 import lombok.NoArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Handles the basic logic for contracts.
  */
+@Log4j2
 @Service
 @NoArgsConstructor
 public class ContractService extends BaseEntityService<Contract, ContractDesc> {
 
+    /**
+     * Service for deserializing the contract's rules.
+     */
+    @Autowired
+    private DeserializationService deserializationService;
+
     /**
      * Finds all contracts applicable for a specific artifact.
      *
@@ -44,4 +58,39 @@ public class ContractService extends BaseEntityService<Contract, ContractDesc> {
         return ((ContractRepository) getRepository()).findAllByArtifactId(artifactId);
     }
 
+    /**
+     * Persist the contract and update the fingerprint of its rules.
+     *
+     * @param contract The contract to persist.
+     * @return The persisted contract.
+     */
+    @Override
+    protected Contract persist(final Contract contract) {
+        final var factory = (ContractFactory) getFactory();
+        factory.updateRuleFingerprint(contract, computeRuleFingerprint(contract));
+        return super.persist(contract);
+    }
+
+    private String computeRuleFingerprint(final Contract contract) {
+        final var rules = contract.getRules();
+        if (rules == null) {
+            return RuleUtils.getRuleFingerprint(null);
+        }
+
+        try {
+            final var idsRules = new ArrayList<Rule>();
+            for (final var rule : rules) {
+                idsRules.add(deserializationService.getStoredRule(rule.getValue()));
+            }
+
+            return RuleUtils.getRuleFingerprint(idsRules);
+        } catch (IllegalArgumentException exception) {
+            // The contract can still be matched by comparing its rules one by one.
+            if (log.isDebugEnabled()) {
+                log.debug("Could not compute rule fingerprint. [contractId=({}), "
+                        + "exception=({})]", contract.getId(), exception.getMessage());
+            }
+            return null;
+        }
+    }
 }
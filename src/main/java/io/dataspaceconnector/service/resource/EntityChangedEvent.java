@@ -13,22 +13,26 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package io.dataspaceconnector.model;
+package io.dataspaceconnector.service.resource;
 
-import org.junit.jupiter.api.Test;
+import io.dataspaceconnector.model.AbstractEntity;
+import lombok.Data;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-
-public class ArtifactTests {
-
-    @Test
-    public void randomTests() {
-        ArtifactDesc desc = new ArtifactDesc();
-        ArtifactFactory factory = new ArtifactFactory();
-        var artifact = factory.create(desc);
-
-        artifact.incrementAccessCounter();
+/**
+ * Published whenever a persistent entity has been created, updated or deleted.
+ */
+@Data
+@RequiredArgsConstructor
+public class EntityChangedEvent {
+    /**
+     * The changed entity.
+     */
+    private final @NonNull AbstractEntity entity;
 
-        assertEquals(1, artifact.getNumAccessed());
-    }
+    /**
+     * Whether the entity has been deleted.
+     */
+    private final boolean deleted;
 }
@@ -0,0 +1,601 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.resource;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.repository.OfferedResourcesRepository;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps an in-memory full-text and facet index over the offered resources. The index is built
+ * once the application has started and updated whenever an offered resource is created, updated
+ * or deleted. Searches never access the database.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class OfferedResourceSearchIndex {
+
+    /**
+     * The weight of a term found in the title.
+     */
+    private static final int TITLE_WEIGHT = 3;
+
+    /**
+     * The weight of a term found in the keywords.
+     */
+    private static final int KEYWORD_WEIGHT = 2;
+
+    /**
+     * The weight of a term found in the description.
+     */
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    /**
+     * The number of offered resources loaded at once while building the index.
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * The maximum number of values returned per facet.
+     */
+    private static final int FACET_LIMIT = 20;
+
+    /**
+     * The order of search hits: best score first, then by title.
+     */
+    private static final Comparator<Hit> HIT_ORDER = Comparator
+            .comparingInt(Hit::getScore).reversed()
+            .thenComparing(hit -> hit.getDocument().getTitle(),
+                    Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(hit -> hit.getDocument().getId());
+
+    /**
+     * The attributes of an offered resource that can be used for filtering.
+     */
+    public enum Facet {
+        /**
+         * The publisher of the resource.
+         */
+        PUBLISHER,
+
+        /**
+         * The language of the resource.
+         */
+        LANGUAGE,
+
+        /**
+         * The license of the resource.
+         */
+        LICENSE,
+
+        /**
+         * A keyword of the resource.
+         */
+        KEYWORD
+    }
+
+    /**
+     * The repository for loading offered resources.
+     */
+    private final @NonNull OfferedResourcesRepository repository;
+
+    /**
+     * The transaction manager for loading offered resources outside of requests.
+     */
+    private final @NonNull PlatformTransactionManager transactionManager;
+
+    /**
+     * Guards the index.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The current index.
+     */
+    private Index index = new Index();
+
+    /**
+     * The offered resources changed while the index is being rebuilt. Null if no rebuild is
+     * running.
+     */
+    private Set<UUID> changedDuringRebuild;
+
+    /**
+     * Build the index from all offered resources. Changes during the rebuild are kept. If the
+     * offered resources cannot be loaded, the current index is kept.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        final var fresh = new Index();
+        try {
+            final var template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(true);
+            var pageable = PageRequest.of(0, BATCH_SIZE, Sort.by("id"));
+            var hasNext = true;
+            while (hasNext) {
+                final var current = pageable;
+                hasNext = Boolean.TRUE.equals(template.execute(status -> {
+                    final var page = repository.findAll(current);
+                    for (final var resource : page) {
+                        fresh.add(Document.of(resource));
+                    }
+                    return page.hasNext();
+                }));
+                pageable = pageable.next();
+            }
+        } catch (RuntimeException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to build offered resource search index. [exception=({})]",
+                        e.getMessage(), e);
+            }
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // The current index already contains the latest state of these resources.
+            for (final var resourceId : changedDuringRebuild) {
+                fresh.remove(resourceId);
+                final var document = index.getDocuments().get(resourceId);
+                if (document != null) {
+                    fresh.add(document);
+                }
+            }
+            changedDuringRebuild = null;
+            index = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (log.isInfoEnabled()) {
+            log.info("Built offered resource search index. [resources=({})]",
+                    fresh.getDocuments().size());
+        }
+    }
+
+    /**
+     * Updates the index for a changed offered resource. Called after the change has been
+     * committed.
+     *
+     * @param event The event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        final var entity = event.getEntity();
+        if (!(entity instanceof OfferedResource) || entity.getId() == null) {
+            return;
+        }
+
+        final var resourceId = entity.getId();
+        Document document = null;
+        if (!event.isDeleted()) {
+            // Reload the resource, the passed entity may be detached.
+            final var template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(true);
+            document = template.execute(status -> repository.findById(resourceId)
+                    .map(Document::of)
+                    .orElse(null));
+        }
+
+        lock.writeLock().lock();
+        try {
+            final var previous = index.getDocuments().get(resourceId);
+            if (document != null && previous != null && isOlder(document, previous)) {
+                // A newer state has been indexed concurrently.
+                return;
+            }
+
+            index.remove(resourceId);
+            if (document != null) {
+                index.add(document);
+            }
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(resourceId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Search the offered resources. All terms of the query have to occur in the title, keywords,
+     * or description and all filters have to match.
+     *
+     * @param query   The search terms. Null or blank to match all offered resources.
+     * @param filters The required value per facet.
+     * @param offset  The number of hits to skip.
+     * @param size    The maximum number of hits to return.
+     * @return The hits and the facet values of all matching offered resources.
+     */
+    public Result search(final String query, final Map<Facet, String> filters,
+                         final long offset, final int size) {
+        lock.readLock().lock();
+        try {
+            final var hits = index.match(tokenize(query).keySet(), filters);
+
+            final var facets = new EnumMap<Facet, Map<String, Integer>>(Facet.class);
+            for (final var facet : Facet.values()) {
+                facets.put(facet, countValues(hits, facet));
+            }
+
+            return new Result(hits.size(), getPage(hits, offset, size), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<UUID> getPage(final List<Hit> hits, final long offset, final int size) {
+        if (offset >= hits.size() || size <= 0) {
+            return List.of();
+        }
+
+        // Only keep the hits up to the requested page.
+        final var limit = (int) Math.min(hits.size(), offset + size);
+        final var best = new PriorityQueue<Hit>(limit, HIT_ORDER.reversed());
+        for (final var hit : hits) {
+            best.add(hit);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        final var sorted = new ArrayList<>(best);
+        sorted.sort(HIT_ORDER);
+        final var page = new ArrayList<UUID>(size);
+        for (var i = (int) offset; i < sorted.size(); i++) {
+            page.add(sorted.get(i).getDocument().getId());
+        }
+
+        return page;
+    }
+
+    private static Map<String, Integer> countValues(final List<Hit> hits, final Facet facet) {
+        final var counts = new HashMap<String, Integer>();
+        for (final var hit : hits) {
+            for (final var value : hit.getDocument().getFacetValues(facet)) {
+                counts.merge(value, 1, Integer::sum);
+            }
+        }
+
+        final var entries = new ArrayList<>(counts.entrySet());
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        final var result = new LinkedHashMap<String, Integer>();
+        for (final var entry : entries.subList(0, Math.min(FACET_LIMIT, entries.size()))) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+
+        return result;
+    }
+
+    private static boolean isOlder(final Document document, final Document other) {
+        final var date = document.getModificationDate();
+        final var otherDate = other.getModificationDate();
+        return date != null && otherDate != null && date.isBefore(otherDate);
+    }
+
+    /**
+     * Split a text into lower case terms.
+     *
+     * @param text The text.
+     * @return The terms and how often they occur.
+     */
+    static Map<String, Integer> tokenize(final String text) {
+        final var terms = new HashMap<String, Integer>();
+        if (text == null) {
+            return terms;
+        }
+
+        var start = -1;
+        for (var i = 0; i <= text.length(); i++) {
+            final var isTermChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isTermChar && start < 0) {
+                start = i;
+            } else if (!isTermChar && start >= 0) {
+                terms.merge(text.substring(start, i).toLowerCase(Locale.ROOT), 1, Integer::sum);
+                start = -1;
+            }
+        }
+
+        return terms;
+    }
+
+    /**
+     * The result of a search.
+     */
+    @Data
+    @AllArgsConstructor
+    public static final class Result {
+        /**
+         * The number of matching offered resources.
+         */
+        private final int total;
+
+        /**
+         * The ids of the requested page of matching offered resources, best match first.
+         */
+        private final List<UUID> resources;
+
+        /**
+         * The most frequent values and their number of matching offered resources per facet.
+         */
+        private final Map<Facet, Map<String, Integer>> facets;
+    }
+
+    /**
+     * A matching offered resource.
+     */
+    @Data
+    @AllArgsConstructor
+    private static final class Hit {
+        /**
+         * The indexed offered resource.
+         */
+        private final Document document;
+
+        /**
+         * The weighted number of occurrences of the search terms.
+         */
+        private final int score;
+    }
+
+    /**
+     * The indexed attributes of an offered resource.
+     */
+    @Data
+    @AllArgsConstructor
+    private static final class Document {
+        /**
+         * The id of the offered resource.
+         */
+        private final UUID id;
+
+        /**
+         * The title of the offered resource.
+         */
+        private final String title;
+
+        /**
+         * The modification date of the offered resource.
+         */
+        private final ZonedDateTime modificationDate;
+
+        /**
+         * The weighted number of occurrences per term.
+         */
+        private final Map<String, Integer> terms;
+
+        /**
+         * The values per facet.
+         */
+        private final Map<Facet, Set<String>> values;
+
+        Set<String> getFacetValues(final Facet facet) {
+            return values.getOrDefault(facet, Set.of());
+        }
+
+        static Document of(final OfferedResource resource) {
+            final var terms = new HashMap<String, Integer>();
+            addTerms(terms, resource.getTitle(), TITLE_WEIGHT);
+            addTerms(terms, resource.getDescription(), DESCRIPTION_WEIGHT);
+
+            final var values = new EnumMap<Facet, Set<String>>(Facet.class);
+            final var keywords = new LinkedHashSet<String>();
+            if (resource.getKeywords() != null) {
+                for (final var keyword : resource.getKeywords()) {
+                    if (keyword != null && !keyword.isBlank()) {
+                        keywords.add(keyword);
+                        addTerms(terms, keyword, KEYWORD_WEIGHT);
+                    }
+                }
+            }
+            values.put(Facet.KEYWORD, keywords);
+            addValue(values, Facet.PUBLISHER, resource.getPublisher());
+            addValue(values, Facet.LANGUAGE, resource.getLanguage());
+            addValue(values, Facet.LICENSE, resource.getLicense());
+
+            return new Document(resource.getId(), resource.getTitle(),
+                    resource.getModificationDate(), terms, values);
+        }
+
+        private static void addTerms(final Map<String, Integer> terms, final String text,
+                                     final int weight) {
+            for (final var term : tokenize(text).entrySet()) {
+                terms.merge(term.getKey(), term.getValue() * weight, Integer::sum);
+            }
+        }
+
+        private static void addValue(final Map<Facet, Set<String>> values, final Facet facet,
+                                     final Object value) {
+            if (value != null && !value.toString().isBlank()) {
+                values.put(facet, Set.of(value.toString()));
+            }
+        }
+    }
+
+    /**
+     * The inverted index. Not thread-safe.
+     */
+    @Getter
+    private static final class Index {
+        /**
+         * The indexed offered resources.
+         */
+        private final Map<UUID, Document> documents = new HashMap<>();
+
+        /**
+         * The weight of each term per offered resource.
+         */
+        private final Map<String, Map<UUID, Integer>> postings = new HashMap<>();
+
+        /**
+         * The offered resources per facet value.
+         */
+        private final Map<Facet, Map<String, Set<UUID>>> facets = new EnumMap<>(Facet.class);
+
+        void add(final Document document) {
+            documents.put(document.getId(), document);
+            for (final var term : document.getTerms().entrySet()) {
+                postings.computeIfAbsent(term.getKey(), x -> new HashMap<>())
+                        .put(document.getId(), term.getValue());
+            }
+            for (final var facet : document.getValues().entrySet()) {
+                final var byValue = facets.computeIfAbsent(facet.getKey(), x -> new HashMap<>());
+                for (final var value : facet.getValue()) {
+                    byValue.computeIfAbsent(value, x -> new HashSet<>()).add(document.getId());
+                }
+            }
+        }
+
+        void remove(final UUID resourceId) {
+            final var document = documents.remove(resourceId);
+            if (document == null) {
+                return;
+            }
+
+            for (final var term : document.getTerms().keySet()) {
+                final var posting = postings.get(term);
+                posting.remove(resourceId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            for (final var facet : document.getValues().entrySet()) {
+                final var byValue = facets.get(facet.getKey());
+                for (final var value : facet.getValue()) {
+                    final var ids = byValue.get(value);
+                    ids.remove(resourceId);
+                    if (ids.isEmpty()) {
+                        byValue.remove(value);
+                    }
+                }
+            }
+        }
+
+        List<Hit> match(final Collection<String> terms, final Map<Facet, String> filters) {
+            final var required = new ArrayList<Set<UUID>>();
+            for (final var filter : filters.entrySet()) {
+                final var ids = facets.getOrDefault(filter.getKey(), Map.of())
+                        .get(filter.getValue());
+                if (ids == null) {
+                    return List.of();
+                }
+                required.add(ids);
+            }
+
+            final var hits = new ArrayList<Hit>();
+            if (terms.isEmpty()) {
+                Collection<UUID> candidates = documents.keySet();
+                for (final var ids : required) {
+                    if (ids.size() < candidates.size()) {
+                        candidates = ids;
+                    }
+                }
+                for (final var resourceId : candidates) {
+                    if (containsAll(required, resourceId)) {
+                        hits.add(new Hit(documents.get(resourceId), 0));
+                    }
+                }
+                return hits;
+            }
+
+            final var lists = new ArrayList<Map<UUID, Integer>>();
+            for (final var term : terms) {
+                final var posting = postings.get(term);
+                if (posting == null) {
+                    return List.of();
+                }
+                lists.add(posting);
+            }
+
+            // Walk the shortest posting list and look up the others.
+            lists.sort(Comparator.comparingInt(Map::size));
+            final var others = lists.subList(1, lists.size());
+            for (final var entry : lists.get(0).entrySet()) {
+                final var resourceId = entry.getKey();
+                var score = entry.getValue();
+                for (final var posting : others) {
+                    final var weight = posting.get(resourceId);
+                    if (weight == null) {
+                        score = -1;
+                        break;
+                    }
+                    score += weight;
+                }
+                if (score >= 0 && containsAll(required, resourceId)) {
+                    hits.add(new Hit(documents.get(resourceId), score));
+                }
+            }
+
+            return hits;
+        }
+
+        private static boolean containsAll(final List<Set<UUID>> required, final UUID resourceId) {
+            for (final var ids : required) {
+                if (!ids.contains(resourceId)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
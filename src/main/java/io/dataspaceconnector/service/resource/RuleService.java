@@ -15,14 +15,17 @@
  */
 package io.dataspaceconnector.service.resource;
 
+import io.dataspaceconnector.model.Contract;
 import io.dataspaceconnector.model.ContractRule;
 import io.dataspaceconnector.model.ContractRuleDesc;
 import io.dataspaceconnector.repository.RuleRepository;
 import io.dataspaceconnector.util.ErrorMessages;
 import io.dataspaceconnector.util.Utils;
 import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -33,6 +36,12 @@ import java.util.UUID;
 @NoArgsConstructor
 public class RuleService extends BaseEntityService<ContractRule, ContractRuleDesc> {
 
+    /**
+     * Service for contracts whose rule fingerprints depend on the rules.
+     */
+    @Autowired
+    private ContractService contractService;
+
     /**
      * Finds all rules in a specific contract.
      *
@@ -44,4 +53,47 @@ public class RuleService extends BaseEntityService<ContractRule, ContractRuleDes
         return ((RuleRepository) getRepository()).findAllByContract(contractId);
     }
 
+    /**
+     * Persist the rule and refresh the rule fingerprints of all contracts using it.
+     *
+     * @param rule The rule to persist.
+     * @return The persisted rule.
+     */
+    @Override
+    protected ContractRule persist(final ContractRule rule) {
+        final var persisted = super.persist(rule);
+        if (persisted.getContracts() != null) {
+            for (final var contract : persisted.getContracts()) {
+                contractService.persist(contract);
+            }
+        }
+
+        return persisted;
+    }
+
+    /**
+     * Delete the rule and refresh the rule fingerprints of all contracts that used it.
+     *
+     * @param ruleId The id of the rule.
+     */
+    @Override
+    public void delete(final UUID ruleId) {
+        Utils.requireNonNull(ruleId, ErrorMessages.ENTITYID_NULL);
+        final var contracts = new ArrayList<Contract>();
+        getRepository().findById(ruleId).ifPresent(rule -> {
+            if (rule.getContracts() != null) {
+                contracts.addAll(rule.getContracts());
+            }
+        });
+
+        super.delete(ruleId);
+
+        for (final var contract : contracts) {
+            // The loaded contract still references the deleted rule.
+            if (contract.getRules() != null) {
+                contract.getRules().removeIf(x -> ruleId.equals(x.getId()));
+            }
+            contractService.persist(contract);
+        }
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A DTO describing whether data access to an artifact is allowed and why not.
+ */
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+public class AccessDecision {
+
+    /**
+     * The id of the evaluated artifact.
+     */
+    private UUID artifactId;
+
+    /**
+     * The verification result.
+     */
+    private VerificationResult result;
+
+    /**
+     * The reason for a denied access. Null if the access is allowed.
+     */
+    private String reason;
+}
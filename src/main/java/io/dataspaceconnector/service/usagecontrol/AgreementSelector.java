@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.net.URI;
+import java.text.ParseException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.List;
+
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.config.ConnectorConfiguration;
+import io.dataspaceconnector.exception.PolicyRestrictionException;
+import io.dataspaceconnector.model.Agreement;
+import io.dataspaceconnector.model.Artifact;
+import io.dataspaceconnector.service.ids.DeserializationService;
+import io.dataspaceconnector.util.ContractUtils;
+import io.dataspaceconnector.util.ErrorMessages;
+import io.dataspaceconnector.util.RuleUtils;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+/**
+ * Selects the agreement that should be used for accessing the data of an artifact on consumer
+ * side. The agreements are ranked by their policies without accessing the data, so that only
+ * the most promising agreement has to be tried. Only the patterns enforced by the
+ * {@link DataAccessVerifier} are considered.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AgreementSelector {
+
+    /**
+     * Orders viable agreements, the best one last.
+     */
+    private static final Comparator<Candidate> RANKING =
+            Comparator.comparingLong(Candidate::getRemaining)
+                    .thenComparing(Candidate::getValidUntil);
+
+    /**
+     * Service for deserialization.
+     */
+    private final @NonNull DeserializationService deserializationService;
+
+    /**
+     * Service for counting data accesses.
+     */
+    private final @NonNull UsageQuotaService usageQuota;
+
+    /**
+     * Service for configuring policy settings.
+     */
+    private final @NonNull ConnectorConfiguration connectorConfig;
+
+    /**
+     * Selects the best viable agreement for accessing an artifact. An agreement is viable if none
+     * of its rules for the artifact is expired or exhausted. Viable agreements with more
+     * remaining accesses are preferred, then those valid for longer. If no agreement is viable
+     * but unsupported patterns are allowed, the first agreement is used, as the access
+     * verification will not deny the access either.
+     *
+     * @param artifact   The accessed artifact.
+     * @param agreements The candidate agreements.
+     * @return The remote id of the selected agreement.
+     * @throws PolicyRestrictionException If no agreement is viable. The reason is the one of the
+     *                                    last rejected agreement.
+     */
+    public URI select(final Artifact artifact, final List<Agreement> agreements)
+            throws PolicyRestrictionException {
+        Candidate best = null;
+        var reason = ErrorMessages.POLICY_RESTRICTION;
+        for (final var agreement : agreements) {
+            final var candidate = evaluate(artifact, agreement);
+            if (candidate.getReason() != null) {
+                reason = candidate.getReason();
+            } else if (best == null || RANKING.compare(candidate, best) > 0) {
+                best = candidate;
+            }
+        }
+
+        if (best != null) {
+            return best.getRemoteId();
+        }
+
+        if (connectorConfig.isAllowUnsupported() && !agreements.isEmpty()) {
+            return agreements.get(0).getRemoteId();
+        }
+
+        throw new PolicyRestrictionException(reason);
+    }
+
+    /**
+     * Evaluates the rules of an agreement for an artifact.
+     *
+     * @param artifact  The accessed artifact.
+     * @param agreement The agreement.
+     * @return The ranking information, with the reason if the agreement is not viable.
+     */
+    private Candidate evaluate(final Artifact artifact, final Agreement agreement) {
+        final var candidate = new Candidate(agreement.getRemoteId(),
+                PolicyDecisionCache.UNBOUNDED, Long.MAX_VALUE, null);
+        try {
+            final var idsAgreement = deserializationService.getStoredContractAgreement(
+                    agreement.getValue());
+            final var rules = ContractUtils.getRulesForTargetId(idsAgreement,
+                    artifact.getRemoteId());
+
+            for (final var rule : rules) {
+                candidate.setReason(restrict(candidate, rule, artifact));
+                if (candidate.getReason() != null) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Agreement is not viable. [artifactId=({}), "
+                                + "agreementId=({}), reason=({})]", artifact.getId(),
+                                agreement.getRemoteId(), candidate.getReason());
+                    }
+                    break;
+                }
+            }
+        } catch (ParseException | DateTimeParseException e) {
+            candidate.setReason(ErrorMessages.DATA_ACCESS_INVALID_INTERVAL);
+            logFailure(artifact, agreement, e);
+        } catch (IllegalArgumentException e) {
+            candidate.setReason(ErrorMessages.POLICY_RESTRICTION);
+            logFailure(artifact, agreement, e);
+        }
+
+        return candidate;
+    }
+
+    /**
+     * Restricts the ranking information of a candidate by a rule.
+     *
+     * @param candidate The candidate.
+     * @param rule      The ids rule.
+     * @param artifact  The accessed artifact.
+     * @return The reason if the rule denies the access, null otherwise.
+     * @throws ParseException           If a time interval could not be read.
+     * @throws DateTimeParseException   If a duration could not be read.
+     * @throws IllegalArgumentException If an access number could not be read.
+     */
+    private ErrorMessages restrict(final Candidate candidate, final Rule rule,
+                                   final Artifact artifact) throws ParseException {
+        final var pattern = RuleUtils.getPatternByRule(rule);
+        if (pattern == null || !DataAccessVerifier.PATTERNS.contains(pattern)) {
+            // Not enforced on consumer side.
+            return null;
+        }
+
+        switch (pattern) {
+            case USAGE_DURING_INTERVAL:
+            case USAGE_UNTIL_DELETION:
+                final var interval = RuleUtils.getTimeInterval(rule);
+                final var current = RuleUtils.getCurrentDate();
+                if (!current.isAfter(interval.getStart()) || !current.isBefore(interval.getEnd())) {
+                    return ErrorMessages.DATA_ACCESS_INVALID_INTERVAL;
+                }
+                candidate.setValidUntil(PolicyDecisionCache.restrict(candidate.getValidUntil(),
+                        interval.getEnd()));
+                return null;
+            case DURATION_USAGE:
+                final var duration = RuleUtils.getDuration(rule);
+                if (duration == null) {
+                    return ErrorMessages.DATA_ACCESS_INVALID_INTERVAL;
+                }
+                final var end = RuleUtils.getCalculatedDate(artifact.getCreationDate(), duration);
+                if (RuleUtils.isExpired(end)) {
+                    return ErrorMessages.DATA_ACCESS_INVALID_INTERVAL;
+                }
+                candidate.setValidUntil(PolicyDecisionCache.restrict(candidate.getValidUntil(),
+                        end));
+                return null;
+            case N_TIMES_USAGE:
+                final var remaining = RuleUtils.getMaxAccess(rule)
+                        - usageQuota.getAccessNumber(artifact.getId());
+                if (remaining <= 0) {
+                    return ErrorMessages.DATA_ACCESS_NUMBER_REACHED;
+                }
+                candidate.setRemaining(Math.min(candidate.getRemaining(), remaining));
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private void logFailure(final Artifact artifact, final Agreement agreement,
+                            final Exception exception) {
+        if (log.isDebugEnabled()) {
+            log.debug("Could not evaluate agreement. [artifactId=({}), agreementId=({}), "
+                            + "exception=({})]", artifact.getId(), agreement.getRemoteId(),
+                    exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Ranking information of an agreement.
+     */
+    @Data
+    @AllArgsConstructor
+    private static final class Candidate {
+        /**
+         * The remote id of the agreement.
+         */
+        private URI remoteId;
+
+        /**
+         * The date until which the agreement allows the access.
+         */
+        private ZonedDateTime validUntil;
+
+        /**
+         * The number of remaining accesses.
+         */
+        private long remaining;
+
+        /**
+         * The reason why the agreement does not allow the access. Null if it is viable.
+         */
+        private ErrorMessages reason;
+    }
+}
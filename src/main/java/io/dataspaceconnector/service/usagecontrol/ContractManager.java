@@ -103,7 +103,8 @@ public class ContractManager {
                     + "agreement message to finish the negotiation sequence.");
         }
 
-        final var idsAgreement = deserializationService.getContractAgreement(agreement.getValue());
+        final var idsAgreement = deserializationService
+                .getStoredContractAgreement(agreement.getValue());
 
         // Validation of issuer connector.
         if (!idsAgreement.getConsumer().equals(issuer)) {
@@ -136,7 +137,8 @@ public class ContractManager {
     }
 
     /**
-     * Build contract request from a list of rules - with assignee and consumer.
+     * Build contract request from a list of rules - with assignee and consumer. The assignee is
+     * set on the given rules, they must therefore not be shared with other callers.
      *
      * @param ruleList The rule list.
      * @return The ids contract request.
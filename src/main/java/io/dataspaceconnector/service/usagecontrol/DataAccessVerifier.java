@@ -16,15 +16,22 @@
 package io.dataspaceconnector.service.usagecontrol;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.UUID;
 
+import de.fraunhofer.iais.eis.ContractAgreement;
 import io.dataspaceconnector.config.ConnectorConfiguration;
 import io.dataspaceconnector.exception.PolicyExecutionException;
 import io.dataspaceconnector.exception.PolicyRestrictionException;
 import io.dataspaceconnector.model.Artifact;
 import io.dataspaceconnector.service.EntityResolver;
+import io.dataspaceconnector.service.resource.ArtifactService;
+import io.dataspaceconnector.service.util.EndpointUtils;
 import io.dataspaceconnector.util.ContractUtils;
+import io.dataspaceconnector.util.ErrorMessages;
 import io.dataspaceconnector.util.RuleUtils;
 import io.dataspaceconnector.util.SelfLinkHelper;
 import lombok.NonNull;
@@ -40,6 +47,18 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public final class DataAccessVerifier implements PolicyVerifier<Artifact> {
 
+    /**
+     * The patterns enforced on data access on consumer side.
+     */
+    public static final List<PolicyPattern> PATTERNS = List.of(
+            PolicyPattern.PROVIDE_ACCESS,
+            PolicyPattern.USAGE_DURING_INTERVAL,
+            PolicyPattern.USAGE_UNTIL_DELETION,
+            PolicyPattern.DURATION_USAGE,
+            PolicyPattern.USAGE_LOGGING,
+            PolicyPattern.N_TIMES_USAGE,
+            PolicyPattern.USAGE_NOTIFICATION);
+
     /**
      * The policy execution point.
      */
@@ -55,6 +74,21 @@ public final class DataAccessVerifier implements PolicyVerifier<Artifact> {
      */
     private final @NonNull EntityResolver entityResolver;
 
+    /**
+     * Cache for positive policy decisions.
+     */
+    private final @NonNull PolicyDecisionCache decisionCache;
+
+    /**
+     * Service for loading artifacts.
+     */
+    private final @NonNull ArtifactService artifactService;
+
+    /**
+     * Service for counting data accesses.
+     */
+    private final @NonNull UsageQuotaService usageQuota;
+
     /**
      * Policy check on data access on consumer side. Ignore if unknown patterns are allowed.
      *
@@ -62,18 +96,9 @@ public final class DataAccessVerifier implements PolicyVerifier<Artifact> {
      * @throws PolicyRestrictionException If a policy restriction has been detected.
      */
     public void checkPolicy(final Artifact target) throws PolicyRestrictionException {
-        final var patternsToCheck = Arrays.asList(
-                PolicyPattern.PROVIDE_ACCESS,
-                PolicyPattern.USAGE_DURING_INTERVAL,
-                PolicyPattern.USAGE_UNTIL_DELETION,
-                PolicyPattern.DURATION_USAGE,
-                PolicyPattern.USAGE_LOGGING,
-                PolicyPattern.N_TIMES_USAGE,
-                PolicyPattern.USAGE_NOTIFICATION);
-
         try {
             final var artifactId = SelfLinkHelper.getSelfLink(target);
-            checkForAccess(patternsToCheck, artifactId, target.getRemoteId());
+            checkForAccess(PATTERNS, artifactId, target.getRemoteId());
         } catch (PolicyRestrictionException exception) {
             // Unknown patterns cause an exception. Ignore if unsupported patterns are allowed.
             if (!connectorConfig.isAllowUnsupported()) {
@@ -95,17 +120,126 @@ public final class DataAccessVerifier implements PolicyVerifier<Artifact> {
                                final URI remoteId) {
         // Get the contract agreement's rules for the target.
         final var agreements = entityResolver.getContractAgreementsByTarget(artifactId);
+        checkForAccess(patterns, artifactId, remoteId, agreements, null);
+    }
+
+    /**
+     * Evaluates the data access for many artifacts at once. The artifacts and their agreements
+     * are loaded with a single query, and the creation dates and access numbers are taken from
+     * the loaded artifacts. Patterns with side effects (logging, notification) are not evaluated,
+     * so the result describes the access status without accessing the data.
+     *
+     * @param artifactIds The ids of the artifacts.
+     * @return The decision per artifact, in the order of the passed ids.
+     */
+    public List<AccessDecision> verifyAll(final List<UUID> artifactIds) {
+        final var patternsToCheck = Arrays.asList(
+                PolicyPattern.PROVIDE_ACCESS,
+                PolicyPattern.USAGE_DURING_INTERVAL,
+                PolicyPattern.USAGE_UNTIL_DELETION,
+                PolicyPattern.DURATION_USAGE,
+                PolicyPattern.N_TIMES_USAGE);
+
+        final var artifacts = new HashMap<UUID, Artifact>();
+        for (final var artifact : artifactService.getAllWithAgreements(artifactIds)) {
+            artifacts.put(artifact.getId(), artifact);
+        }
+
+        final var decisions = new ArrayList<AccessDecision>();
+        for (final var artifactId : artifactIds) {
+            final var artifact = artifacts.get(artifactId);
+            if (artifact == null) {
+                decisions.add(new AccessDecision(artifactId, VerificationResult.DENIED,
+                        ErrorMessages.EMTPY_ENTITY.toString()));
+                continue;
+            }
+
+            decisions.add(verify(artifact, patternsToCheck));
+        }
+
+        return decisions;
+    }
+
+    private AccessDecision verify(final Artifact artifact, final List<PolicyPattern> patterns) {
+        try {
+            final var artifactId = SelfLinkHelper.getSelfLink(artifact);
+            final var agreements = entityResolver.getContractAgreements(artifact);
+            // A status query is neither cached nor counted as data access.
+            checkForAccess(patterns, artifactId, artifact.getRemoteId(), agreements, artifact);
+        } catch (PolicyRestrictionException exception) {
+            if (!connectorConfig.isAllowUnsupported()) {
+                return new AccessDecision(artifact.getId(), VerificationResult.DENIED,
+                        exception.getMessage());
+            }
+        } catch (IllegalArgumentException exception) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not evaluate data access. [artifactId=({}), "
+                        + "exception=({})]", artifact.getId(), exception.getMessage());
+            }
+            return new AccessDecision(artifact.getId(), VerificationResult.DENIED,
+                    exception.getMessage());
+        }
+
+        return new AccessDecision(artifact.getId(), VerificationResult.ALLOWED, null);
+    }
+
+    /**
+     * Checks the rules of the agreements for the access of an artifact.
+     *
+     * @param patterns   List of patterns that should be enforced.
+     * @param artifactId The requested artifact.
+     * @param remoteId   The remote id of the requested artifact.
+     * @param agreements The agreements of the artifact.
+     * @param loaded     The loaded artifact for a status query, null for a data access. A data
+     *                   access is cached and counted, a status query is not.
+     */
+    private void checkForAccess(final List<PolicyPattern> patterns, final URI artifactId,
+                                final URI remoteId, final List<ContractAgreement> agreements,
+                                final Artifact loaded) {
+        final var accessData = loaded == null;
+        // The strictest access number of all n-times-usage rules.
+        var maxAccess = Long.MAX_VALUE;
         for (final var agreement : agreements) {
+            if (accessData
+                    && decisionCache.isAllowed(artifactId, agreement.getId(), null, patterns)) {
+                continue;
+            }
+
+            final var generation = decisionCache.getGeneration();
             final var rules = ContractUtils.getRulesForTargetId(agreement, remoteId);
 
             // Check the policy of each rule.
+            var validUntil = PolicyDecisionCache.UNBOUNDED;
             for (final var rule : rules) {
                 final var pattern = RuleUtils.getPatternByRule(rule);
                 // Enforce only a set of patterns.
-                if (patterns.contains(pattern)) {
-                    ruleValidator.validatePolicy(pattern, rule, artifactId, null);
+                if (!patterns.contains(pattern)) {
+                    continue;
                 }
+
+                if (!accessData) {
+                    ruleValidator.validatePolicy(pattern, rule, artifactId, null, loaded);
+                    continue;
+                }
+
+                ruleValidator.validatePolicy(pattern, rule, artifactId, null);
+                if (pattern == PolicyPattern.N_TIMES_USAGE) {
+                    maxAccess = Math.min(maxAccess, RuleUtils.getMaxAccess(rule));
+                }
+                validUntil = PolicyDecisionCache.restrict(validUntil,
+                        ruleValidator.getValidUntil(pattern, rule, artifactId));
             }
+
+            if (accessData) {
+                decisionCache.allow(artifactId, agreement.getId(), null, patterns, validUntil,
+                        generation);
+            }
+        }
+
+        // Count the access once and atomically with the final check of the access number.
+        if (accessData && maxAccess != Long.MAX_VALUE && !usageQuota.tryAcquire(
+                EndpointUtils.getUUIDFromPath(artifactId), maxAccess)) {
+            throw new PolicyRestrictionException(ErrorMessages.DATA_ACCESS_NUMBER_REACHED);
         }
     }
 
@@ -47,6 +47,11 @@ public class DataProvisionVerifier implements PolicyVerifier<VerificationInput>
      */
     private final @NonNull ConnectorConfiguration connectorConfig;
 
+    /**
+     * Cache for positive policy decisions.
+     */
+    private final @NonNull PolicyDecisionCache decisionCache;
+
     /**
      * Policy check on data provision on provider side.
      *
@@ -87,16 +92,27 @@ public class DataProvisionVerifier implements PolicyVerifier<VerificationInput>
                                final URI target, final URI issuerConnector,
                                final ContractAgreement agreement)
             throws PolicyRestrictionException {
+        if (decisionCache.isAllowed(target, agreement.getId(), issuerConnector, patterns)) {
+            return;
+        }
+
+        final var generation = decisionCache.getGeneration();
         final var rules = ContractUtils.getRulesForTargetId(agreement, target);
 
         // Check the policy of each rule.
+        var validUntil = PolicyDecisionCache.UNBOUNDED;
         for (final var rule : rules) {
             final var pattern = RuleUtils.getPatternByRule(rule);
             // Enforce only a set of patterns.
             if (patterns.contains(pattern)) {
                 ruleValidator.validatePolicy(pattern, rule, target, issuerConnector);
+                validUntil = PolicyDecisionCache.restrict(validUntil,
+                        ruleValidator.getValidUntil(pattern, rule, target));
             }
         }
+
+        decisionCache.allow(target, agreement.getId(), issuerConnector, patterns, validUntil,
+                generation);
     }
 
     /**
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.dataspaceconnector.model.Agreement;
+import io.dataspaceconnector.service.resource.EntityChangedEvent;
+import io.dataspaceconnector.util.RuleUtils;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Caches positive policy decisions per (artifact, agreement, issuer, enforced patterns). An
+ * entry is only valid until the validity boundary of the policy it was computed for, e.g. the
+ * end of an interval or the computed expiry of a duration. Negative decisions are never cached.
+ */
+@Log4j2
+@Component
+public class PolicyDecisionCache {
+
+    /**
+     * Validity boundary for decisions that do not expire by time.
+     */
+    public static final ZonedDateTime UNBOUNDED = LocalDateTime.MAX.atZone(ZoneOffset.UTC);
+
+    /**
+     * Whether decisions should be cached.
+     */
+    @Value("${policy.decision-cache.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * The maximum number of cached decisions.
+     */
+    @Value("${policy.decision-cache.max-entries:10000}")
+    private int maxEntries;
+
+    /**
+     * The cached decisions mapped to the date until which they are valid.
+     */
+    private final Map<DecisionKey, ZonedDateTime> decisions = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on every invalidation. Decisions computed before an invalidation are dropped.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Get the current cache generation. Must be read before evaluating a policy whose result
+     * should be stored with {@link #allow(URI, URI, URI, Collection,
+     * ZonedDateTime, long)}.
+     *
+     * @return The current generation.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Checks whether a still valid positive decision exists.
+     *
+     * @param target    The accessed element.
+     * @param agreement The id of the contract agreement.
+     * @param issuer    The issuer connector. May be null.
+     * @param patterns  The enforced patterns.
+     * @return True if access has been allowed before and the decision is still valid.
+     */
+    public boolean isAllowed(final URI target, final URI agreement, final URI issuer,
+                             final Collection<PolicyPattern> patterns) {
+        if (!enabled) {
+            return false;
+        }
+
+        final var key = new DecisionKey(target, agreement, issuer, Set.copyOf(patterns));
+        final var validUntil = decisions.get(key);
+        if (validUntil == null) {
+            return false;
+        }
+
+        if (!RuleUtils.getCurrentDate().isBefore(validUntil)) {
+            decisions.remove(key, validUntil);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Stores a positive decision.
+     *
+     * @param target     The accessed element.
+     * @param agreement  The id of the contract agreement.
+     * @param issuer     The issuer connector. May be null.
+     * @param patterns   The enforced patterns.
+     * @param validUntil The date until which the decision holds.
+     * @param evaluated  The cache generation read before the policy was evaluated.
+     */
+    public void allow(final URI target, final URI agreement, final URI issuer,
+                      final Collection<PolicyPattern> patterns,
+                      final ZonedDateTime validUntil, final long evaluated) {
+        if (!enabled || validUntil == null || evaluated != generation.get()) {
+            return;
+        }
+
+        if (decisions.size() >= maxEntries) {
+            evictExpired();
+            if (decisions.size() >= maxEntries) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Policy decision cache is full. [maxEntries=({})]", maxEntries);
+                }
+                return;
+            }
+        }
+
+        final var key = new DecisionKey(target, agreement, issuer, Set.copyOf(patterns));
+        decisions.put(key, validUntil);
+        if (evaluated != generation.get()) {
+            // Invalidated concurrently.
+            decisions.remove(key);
+        }
+    }
+
+    /**
+     * Drops all cached decisions.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        decisions.clear();
+    }
+
+    /**
+     * Drops all cached decisions when an agreement has been changed. Called after the change has
+     * been committed, so that decisions computed from the old state cannot be stored afterwards.
+     *
+     * @param event The event.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(final EntityChangedEvent event) {
+        if (event.getEntity() instanceof Agreement) {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Restricts the validity of a decision by the boundary of another rule. A missing boundary
+     * marks a decision that must not be cached and is propagated.
+     *
+     * @param validUntil The current validity boundary. May be null.
+     * @param boundary   The boundary of another rule. May be null.
+     * @return The earlier of both dates or null if any of them is null.
+     */
+    public static ZonedDateTime restrict(final ZonedDateTime validUntil,
+                                         final ZonedDateTime boundary) {
+        if (validUntil == null || boundary == null) {
+            return null;
+        }
+
+        return boundary.isBefore(validUntil) ? boundary : validUntil;
+    }
+
+    /**
+     * Removes all decisions whose validity boundary has passed.
+     */
+    private void evictExpired() {
+        final var now = RuleUtils.getCurrentDate();
+        decisions.values().removeIf(validUntil -> !now.isBefore(validUntil));
+    }
+
+    /**
+     * Identifies a cached decision.
+     */
+    @Data
+    @AllArgsConstructor
+    private static final class DecisionKey {
+        /**
+         * The accessed element.
+         */
+        private final URI target;
+
+        /**
+         * The id of the contract agreement.
+         */
+        private final URI agreement;
+
+        /**
+         * The issuer connector.
+         */
+        private final URI issuer;
+
+        /**
+         * The enforced patterns.
+         */
+        private final Set<PolicyPattern> patterns;
+    }
+}
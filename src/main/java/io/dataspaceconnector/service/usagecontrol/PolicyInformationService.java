@@ -49,17 +49,4 @@ public class PolicyInformationService {
 
         return artifact.getCreationDate();
     }
-
-    /**
-     * Get access number of artifact.
-     *
-     * @param target The target id.
-     * @return The artifact's access number.
-     */
-    public long getAccessNumber(final URI target) {
-        final var resourceId = EndpointUtils.getUUIDFromPath(target);
-        final var artifact = artifactService.get(resourceId);
-
-        return artifact.getNumAccessed();
-    }
 }
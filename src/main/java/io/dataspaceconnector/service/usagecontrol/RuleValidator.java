@@ -17,11 +17,13 @@ package io.dataspaceconnector.service.usagecontrol;
 
 import de.fraunhofer.iais.eis.Rule;
 import io.dataspaceconnector.exception.PolicyRestrictionException;
+import io.dataspaceconnector.model.Artifact;
 import io.dataspaceconnector.model.Contract;
 import io.dataspaceconnector.model.ContractRule;
 import io.dataspaceconnector.model.TimeInterval;
 import io.dataspaceconnector.service.ids.DeserializationService;
 import io.dataspaceconnector.service.resource.EntityDependencyResolver;
+import io.dataspaceconnector.service.util.EndpointUtils;
 import io.dataspaceconnector.util.ErrorMessages;
 import io.dataspaceconnector.util.RuleUtils;
 import lombok.NonNull;
@@ -32,6 +34,7 @@ import org.springframework.stereotype.Service;
 import java.net.URI;
 import java.text.ParseException;
 import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
@@ -67,6 +70,11 @@ public class RuleValidator {
      */
     private final @NonNull DeserializationService deserializationService;
 
+    /**
+     * Service for counting data accesses.
+     */
+    private final @NonNull UsageQuotaService usageQuota;
+
     /**
      * Validates the data access for a given rule.
      *
@@ -86,13 +94,14 @@ public class RuleValidator {
                 validateInterval(rule);
                 break;
             case DURATION_USAGE:
-                validateDuration(rule, target);
+                validateDuration(rule, target, informationService.getCreationDate(target));
                 break;
             case USAGE_LOGGING:
                 executionService.logDataAccess(target);
                 break;
             case N_TIMES_USAGE:
-                validateAccessNumber(rule, target);
+                validateAccessNumber(rule, target,
+                        usageQuota.getAccessNumber(EndpointUtils.getUUIDFromPath(target)));
                 break;
             case USAGE_NOTIFICATION:
                 executionService.reportDataAccess(rule, target);
@@ -111,7 +120,70 @@ public class RuleValidator {
     }
 
     /**
-     * Compare content of rule offer and request with each other.
+     * Validates the data access for a given rule. The creation date and access number are taken
+     * from the already loaded artifact instead of being looked up.
+     *
+     * @param pattern         The recognized policy pattern.
+     * @param rule            The ids rule.
+     * @param target          The requested/accessed element.
+     * @param issuerConnector The issuer connector.
+     * @param artifact        The loaded artifact of the target.
+     * @throws PolicyRestrictionException If a policy restriction was detected.
+     */
+    public void validatePolicy(final PolicyPattern pattern, final Rule rule, final URI target,
+                               final URI issuerConnector, final Artifact artifact)
+            throws PolicyRestrictionException {
+        switch (pattern) {
+            case DURATION_USAGE:
+                validateDuration(rule, target, artifact.getCreationDate());
+                break;
+            case N_TIMES_USAGE:
+                validateAccessNumber(rule, target, artifact.getNumAccessed());
+                break;
+            default:
+                validatePolicy(pattern, rule, target, issuerConnector);
+        }
+    }
+
+    /**
+     * Get the date until which a positive decision for a rule holds. Must only be called after
+     * the rule has been validated successfully.
+     *
+     * @param pattern The recognized policy pattern.
+     * @param rule    The ids rule.
+     * @param target  The requested/accessed element.
+     * @return The validity boundary or null if the decision must not be cached, e.g. because the
+     *         pattern is count-based or has side effects.
+     */
+    public ZonedDateTime getValidUntil(final PolicyPattern pattern, final Rule rule,
+                                       final URI target) {
+        try {
+            switch (pattern) {
+                case PROVIDE_ACCESS:
+                case CONNECTOR_RESTRICTED_USAGE:
+                    return PolicyDecisionCache.UNBOUNDED;
+                case USAGE_DURING_INTERVAL:
+                case USAGE_UNTIL_DELETION:
+                    return RuleUtils.getTimeInterval(rule).getEnd();
+                case DURATION_USAGE:
+                    final var duration = RuleUtils.getDuration(rule);
+                    return duration == null ? null : RuleUtils.getCalculatedDate(
+                            informationService.getCreationDate(target), duration);
+                default:
+                    return null;
+            }
+        } catch (ParseException | DateTimeParseException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not compute validity of decision. [target=({}), "
+                        + "exception=({})]", target, e.getMessage(), e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Compare content of rule offer and request with each other. Offers whose stored rule
+     * fingerprint differs from the request's fingerprint are skipped without loading their rules.
      *
      * @param contractOffers The contract offer.
      * @param map            The target contract map.
@@ -121,11 +193,19 @@ public class RuleValidator {
     public boolean validateRulesOfRequest(final List<Contract> contractOffers,
                                           final Map<URI, List<Rule>> map,
                                           final URI target) {
+        // Get rule list from contract request.
+        final var values = map.get(target);
+        final var fingerprint = RuleUtils.getRuleFingerprint(values);
+
         for (final var contract : contractOffers) {
+            final var offerFingerprint = contract.getRuleFingerprint();
+            if (offerFingerprint != null && !offerFingerprint.equals(fingerprint)) {
+                // The rules cannot be equal.
+                continue;
+            }
+
             // Get rule list from contract offer.
             final var ruleList = dependencyResolver.getRulesByContractOffer(contract);
-            // Get rule list from contract request.
-            final var values = map.get(target);
 
             // Compare rules
             if (compareRulesOfOfferToRequest(ruleList, values)) {
@@ -147,7 +227,7 @@ public class RuleValidator {
                                                 final List<Rule> requestRules) {
         final var idsRuleList = new ArrayList<Rule>();
         for (final var rule : offerRules) {
-            idsRuleList.add(deserializationService.getRule(rule.getValue()));
+            idsRuleList.add(deserializationService.getStoredRule(rule.getValue()));
         }
 
         if (!RuleUtils.compareRules(idsRuleList, requestRules)) {
@@ -191,15 +271,15 @@ public class RuleValidator {
     /**
      * Adds a duration to a given date and checks if the duration has already been exceeded.
      *
-     * @param rule   The ids rule.
-     * @param target The accessed element.
+     * @param rule    The ids rule.
+     * @param target  The accessed element.
+     * @param created The creation date of the accessed element.
      * @throws PolicyRestrictionException If the policy could not be read or a restriction is
      *                                    detected.
      */
-    private void validateDuration(final Rule rule, final URI target)
+    private void validateDuration(final Rule rule, final URI target,
+                                  final ZonedDateTime created)
             throws PolicyRestrictionException {
-        final var created = informationService.getCreationDate(target);
-
         final Duration duration;
         try {
             duration = RuleUtils.getDuration(rule);
@@ -227,19 +307,20 @@ public class RuleValidator {
     }
 
     /**
-     * Checks whether the maximum number of accesses has already been reached.
+     * Checks whether the maximum number of accesses has already been reached. The access is not
+     * counted here, see {@link UsageQuotaService#tryAcquire(java.util.UUID, long)}.
      *
-     * @param rule   The ids rule.
-     * @param target The accessed element.
+     * @param rule     The ids rule.
+     * @param target   The accessed element.
+     * @param accessed The number of accesses of the accessed element.
      * @throws PolicyRestrictionException If the access number has been reached.
      */
-    private void validateAccessNumber(final Rule rule, final URI target)
+    private void validateAccessNumber(final Rule rule, final URI target, final long accessed)
             throws PolicyRestrictionException {
         final var max = RuleUtils.getMaxAccess(rule);
         // final var endpoint = PolicyUtils.getPipEndpoint(rule);
         // NOTE: might be used later
 
-        final var accessed = informationService.getAccessNumber(target);
         if (accessed >= max) {
             if (log.isDebugEnabled()) {
                 log.debug("Access number reached. [target=({})]", target);
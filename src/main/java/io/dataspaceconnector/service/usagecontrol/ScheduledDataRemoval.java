@@ -100,7 +100,7 @@ public class ScheduledDataRemoval {
             ResourceNotFoundException {
         for (final var agreement : agreementService.getAll(Pageable.unpaged())) {
             final var value = agreement.getValue();
-            final var idsAgreement = deserializationService.getContractAgreement(value);
+            final var idsAgreement = deserializationService.getStoredContractAgreement(value);
             for (final var rule : ContractUtils.extractRulesFromContract(idsAgreement)) {
                 if (RuleUtils.checkRuleForPostDuties(rule)) {
                     removeDataFromArtifact(rule.getTarget());
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import io.dataspaceconnector.repository.ArtifactRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Counts the data accesses of artifacts in the database, so that n-times-usage policies can be
+ * checked and consumed in one atomic step. Every access is counted in the transaction that
+ * accesses the data, so that a granted access is either stored together with the access or
+ * rolled back with it.
+ */
+@Component
+@RequiredArgsConstructor
+public class UsageQuotaService {
+
+    /**
+     * The repository for artifacts.
+     */
+    private final @NonNull ArtifactRepository artifactRepository;
+
+    /**
+     * Get the number of accesses of an artifact, including all granted accesses.
+     *
+     * @param artifactId The id of the artifact.
+     * @return The access number or 0 if the artifact does not exist.
+     */
+    public long getAccessNumber(final UUID artifactId) {
+        final var accessed = artifactRepository.findNumAccessedById(artifactId);
+        return accessed == null ? 0 : accessed;
+    }
+
+    /**
+     * Atomically checks whether an artifact may be accessed once more and, if so, counts the
+     * access. The grant belongs to the current transaction: it is consumed by
+     * {@link #recordAccess(UUID)} and undone by {@link #release(UUID)} if no data is delivered.
+     *
+     * @param artifactId The id of the artifact.
+     * @param max        The maximum number of accesses.
+     * @return True if the access has been granted, false if the maximum has been reached.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryAcquire(final UUID artifactId, final long max) {
+        if (artifactRepository.incrementNumAccessed(artifactId, max) == 0) {
+            return false;
+        }
+
+        getGrants().add(artifactId);
+        return true;
+    }
+
+    /**
+     * Records a data access. An access that has already been granted in the current transaction
+     * by {@link #tryAcquire(UUID, long)} is not counted again.
+     *
+     * @param artifactId The id of the artifact.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAccess(final UUID artifactId) {
+        if (!getGrants().remove(artifactId)) {
+            artifactRepository.incrementNumAccessed(artifactId);
+        }
+    }
+
+    /**
+     * Gives back an access granted in the current transaction whose data could not be
+     * delivered. Does nothing if no access has been granted.
+     *
+     * @param artifactId The id of the artifact.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(final UUID artifactId) {
+        if (getGrants().remove(artifactId)) {
+            artifactRepository.decrementNumAccessed(artifactId);
+        }
+    }
+
+    /**
+     * Get the artifacts whose access has been granted but not yet recorded in the current
+     * transaction.
+     *
+     * @return The ids of the artifacts.
+     */
+    private Set<UUID> getGrants() {
+        @SuppressWarnings("unchecked")
+        var grants = (Set<UUID>) TransactionSynchronizationManager.getResource(this);
+        if (grants == null) {
+            grants = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, grants);
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(final int status) {
+                            TransactionSynchronizationManager.unbindResourceIfPossible(
+                                    UsageQuotaService.this);
+                        }
+                    });
+        }
+
+        return grants;
+    }
+}
@@ -62,6 +62,11 @@ public enum BasePath {
      */
     AGREEMENTS("/api/agreements");
 
+    /**
+     * All base paths. Avoids copying the values on each lookup.
+     */
+    private static final BasePath[] VALUES = values();
+
     /**
      * The path as string.
      */
@@ -84,12 +89,27 @@ public enum BasePath {
      * @return The base path as enum.
      */
     public static BasePath fromString(final String path) {
-        for (final var b : BasePath.values()) {
+        final var basePath = findByPath(path);
+        if (basePath == null) {
+            throw new UnreachableLineException("This code should not have been reached.");
+        }
+
+        return basePath;
+    }
+
+    /**
+     * Find the enum contained in a path.
+     *
+     * @param path The path as string.
+     * @return The base path as enum or null if none is contained.
+     */
+    static BasePath findByPath(final String path) {
+        for (final var b : VALUES) {
             if (path.contains(b.basePath)) {
                 return b;
             }
         }
 
-        throw new UnreachableLineException("This code should not have been reached.");
+        return null;
     }
 }
@@ -15,7 +15,6 @@
  */
 package io.dataspaceconnector.service.util;
 
-import io.dataspaceconnector.exception.UnreachableLineException;
 import io.dataspaceconnector.model.EndpointId;
 import io.dataspaceconnector.util.UUIDUtils;
 import lombok.extern.log4j.Log4j2;
@@ -46,16 +45,36 @@ public final class EndpointUtils {
      */
     public static EndpointId getEndpointIdFromPath(final URI uri) throws IllegalArgumentException {
         final var fullPath = uri.toString();
-        final var allUuids = UUIDUtils.findUuids(fullPath);
+        final var start = UUIDUtils.indexOfUuid(fullPath, 0);
+        if (start < 0) {
+            throw new IndexOutOfBoundsException("No uuid could be found in the uri.");
+        }
 
-        final var resourceId = UUID.fromString(allUuids.get(0));
-        final var index = fullPath.lastIndexOf(resourceId.toString()) - 1;
+        final var resourceId = UUIDUtils.parseUuid(fullPath, start);
         // -1 so that the / gets also removed
+        final var index = lastIndexOfRegion(fullPath, start) - 1;
         final var basePath = fullPath.substring(0, index);
 
         return new EndpointId(basePath, resourceId);
     }
 
+    /**
+     * Find the last occurrence of the uuid starting at the given index.
+     *
+     * @param path  The path.
+     * @param start The index of the uuid.
+     * @return The index of the last occurrence.
+     */
+    private static int lastIndexOfRegion(final String path, final int start) {
+        for (var i = path.length() - UUIDUtils.UUID_LENGTH; i > start; i--) {
+            if (path.regionMatches(i, path, start, UUIDUtils.UUID_LENGTH)) {
+                return i;
+            }
+        }
+
+        return start;
+    }
+
     /**
      * Get current base path as string.
      *
@@ -92,11 +111,7 @@ public final class EndpointUtils {
      * @return The type of base path.
      */
     public static BasePath getBasePathEnumFromString(final String path) {
-        try {
-            return BasePath.fromString(path);
-        } catch (UnreachableLineException exception) {
-            return null;
-        }
+        return BasePath.findByPath(path);
     }
 
     /**
@@ -29,13 +29,15 @@ import de.fraunhofer.ids.messaging.util.InfomodelMessageBuilder;
 import de.fraunhofer.ids.messaging.handler.message.MessagePayload;
 import lombok.extern.log4j.Log4j2;
 import okhttp3.MultipartBody;
-import org.apache.commons.io.IOUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Class providing util methods for message utility.
@@ -43,6 +45,26 @@ import java.util.Map;
 @Log4j2
 public final class MessageUtils {
 
+    /**
+     * Message property for the depth up to which a requested description is built.
+     */
+    public static final String DESCRIPTION_DEPTH = "https://w3id.org/dsc#depth";
+
+    /**
+     * Message property for the page of the children of a requested description.
+     */
+    public static final String DESCRIPTION_PAGE = "https://w3id.org/dsc#page";
+
+    /**
+     * Message property for the page size of the children of a requested description.
+     */
+    public static final String DESCRIPTION_SIZE = "https://w3id.org/dsc#size";
+
+    /**
+     * The page size used if only the page of a requested description is given.
+     */
+    public static final int DEFAULT_DESCRIPTION_SIZE = 50;
+
     /**
      * Class constructor without params.
      */
@@ -62,6 +84,69 @@ public final class MessageUtils {
         return message.getRequestedElement();
     }
 
+    /**
+     * Extract the depth of the requested description from an ids description request message.
+     *
+     * @param message The ids message.
+     * @return The depth. Empty if not given or invalid.
+     * @throws IllegalArgumentException If the message is null.
+     */
+    public static Optional<Integer> extractDescriptionDepth(
+            final DescriptionRequestMessage message) {
+        Utils.requireNonNull(message, ErrorMessages.MESSAGE_NULL);
+        return extractIntegerProperty(message, DESCRIPTION_DEPTH);
+    }
+
+    /**
+     * Extract the page of the requested description's children from an ids description request
+     * message. The size is limited to the maximum size. Pages beyond the largest supported
+     * offset are replaced by the last supported page, which is empty for any stored data.
+     *
+     * @param message The ids message.
+     * @param maxSize The maximum page size.
+     * @return The page. Unpaged if neither page nor size are given.
+     * @throws IllegalArgumentException If the message is null.
+     */
+    public static Pageable extractDescriptionPage(final DescriptionRequestMessage message,
+                                                  final int maxSize) {
+        Utils.requireNonNull(message, ErrorMessages.MESSAGE_NULL);
+        final var page = extractIntegerProperty(message, DESCRIPTION_PAGE).filter(x -> x >= 0);
+        final var size = extractIntegerProperty(message, DESCRIPTION_SIZE).filter(x -> x > 0);
+        if (page.isEmpty() && size.isEmpty()) {
+            return Pageable.unpaged();
+        }
+
+        final var pageSize = Math.max(Math.min(size.orElse(DEFAULT_DESCRIPTION_SIZE), maxSize), 1);
+
+        // The offset and one more row to detect a next page have to fit into an int.
+        final var maxPage = (Integer.MAX_VALUE - pageSize) / pageSize;
+        return PageRequest.of(Math.min(page.orElse(0), maxPage), pageSize);
+    }
+
+    private static Optional<Integer> extractIntegerProperty(final Message message,
+                                                            final String key) {
+        final var properties = message.getProperties();
+        if (properties == null || properties.get(key) == null) {
+            return Optional.empty();
+        }
+
+        var value = properties.get(key);
+        if (value instanceof Map) {
+            // Typed literal.
+            value = ((Map<?, ?>) value).get("@value");
+        }
+
+        try {
+            return Optional.of(Integer.parseInt(String.valueOf(value).trim()));
+        } catch (NumberFormatException exception) {
+            if (log.isDebugEnabled()) {
+                log.debug("Ignoring invalid message property. [key=({}), value=({})]",
+                        key, value);
+            }
+            return Optional.empty();
+        }
+    }
+
     /**
      * Extract requested artifact from ids artifact request message.
      *
@@ -236,8 +321,11 @@ public final class MessageUtils {
      */
     public static String getStreamAsString(final MessagePayload payload) throws IOException {
         Utils.requireNonNull(payload, ErrorMessages.MISSING_PAYLOAD);
-        Utils.requireNonNull(payload.getUnderlyingInputStream(), ErrorMessages.MISSING_PAYLOAD);
-        return IOUtils.toString(payload.getUnderlyingInputStream(), StandardCharsets.UTF_8);
+        final var stream = Utils.requireNonNull(payload.getUnderlyingInputStream(),
+                ErrorMessages.MISSING_PAYLOAD);
+
+        // Decode the bytes at once instead of copying them through a growing char buffer.
+        return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
     }
 
     /**
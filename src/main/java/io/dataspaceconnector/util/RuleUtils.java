@@ -29,17 +29,23 @@ import de.fraunhofer.iais.eis.Prohibition;
 import de.fraunhofer.iais.eis.Rule;
 import io.dataspaceconnector.exception.ContractException;
 import io.dataspaceconnector.exception.InvalidInputException;
+import io.dataspaceconnector.exception.UnreachableLineException;
 import io.dataspaceconnector.model.TimeInterval;
 import io.dataspaceconnector.service.usagecontrol.PolicyPattern;
 import lombok.extern.log4j.Log4j2;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.ParseException;
 import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
 
 /**
  * Contains utility methods for validating the content of ids rules.
@@ -441,6 +447,68 @@ public final class RuleUtils {
         return lObj.equals(rObj);
     }
 
+    /**
+     * Compute an order-independent fingerprint of a list of rules. Only the actions and
+     * constraints are taken into account, equal to {@link #compareRules(List, List)}. Rule lists
+     * that are equal according to {@link #compareRules(List, List)} always have the same
+     * fingerprint, so different fingerprints can be used to skip the full comparison.
+     *
+     * @param rules The rules. May be null.
+     * @return The fingerprint as hex string.
+     */
+    public static String getRuleFingerprint(final List<? extends Rule> rules) {
+        final var canonicalRules = new TreeSet<String>();
+        if (rules != null) {
+            for (final var rule : rules) {
+                canonicalRules.add(getCanonicalRule(rule));
+            }
+        }
+
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(
+                    String.join("|", canonicalRules).getBytes(StandardCharsets.UTF_8));
+            final var fingerprint = new StringBuilder();
+            for (final var b : digest) {
+                fingerprint.append(String.format("%02x", b));
+            }
+            return fingerprint.toString();
+        } catch (NoSuchAlgorithmException exception) {
+            // Every Java platform is required to support SHA-256.
+            throw new UnreachableLineException(exception.getMessage());
+        }
+    }
+
+    private static String getCanonicalRule(final Rule rule) {
+        final var actions = new TreeSet<String>();
+        if (rule.getAction() != null) {
+            for (final var action : rule.getAction()) {
+                actions.add(String.valueOf(action));
+            }
+        }
+
+        final var constraints = new TreeSet<String>();
+        if (rule.getConstraint() != null) {
+            for (final var constraint : rule.getConstraint()) {
+                constraints.add(getCanonicalConstraint(constraint));
+            }
+        }
+
+        return "a:" + String.join(",", actions) + ";c:" + String.join(",", constraints);
+    }
+
+    private static String getCanonicalConstraint(final AbstractConstraint constraint) {
+        if (constraint instanceof ConstraintImpl) {
+            final var impl = (ConstraintImpl) constraint;
+            final var rightOperand = impl.getRightOperand();
+            return impl.getLeftOperand() + " " + impl.getOperator() + " "
+                    + (rightOperand == null ? null : rightOperand.getValue());
+        }
+
+        // Unknown constraint types only contribute their type. This keeps the fingerprint
+        // consistent with the equality check at the cost of more full comparisons.
+        return Objects.toString(constraint == null ? null : constraint.getClass().getName());
+    }
+
     /**
      * Get current system date.
      *
@@ -23,7 +23,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
 /**
  * This class offers support functions for working with UUIDs.
@@ -37,6 +36,21 @@ public final class UUIDUtils {
         // not used
     }
 
+    /**
+     * The length of a UUID in its string representation.
+     */
+    public static final int UUID_LENGTH = 36;
+
+    /**
+     * The number of bits of a hex digit.
+     */
+    private static final int HEX_BITS = 4;
+
+    /**
+     * The number of decimal digits.
+     */
+    private static final int DECIMAL_DIGITS = 10;
+
     /**
      * Finds all UUIDs in a string.
      *
@@ -44,20 +58,85 @@ public final class UUIDUtils {
      * @return the list of found UUIDs.
      */
     public static List<String> findUuids(final String input) {
-        final var pairRegex = Pattern
-                .compile("\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit"
-                        + "}{12}");
-        final var matcher = pairRegex.matcher(input);
-
-        // Extract all UUIDs
         final var output = new ArrayList<String>();
-        while (matcher.find()) {
-            output.add(matcher.group(0));
+        var index = indexOfUuid(input, 0);
+        while (index >= 0) {
+            output.add(input.substring(index, index + UUID_LENGTH));
+            index = indexOfUuid(input, index + UUID_LENGTH);
         }
 
         return output;
     }
 
+    /**
+     * Finds the next UUID in a string. UUIDs are found from left to right without overlapping,
+     * the same way a regex matcher for the UUID pattern would find them.
+     *
+     * @param input     a string which maybe contains UUIDs.
+     * @param fromIndex the index to start the search from.
+     * @return the index of the UUID or -1 if no UUID is found.
+     */
+    public static int indexOfUuid(final CharSequence input, final int fromIndex) {
+        final var last = input.length() - UUID_LENGTH;
+        for (var i = Math.max(fromIndex, 0); i <= last; i++) {
+            if (isUuidAt(input, i)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Checks if a UUID starts at the given index of a string.
+     *
+     * @param input a string.
+     * @param index the index of the first character.
+     * @return true if a UUID starts at the index.
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    public static boolean isUuidAt(final CharSequence input, final int index) {
+        if (index < 0 || index > input.length() - UUID_LENGTH) {
+            return false;
+        }
+
+        for (var i = 0; i < UUID_LENGTH; i++) {
+            final var c = input.charAt(index + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (hexValue(c) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Parses the UUID starting at the given index of a string.
+     *
+     * @param input a string.
+     * @param index the index of the first character.
+     * @return the UUID.
+     * @throws IllegalArgumentException if no UUID starts at the index.
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    public static UUID parseUuid(final CharSequence input, final int index) {
+        if (!isUuidAt(input, index)) {
+            throw new IllegalArgumentException("No uuid found at the given index.");
+        }
+
+        final var mostSigBits = parseHex(input, index, index + 8) << 32
+                | parseHex(input, index + 9, index + 13) << 16
+                | parseHex(input, index + 14, index + 18);
+        final var leastSigBits = parseHex(input, index + 19, index + 23) << 48
+                | parseHex(input, index + 24, index + UUID_LENGTH);
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
     /**
      * Extracts a UUID from a URI. If more than one UUID is found the last UUID is returned. See
      * also {@link #uuidFromUri}.
@@ -87,21 +166,26 @@ public final class UUIDUtils {
      */
     public static UUID uuidFromUri(final URI uri, final int index) throws UUIDFormatException,
             IndexOutOfBoundsException {
-        // Find all uuids in the uri
-        final var uuids = findUuids(uri.toString());
+        final var input = uri.toString();
 
-        // Get only the uuid needed
-        final var stringUuid = uuids.get(index < 0 ? uuids.size() - 1 : index);
+        // Find the position of the uuid needed
+        var found = -1;
+        var count = 0;
+        var position = indexOfUuid(input, 0);
+        while (position >= 0) {
+            found = position;
+            if (count++ == index) {
+                break;
+            }
+            position = indexOfUuid(input, position + UUID_LENGTH);
+        }
 
-        // Convert the string to uuid element
-        try {
-            return UUID.fromString(stringUuid);
-        } catch (IllegalArgumentException exception) {
-            // This exception should never be thrown since the pattern matcher (in splitUuids)
-            // found the uuid.
-            throw new UUIDFormatException("Could not convert string to uuid. This indicates a "
-                    + "problem with the uuid pattern.", exception);
+        if (found < 0 || (index >= 0 && count <= index)) {
+            throw new IndexOutOfBoundsException("Found " + count + " uuids, but requested "
+                    + "uuid at index " + index + ".");
         }
+
+        return parseUuid(input, found);
     }
 
     /**
@@ -149,4 +233,31 @@ public final class UUIDUtils {
         throw new UUIDCreationException("Could not create a new uuid. No unused uuid could be "
                 + "found.");
     }
+
+    private static long parseHex(final CharSequence input, final int start, final int end) {
+        var value = 0L;
+        for (var i = start; i < end; i++) {
+            value = value << HEX_BITS | hexValue(input.charAt(i));
+        }
+
+        return value;
+    }
+
+    /**
+     * Get the value of an ASCII hex digit.
+     *
+     * @param c the character.
+     * @return the value or -1 if the character is no hex digit.
+     */
+    private static int hexValue(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + DECIMAL_DIGITS;
+        } else if (c >= 'A' && c <= 'F') {
+            return c - 'A' + DECIMAL_DIGITS;
+        }
+
+        return -1;
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.bootstrap;
+
+import de.fraunhofer.iais.eis.Resource;
+import io.dataspaceconnector.service.message.GlobalMessageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BrokerRegistrationTest {
+
+    private final GlobalMessageService brokerSvc = mock(GlobalMessageService.class);
+
+    private final BrokerRegistration registration = new BrokerRegistration(brokerSvc);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final URI broker = URI.create("https://broker/infrastructure");
+
+    @BeforeEach
+    @SneakyThrows
+    public void init() {
+        ReflectionTestUtils.setField(registration, "concurrency", 2);
+        ReflectionTestUtils.setField(registration, "maxAttempts", 2);
+        ReflectionTestUtils.setField(registration, "retryDelay", 0L);
+        registration.bindTo(registry);
+        when(brokerSvc.sendConnectorUpdateMessage(broker)).thenReturn(true);
+    }
+
+    @AfterEach
+    public void destroy() {
+        registration.destroy();
+    }
+
+    @Test
+    @SneakyThrows
+    public void registerAtBroker_manyResources_registerAll() {
+        /* ARRANGE */
+        final var resources = getResources(10);
+        when(brokerSvc.sendResourceUpdateMessage(eq(broker), any())).thenReturn(true);
+
+        /* ACT */
+        registration.registerAtBroker(broker, resources);
+
+        /* ASSERT */
+        verify(brokerSvc, times(10)).sendResourceUpdateMessage(eq(broker), any());
+        assertEquals(10, getCount("registered"));
+        assertEquals(0, getCount("failed"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void registerAtBroker_resourceFailsOnce_retryResource() {
+        /* ARRANGE */
+        final var resources = getResources(3);
+        final var flaky = resources.get(1);
+        when(brokerSvc.sendResourceUpdateMessage(eq(broker), any())).thenReturn(true);
+        when(brokerSvc.sendResourceUpdateMessage(broker, flaky))
+                .thenThrow(new IOException("unavailable"))
+                .thenReturn(true);
+
+        /* ACT */
+        registration.registerAtBroker(broker, resources);
+
+        /* ASSERT */
+        verify(brokerSvc, times(2)).sendResourceUpdateMessage(broker, flaky);
+        verify(brokerSvc, times(1)).sendResourceUpdateMessage(broker, resources.get(0));
+        assertEquals(3, getCount("registered"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void registerAtBroker_connectorRejected_doNotSendResources() {
+        /* ARRANGE */
+        final var resources = getResources(3);
+        when(brokerSvc.sendConnectorUpdateMessage(broker)).thenReturn(false);
+
+        /* ACT */
+        registration.registerAtBroker(broker, resources);
+
+        /* ASSERT */
+        verify(brokerSvc, times(2)).sendConnectorUpdateMessage(broker);
+        verify(brokerSvc, never()).sendResourceUpdateMessage(any(), any());
+        assertEquals(3, getCount("failed"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void register_beforeApplicationReady_waitForApplication() {
+        /* ARRANGE */
+        final var resources = getResources(2);
+        when(brokerSvc.sendResourceUpdateMessage(eq(broker), any())).thenReturn(true);
+
+        /* ACT */
+        registration.register(Map.of(broker, resources));
+
+        /* ASSERT */
+        verify(brokerSvc, never()).sendConnectorUpdateMessage(any());
+        assertEquals(2, getCount("pending"));
+
+        /* ACT */
+        registration.onApplicationReady();
+
+        /* ASSERT */
+        verify(brokerSvc, timeout(1000).times(2)).sendResourceUpdateMessage(eq(broker), any());
+    }
+
+    private double getCount(final String state) {
+        return registry.get("dsc.bootstrap.broker.resources").tag("state", state).gauge().value();
+    }
+
+    private List<Resource> getResources(final int count) {
+        final var resources = new ArrayList<Resource>();
+        for (var i = 0; i < count; i++) {
+            final var resource = mock(Resource.class);
+            when(resource.getId()).thenReturn(URI.create("https://resource/" + i));
+            resources.add(resource);
+        }
+        return resources;
+    }
+}
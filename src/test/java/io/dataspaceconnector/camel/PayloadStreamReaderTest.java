@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.camel;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.fraunhofer.iais.eis.Message;
+import de.fraunhofer.ids.messaging.handler.message.MessagePayload;
+import de.fraunhofer.ids.messaging.handler.message.MessagePayloadInputstream;
+import io.dataspaceconnector.camel.dto.Request;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PayloadStreamReaderTest {
+
+    private final PayloadStreamReader reader = new PayloadStreamReader();
+
+    @Test
+    @SneakyThrows
+    public void processInternal_streamAlreadyRead_returnWholePayload() {
+        /* ARRANGE */
+        final var content = "{\n  \"@id\" : \"https://resource\"\n}";
+        final var stream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        stream.readAllBytes();
+
+        /* ACT */
+        final var result = reader.processInternal(getRequest(stream));
+
+        /* ASSERT */
+        assertEquals(content, result.getBody());
+    }
+
+    @Test
+    @SneakyThrows
+    public void processInternal_largePayload_returnTruncatedPayload() {
+        /* ARRANGE */
+        final var content = "a".repeat(PayloadStreamReader.MAX_PAYLOAD_LENGTH + 1);
+        final var stream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+
+        /* ACT */
+        final var result = reader.processInternal(getRequest(stream));
+
+        /* ASSERT */
+        assertTrue(result.getBody().startsWith(
+                content.substring(0, PayloadStreamReader.MAX_PAYLOAD_LENGTH)));
+        assertTrue(result.getBody().endsWith("[truncated]"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void processInternal_noStream_returnPlaceholder() {
+        /* ACT */
+        final var result = reader.processInternal(getRequest(null));
+
+        /* ASSERT */
+        assertEquals("Payload could not be read from request.", result.getBody());
+    }
+
+    private Request<Message, MessagePayload> getRequest(
+            final ByteArrayInputStream stream) {
+        return new Request<>(Mockito.mock(Message.class),
+                new MessagePayloadInputstream(stream, new ObjectMapper()));
+    }
+}
@@ -102,7 +102,8 @@ public class MainControllerTest {
                         ._accessURL_(URI.create("https://accessUrl"))
                         .build())
                 .build();
-        Mockito.doReturn(connector).when(connectorService).getConnectorWithOfferedResources();
+        Mockito.doReturn(connector.toRdf()).when(connectorService)
+                .getConnectorWithOfferedResourcesAsRdf();
 
         /* ACT */
         final var result =
@@ -126,7 +127,7 @@ public class MainControllerTest {
     @WithMockUser("ADMIN")
     public void getPrivateSelfDescription_serviceFails_InternalServerError() throws Exception {
         /* ARRANGE */
-        Mockito.doThrow(ConstraintViolationException.class).when(connectorService).getConnectorWithOfferedResources();
+        Mockito.doThrow(ConstraintViolationException.class).when(connectorService).getConnectorWithOfferedResourcesAsRdf();
 
         /* ACT */
         final var result = mockMvc.perform(get("/api/connector"))
@@ -25,6 +25,7 @@ import de.fraunhofer.iais.eis.RejectionReason;
 import de.fraunhofer.iais.eis.SecurityProfile;
 import de.fraunhofer.iais.eis.util.TypedLiteral;
 import de.fraunhofer.iais.eis.util.Util;
+import io.dataspaceconnector.model.message.DescriptionRequestMessageDesc;
 import io.dataspaceconnector.service.ids.DeserializationService;
 import io.dataspaceconnector.service.message.type.DescriptionRequestService;
 import org.junit.jupiter.api.Test;
@@ -64,20 +65,22 @@ public class DescriptionRequestMessageControllerTest {
         final var response = getResponse(responsePayload);
         final var connector = getConnector();
 
-        when(messageService.sendMessage(any(), any())).thenReturn(response);
+        when(messageService.sendMessage(any(DescriptionRequestMessageDesc.class)))
+                .thenReturn(response);
         when(messageService.validateResponse(any())).thenReturn(true);
         when(deserializationService.getInfrastructureComponent(any())).thenReturn(connector);
 
         /* ACT */
         final var result = controller
-                .sendMessage(recipient, null);
+                .sendMessage(recipient, null, null, null, null);
 
         /* ASSERT */
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertNotNull(result.getBody());
         assertEquals(connector.toRdf(), result.getBody().toString());
 
-        verify(messageService, times(1)).sendMessage(recipient, null);
+        verify(messageService, times(1))
+                .sendMessage(new DescriptionRequestMessageDesc(recipient, null));
         verify(deserializationService, times(1))
                 .getInfrastructureComponent(responsePayload);
     }
@@ -90,13 +93,14 @@ public class DescriptionRequestMessageControllerTest {
         final var response = getResponse(responsePayload);
         final var responseContent = getResponseContent(responsePayload);
 
-        when(messageService.sendMessage(any(), any())).thenReturn(response);
+        when(messageService.sendMessage(any(DescriptionRequestMessageDesc.class)))
+                .thenReturn(response);
         when(messageService.validateResponse(any())).thenReturn(false);
         when(messageService.getResponseContent(any())).thenReturn(responseContent);
 
         /* ACT */
         final var result = controller
-                .sendMessage(recipient, null);
+                .sendMessage(recipient, null, null, null, null);
 
         /* ASSERT */
         assertEquals(HttpStatus.EXPECTATION_FAILED, result.getStatusCode());
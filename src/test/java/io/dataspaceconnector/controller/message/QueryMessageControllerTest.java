@@ -72,7 +72,7 @@ public class QueryMessageControllerTest {
 
         Mockito.doReturn(token).when(connectorService).getCurrentDat();
         Mockito.doReturn(response).when(messageService).sendQueryMessage(Mockito.any(),
-                Mockito.any());
+                Mockito.any(), Mockito.anyBoolean());
 
         /* ACT */
         final var result = mockMvc.perform(post("/api/ids/query")
@@ -91,7 +91,7 @@ public class QueryMessageControllerTest {
 
         Mockito.doReturn(token).when(connectorService).getCurrentDat();
         Mockito.doReturn(response).when(messageService).sendQueryMessage(Mockito.any(),
-                Mockito.any());
+                Mockito.any(), Mockito.anyBoolean());
 
         /* ACT */
         final var result = mockMvc.perform(post("/api/ids/query")
@@ -106,7 +106,7 @@ public class QueryMessageControllerTest {
     public void sendQueryMessage_throwIOException_returnIdsMessageFailed() throws Exception {
         /* ARRANGE */
         Mockito.doThrow(IOException.class).when(messageService).sendQueryMessage(Mockito.any(),
-                Mockito.any());
+                Mockito.any(), Mockito.anyBoolean());
 
         /* ACT */
         final var result = mockMvc.perform(post("/api/ids/query")
@@ -121,7 +121,7 @@ public class QueryMessageControllerTest {
     public void sendQueryMessage_throwDapsTokenManagerException_returnIdsMessageFailed() throws Exception {
         /* ARRANGE */
         Mockito.doThrow(DapsTokenManagerException.class).when(messageService).sendQueryMessage(Mockito.any(),
-                Mockito.any());
+                Mockito.any(), Mockito.anyBoolean());
 
         /* ACT */
         final var result = mockMvc.perform(post("/api/ids/query")
@@ -136,7 +136,7 @@ public class QueryMessageControllerTest {
     public void sendQueryMessage_throwClaimsException_returnIdsMessageFailed() throws Exception {
         /* ARRANGE */
         Mockito.doThrow(ClaimsException.class).when(messageService).sendQueryMessage(Mockito.any(),
-                Mockito.any());
+                Mockito.any(), Mockito.anyBoolean());
 
         /* ACT */
         final var result = mockMvc.perform(post("/api/ids/query")
@@ -151,7 +151,7 @@ public class QueryMessageControllerTest {
     public void sendQueryMessage_throwMultipartParseException_returnReceivedInvalidResponse() throws Exception {
         /* ARRANGE */
         Mockito.doReturn(token).when(connectorService).getCurrentDat();
-        Mockito.doThrow(MultipartParseException.class).when(messageService).sendQueryMessage(Mockito.any(), Mockito.any());
+        Mockito.doThrow(MultipartParseException.class).when(messageService).sendQueryMessage(Mockito.any(), Mockito.any(), Mockito.anyBoolean());
 
         /* ACT */
         final var result = mockMvc.perform(post("/api/ids/query")
@@ -168,7 +168,7 @@ public class QueryMessageControllerTest {
     public void sendQueryMessage_throwSocketTimeoutException_returnConnectionTimedOut() throws Exception {
         /* ARRANGE */
         Mockito.doReturn(token).when(connectorService).getCurrentDat();
-        Mockito.doThrow(SocketTimeoutException.class).when(messageService).sendQueryMessage(Mockito.any(), Mockito.any());
+        Mockito.doThrow(SocketTimeoutException.class).when(messageService).sendQueryMessage(Mockito.any(), Mockito.any(), Mockito.anyBoolean());
 
         /* ACT */
         final var result = mockMvc.perform(post("/api/ids/query")
@@ -191,7 +191,8 @@ public class QueryMessageControllerTest {
 
         Mockito.doReturn(token).when(connectorService).getCurrentDat();
         Mockito.doReturn(response).when(messageService).sendFullTextSearchQueryMessage(
-                Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
+                Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt(),
+                Mockito.anyBoolean());
 
         /* ACT */
         final var result = mockMvc.perform(post("/api/ids/search")
@@ -210,7 +211,8 @@ public class QueryMessageControllerTest {
 
         Mockito.doReturn(token).when(connectorService).getCurrentDat();
         Mockito.doReturn(response).when(messageService).sendFullTextSearchQueryMessage(
-                Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
+                Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt(),
+                Mockito.anyBoolean());
 
         /* ACT */
         final var result = mockMvc.perform(post("/api/ids/search")
@@ -226,7 +228,8 @@ public class QueryMessageControllerTest {
     public void sendSearchMessage_throwIOException_returnIdsMessageFailed() throws Exception {
         /* ARRANGE */
         Mockito.doThrow(IOException.class).when(messageService).sendFullTextSearchQueryMessage(
-                Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
+                Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt(),
+                Mockito.anyBoolean());
 
         /* ACT */
         final var result = mockMvc.perform(post("/api/ids/search")
@@ -242,7 +245,8 @@ public class QueryMessageControllerTest {
         /* ARRANGE */
         Mockito.doReturn(token).when(connectorService).getCurrentDat();
         Mockito.doThrow(MultipartParseException.class).when(messageService).sendFullTextSearchQueryMessage(
-                Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
+                Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt(),
+                Mockito.anyBoolean());
 
         /* ACT */
         final var result = mockMvc.perform(post("/api/ids/search")
@@ -260,7 +264,8 @@ public class QueryMessageControllerTest {
         /* ARRANGE */
         Mockito.doReturn(token).when(connectorService).getCurrentDat();
         Mockito.doThrow(SocketTimeoutException.class).when(messageService).sendFullTextSearchQueryMessage(
-                Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
+                Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt(),
+                Mockito.anyBoolean());
 
         /* ACT */
         final var result = mockMvc.perform(post("/api/ids/search")
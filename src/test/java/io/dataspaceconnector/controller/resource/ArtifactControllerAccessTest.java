@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.controller.resource;
+
+import io.dataspaceconnector.service.usagecontrol.AccessDecision;
+import io.dataspaceconnector.service.usagecontrol.DataAccessVerifier;
+import io.dataspaceconnector.service.usagecontrol.VerificationResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "policy.access-decisions.max-artifacts=2")
+@AutoConfigureMockMvc
+public class ArtifactControllerAccessTest {
+
+    @MockBean
+    private DataAccessVerifier accessVerifier;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final UUID artifactId = UUID.randomUUID();
+
+    @Test
+    public void getAccessDecisions_unauthorized_rejectUnauthorized() throws Exception {
+        mockMvc.perform(post("/api/artifacts/access")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    public void getAccessDecisions_validInput_returnDecisions() throws Exception {
+        /* ARRANGE */
+        when(accessVerifier.verifyAll(List.of(artifactId))).thenReturn(List.of(
+                new AccessDecision(artifactId, VerificationResult.ALLOWED, null)));
+
+        /* ACT && ASSERT */
+        mockMvc.perform(post("/api/artifacts/access")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[\"" + artifactId + "\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].artifactId").value(artifactId.toString()))
+                .andExpect(jsonPath("$[0].result").value("ALLOWED"));
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    public void getAccessDecisions_tooManyArtifacts_returnBadRequest() throws Exception {
+        /* ARRANGE */
+        final var content = "[\"" + UUID.randomUUID() + "\", \"" + UUID.randomUUID() + "\", \""
+                + UUID.randomUUID() + "\"]";
+
+        /* ACT && ASSERT */
+        mockMvc.perform(post("/api/artifacts/access")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(content))
+                .andExpect(status().isBadRequest());
+        verify(accessVerifier, never()).verifyAll(any());
+    }
+}
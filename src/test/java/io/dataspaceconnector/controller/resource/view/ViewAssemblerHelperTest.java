@@ -15,17 +15,22 @@
  */
 package io.dataspaceconnector.controller.resource.view;
 
+import io.dataspaceconnector.controller.resource.RelationControllers;
 import io.dataspaceconnector.controller.resource.ResourceControllers;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @SpringBootTest(classes = {ViewAssemblerHelper.class})
 public class ViewAssemblerHelperTest {
@@ -78,4 +83,72 @@ public class ViewAssemblerHelperTest {
         assertEquals(baseUrl + path + "/" + resourceId, result.getHref());
         assertEquals("self", result.getRel().value());
     }
+
+    @Test
+    public void getSelfLink_outsideOfRequest_useDefaultBaseUri() {
+        /* ARRANGE */
+        final var resourceId = UUID.randomUUID();
+        final var path = ResourceControllers.ArtifactController.class
+                .getAnnotation(RequestMapping.class).value()[0];
+        final var attributes = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.resetRequestAttributes();
+        ViewAssemblerHelper.setDefaultBaseUri("https://connector.example.com/");
+
+        try {
+            /* ACT */
+            final var result = ViewAssemblerHelper.getSelfLink(resourceId,
+                    ResourceControllers.ArtifactController.class);
+
+            /* ASSERT */
+            assertEquals("https://connector.example.com" + path + "/" + resourceId,
+                    result.getHref());
+        } finally {
+            ViewAssemblerHelper.setDefaultBaseUri(null);
+            RequestContextHolder.setRequestAttributes(attributes);
+        }
+    }
+
+    @Test
+    public void getSelfLink_outsideOfRequestWithoutDefault_returnRelativeLink() {
+        /* ARRANGE */
+        final var resourceId = UUID.randomUUID();
+        final var path = ResourceControllers.ArtifactController.class
+                .getAnnotation(RequestMapping.class).value()[0];
+        final var attributes = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.resetRequestAttributes();
+
+        try {
+            /* ACT */
+            final var result = ViewAssemblerHelper.getSelfLink(resourceId,
+                    ResourceControllers.ArtifactController.class);
+
+            /* ASSERT */
+            assertEquals(path + "/" + resourceId, result.getHref());
+            assertFalse(ViewAssemblerHelper.hasDefaultBaseUri());
+        } finally {
+            RequestContextHolder.setRequestAttributes(attributes);
+        }
+    }
+
+    @Test
+    public void getRelationLink_inputCorrect_sameAsLinkTo() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var expected = linkTo(methodOn(RelationControllers.ArtifactsToRepresentations.class)
+                .getResource(artifactId, null, null)).withRel("representations");
+
+        /* ACT */
+        final var result = ViewAssemblerHelper.getRelationLink(artifactId,
+                RelationControllers.ArtifactsToRepresentations.class, "representations");
+
+        /* ASSERT */
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void getRelationLink_controllerClassNull_throwIllegalArgumentException() {
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class,
+                () -> ViewAssemblerHelper.getRelationLink(UUID.randomUUID(), null, "rel"));
+    }
 }
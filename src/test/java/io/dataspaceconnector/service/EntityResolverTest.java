@@ -26,8 +26,9 @@ import io.dataspaceconnector.model.OfferedResource;
 import io.dataspaceconnector.model.OfferedResourceDesc;
 import io.dataspaceconnector.model.Representation;
 import io.dataspaceconnector.service.ids.DeserializationService;
+import io.dataspaceconnector.service.ids.EntityRdfCache;
+import io.dataspaceconnector.service.ids.IdsCatalogWriter;
 import io.dataspaceconnector.service.ids.builder.IdsArtifactBuilder;
-import io.dataspaceconnector.service.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.service.ids.builder.IdsContractBuilder;
 import io.dataspaceconnector.service.ids.builder.IdsRepresentationBuilder;
 import io.dataspaceconnector.service.ids.builder.IdsResourceBuilder;
@@ -53,7 +54,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-@SpringBootTest(classes = {EntityResolver.class})
+@SpringBootTest(classes = {EntityResolver.class, EntityRdfCache.class})
 public class EntityResolverTest {
 
     @MockBean
@@ -78,7 +79,7 @@ public class EntityResolverTest {
     private AgreementService agreementService;
 
     @MockBean
-    private IdsCatalogBuilder catalogBuilder;
+    private IdsCatalogWriter catalogWriter;
 
     @MockBean
     private IdsResourceBuilder<OfferedResource> offerBuilder;
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service;
+
+import de.fraunhofer.iais.eis.ContractAgreement;
+import io.dataspaceconnector.exception.MessageException;
+import io.dataspaceconnector.model.NegotiationJob;
+import io.dataspaceconnector.model.NegotiationJob.Status;
+import io.dataspaceconnector.model.NegotiationJob.Step;
+import io.dataspaceconnector.repository.NegotiationJobRepository;
+import io.dataspaceconnector.service.ids.DeserializationService;
+import io.dataspaceconnector.service.message.MessageFanOut;
+import io.dataspaceconnector.service.message.type.ArtifactRequestService;
+import io.dataspaceconnector.service.message.type.ContractAgreementService;
+import io.dataspaceconnector.service.message.type.ContractRequestService;
+import io.dataspaceconnector.service.message.type.DescriptionRequestService;
+import io.dataspaceconnector.service.resource.AgreementService;
+import io.dataspaceconnector.service.usagecontrol.ContractManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NegotiationJobServiceTest {
+
+    private final NegotiationJobRepository repository = mock(NegotiationJobRepository.class);
+
+    private final ContractRequestService contractReqSvc = mock(ContractRequestService.class);
+
+    private final ContractAgreementService agreementSvc = mock(ContractAgreementService.class);
+
+    private final DescriptionRequestService descReqSvc = mock(DescriptionRequestService.class);
+
+    private final ArtifactRequestService artifactReqSvc = mock(ArtifactRequestService.class);
+
+    private final DeserializationService deserializationService =
+            mock(DeserializationService.class);
+
+    private final EntityPersistenceService persistenceSvc = mock(EntityPersistenceService.class);
+
+    private final EntityUpdateService updateService = mock(EntityUpdateService.class);
+
+    private final AgreementService agreementService = mock(AgreementService.class);
+
+    private final NegotiationJobService service = new NegotiationJobService(repository,
+            contractReqSvc, agreementSvc, descReqSvc, artifactReqSvc, new MessageFanOut(),
+            mock(ContractManager.class), deserializationService, persistenceSvc, updateService,
+            agreementService, mock(PlatformTransactionManager.class));
+
+    private final URI recipient = URI.create("https://localhost:8080/api/ids/data");
+
+    private final URI firstResource = URI.create("https://localhost:8080/resources/1");
+
+    private final URI secondResource = URI.create("https://localhost:8080/resources/2");
+
+    private final Map<String, String> response = Map.of("header", "header");
+
+    @BeforeEach
+    public void init() {
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        ReflectionTestUtils.setField(service, "lease", 600000L);
+        when(repository.claim(any(), any(), any(), any(), any())).thenReturn(1);
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    public void run_interruptedDuringDescriptions_resumeWithRemainingResources() {
+        /* ARRANGE */
+        final var job = getJob(Step.DESCRIPTION_REQUESTS);
+        job.setCompletedResources(1);
+        when(descReqSvc.sendMessage(eq(recipient), eq(secondResource))).thenReturn(response);
+        when(descReqSvc.validateResponse(response)).thenReturn(true);
+
+        /* ACT */
+        service.run(UUID.randomUUID());
+
+        /* ASSERT */
+        verify(descReqSvc, never()).sendMessage(eq(recipient), eq(firstResource));
+        verify(persistenceSvc).saveMetadata(response, job.getArtifacts(), false, recipient);
+        verify(updateService).linkArtifactToAgreement(job.getArtifacts(), job.getAgreementId());
+        verify(contractReqSvc, never()).sendMessage(any(), any());
+        assertEquals(Status.COMPLETED, job.getStatus());
+        assertEquals(Step.DONE, job.getStep());
+        assertEquals(2, job.getCompletedResources());
+    }
+
+    @Test
+    public void run_recipientUnavailable_keepStepAndRetryLater() {
+        /* ARRANGE */
+        final var job = getJob(Step.CONTRACT_AGREEMENT);
+        final var agreement = mock(ContractAgreement.class);
+        when(deserializationService.getContractAgreement(job.getAgreement()))
+                .thenReturn(agreement);
+        when(agreementSvc.sendMessage(recipient, agreement))
+                .thenThrow(new MessageException("unavailable", null));
+
+        /* ACT */
+        service.run(UUID.randomUUID());
+
+        /* ASSERT */
+        assertEquals(Status.PENDING, job.getStatus());
+        assertEquals(Step.CONTRACT_AGREEMENT, job.getStep());
+        assertEquals(1, job.getAttempts());
+        assertNotNull(job.getError());
+    }
+
+    @Test
+    public void run_agreementAlreadyStored_continueWithoutSending() {
+        /* ARRANGE */
+        final var job = getJob(Step.CONTRACT_AGREEMENT);
+        job.setDownload(false);
+        final var agreement = mock(ContractAgreement.class);
+        final var agreementId = UUID.randomUUID();
+        when(agreement.getId()).thenReturn(URI.create("https://localhost:8080/agreements/1"));
+        when(deserializationService.getContractAgreement(job.getAgreement()))
+                .thenReturn(agreement);
+        when(agreementService.identifyByRemoteId(agreement.getId()))
+                .thenReturn(Optional.of(agreementId));
+        when(descReqSvc.sendMessage(any(), any())).thenReturn(response);
+        when(descReqSvc.validateResponse(response)).thenReturn(true);
+
+        /* ACT */
+        service.run(UUID.randomUUID());
+
+        /* ASSERT */
+        verify(agreementSvc, never()).sendMessage(any(), any());
+        verify(persistenceSvc, never()).saveContractAgreement(any());
+        assertEquals(agreementId, job.getAgreementId());
+        assertEquals(Status.COMPLETED, job.getStatus());
+    }
+
+    @Test
+    public void run_jobClaimedByOtherWorker_doNothing() {
+        /* ARRANGE */
+        getJob(Step.DESCRIPTION_REQUESTS);
+        when(repository.claim(any(), any(), any(), any(), any())).thenReturn(0);
+
+        /* ACT */
+        service.run(UUID.randomUUID());
+
+        /* ASSERT */
+        verify(descReqSvc, never()).sendMessage(any(), any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    public void run_lastAttemptFails_stopJob() {
+        /* ARRANGE */
+        final var job = getJob(Step.DESCRIPTION_REQUESTS);
+        job.setAttempts(2);
+        when(descReqSvc.sendMessage(any(), any()))
+                .thenThrow(new MessageException("unavailable", null));
+
+        /* ACT */
+        service.run(UUID.randomUUID());
+
+        /* ASSERT */
+        assertEquals(Status.FAILED, job.getStatus());
+        assertEquals(3, job.getAttempts());
+    }
+
+    @Test
+    public void run_descriptionRejected_failWithoutRetry() {
+        /* ARRANGE */
+        final var job = getJob(Step.DESCRIPTION_REQUESTS);
+        when(descReqSvc.sendMessage(any(), any())).thenReturn(response);
+        when(descReqSvc.validateResponse(response)).thenReturn(false);
+        when(descReqSvc.getResponseContent(response)).thenReturn(Map.of("reason", "rejected"));
+
+        /* ACT */
+        service.run(UUID.randomUUID());
+
+        /* ASSERT */
+        assertEquals(Status.FAILED, job.getStatus());
+        assertEquals(Step.DESCRIPTION_REQUESTS, job.getStep());
+        assertEquals(0, job.getAttempts());
+        verify(persistenceSvc, never()).saveMetadata(any(), any(), eq(false), any());
+    }
+
+    @Test
+    public void run_jobCompleted_doNothing() {
+        /* ARRANGE */
+        final var job = getJob(Step.DONE);
+        job.setStatus(Status.COMPLETED);
+        when(repository.claim(any(), any(), any(), any(), any())).thenReturn(0);
+
+        /* ACT */
+        service.run(UUID.randomUUID());
+
+        /* ASSERT */
+        verify(repository, never()).save(any());
+    }
+
+    private NegotiationJob getJob(final Step step) {
+        final var job = new NegotiationJob();
+        job.setRecipient(recipient);
+        job.setResources(new ArrayList<>(List.of(firstResource, secondResource)));
+        job.setArtifacts(new ArrayList<>(List.of(URI.create("https://localhost/artifacts/1"))));
+        job.setRules(new ArrayList<>());
+        job.setStatus(Status.PENDING);
+        job.setStep(step);
+        job.setAgreement("agreement");
+        job.setAgreementId(UUID.randomUUID());
+
+        when(repository.findById(any())).thenReturn(Optional.of(job));
+        return job;
+    }
+}
@@ -34,7 +34,7 @@ import de.fraunhofer.iais.eis.SecurityProfile;
 import de.fraunhofer.iais.eis.util.TypedLiteral;
 import de.fraunhofer.iais.eis.util.Util;
 import de.fraunhofer.ids.messaging.core.config.ConfigContainer;
-import de.fraunhofer.ids.messaging.core.daps.DapsTokenProvider;
+import io.dataspaceconnector.exception.ResourceNotFoundException;
 import io.dataspaceconnector.model.Catalog;
 import io.dataspaceconnector.model.OfferedResource;
 import io.dataspaceconnector.service.ids.builder.IdsCatalogBuilder;
@@ -62,6 +62,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -76,7 +77,7 @@ public class ConnectorServiceTest {
     private ConfigContainer configContainer;
 
     @MockBean
-    private DapsTokenProvider tokenProvider;
+    private DapsTokenManager tokenManager;
 
     @MockBean
     private CatalogService catalogService;
@@ -90,6 +91,9 @@ public class ConnectorServiceTest {
     @MockBean
     private OfferedResourceService offeredResourceService;
 
+    @MockBean
+    private SelfDescriptionCache selfDescriptionCache;
+
     @Autowired
     private ConnectorService connectorService;
 
@@ -191,8 +195,7 @@ public class ConnectorServiceTest {
         final var resource = getOfferedResource(uuid);
         final var idsResource = getIdsResource();
 
-        when(offeredResourceService.getAll(Pageable.unpaged()))
-                .thenReturn(new PageImpl<>(List.of(resource)));
+        when(offeredResourceService.get(uuid)).thenReturn(resource);
         when(resourceBuilder.create(resource)).thenReturn(idsResource);
 
         /* ACT */
@@ -201,6 +204,7 @@ public class ConnectorServiceTest {
         /* ASSERT */
         assertTrue(result.isPresent());
         assertEquals(idsResource, result.get());
+        verify(offeredResourceService, never()).getAll(any());
     }
 
     @Test
@@ -208,10 +212,9 @@ public class ConnectorServiceTest {
         /* ARRANGE */
         final var uuid = UUID.randomUUID();
         final var uri = URI.create("https://resource-id.com/" + uuid);
-        final var resource = getOfferedResource(UUID.randomUUID());
 
-        when(offeredResourceService.getAll(Pageable.unpaged()))
-                .thenReturn(new PageImpl<>(List.of(resource)));
+        when(offeredResourceService.get(uuid))
+                .thenThrow(new ResourceNotFoundException("OfferedResourceService: " + uuid));
 
         /* ACT */
         final var result = connectorService.getOfferedResourceById(uri);
@@ -220,6 +223,39 @@ public class ConnectorServiceTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    public void getOfferedResourceById_lastUuidUnknown_lookUpPreviousUuid() {
+        /* ARRANGE */
+        final var uuid = UUID.randomUUID();
+        final var other = UUID.randomUUID();
+        final var uri = URI.create("https://resource-id.com/" + uuid + "/contracts/" + other);
+        final var resource = getOfferedResource(uuid);
+        final var idsResource = getIdsResource();
+
+        when(offeredResourceService.get(other))
+                .thenThrow(new ResourceNotFoundException("OfferedResourceService: " + other));
+        when(offeredResourceService.get(uuid)).thenReturn(resource);
+        when(resourceBuilder.create(resource)).thenReturn(idsResource);
+
+        /* ACT */
+        final var result = connectorService.getOfferedResourceById(uri);
+
+        /* ASSERT */
+        assertEquals(idsResource, result.orElseThrow());
+    }
+
+    @Test
+    public void getOfferedResourceById_noUuid_returnEmptyOptionalWithoutLookup() {
+        /* ACT */
+        final var result =
+                connectorService.getOfferedResourceById(URI.create("https://resource-id.com/"));
+
+        /* ASSERT */
+        assertTrue(result.isEmpty());
+        verify(offeredResourceService, never()).get(any());
+        verify(offeredResourceService, never()).getAll(any());
+    }
+
     /**************************************************************************
      * Utilities.
      *************************************************************************/
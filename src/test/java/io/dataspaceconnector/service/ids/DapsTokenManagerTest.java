@@ -0,0 +1,157 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.ids;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.TokenFormat;
+import de.fraunhofer.ids.messaging.core.daps.DapsConnectionException;
+import de.fraunhofer.ids.messaging.core.daps.DapsTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DapsTokenManagerTest {
+
+    private final DapsTokenProvider tokenProvider = Mockito.mock(DapsTokenProvider.class);
+
+    private final DapsTokenManager tokenManager = new DapsTokenManager(tokenProvider);
+
+    @BeforeEach
+    public void init() {
+        ReflectionTestUtils.setField(tokenManager, "refreshMargin", 60000L);
+        ReflectionTestUtils.setField(tokenManager, "expiryMargin", 5000L);
+        ReflectionTestUtils.setField(tokenManager, "defaultLifetime", 60000L);
+    }
+
+    @Test
+    @SneakyThrows
+    public void getDat_validToken_requestDapsOnce() {
+        /* ARRANGE */
+        final var token = getToken(Instant.now().plusSeconds(3600));
+        when(tokenProvider.getDAT()).thenReturn(token);
+
+        /* ACT */
+        final var first = tokenManager.getDat();
+        final var second = tokenManager.getDat();
+
+        /* ASSERT */
+        assertSame(token, first);
+        assertSame(token, second);
+        verify(tokenProvider, times(1)).getDAT();
+    }
+
+    @Test
+    @SneakyThrows
+    public void getDat_tokenAboutToExpire_requestNewToken() {
+        /* ARRANGE */
+        final var expiring = getToken(Instant.now().plusSeconds(2));
+        final var renewed = getToken(Instant.now().plusSeconds(3600));
+        when(tokenProvider.getDAT()).thenReturn(expiring, renewed);
+
+        /* ACT */
+        tokenManager.getDat();
+        final var result = tokenManager.getDat();
+
+        /* ASSERT */
+        assertSame(renewed, result);
+        verify(tokenProvider, times(2)).getDAT();
+    }
+
+    @Test
+    @SneakyThrows
+    public void refreshExpiring_tokenInRefreshWindow_renewToken() {
+        /* ARRANGE */
+        final var expiring = getToken(Instant.now().plusSeconds(30));
+        final var renewed = getToken(Instant.now().plusSeconds(3600));
+        when(tokenProvider.getDAT()).thenReturn(expiring, renewed);
+        tokenManager.getDat();
+
+        /* ACT */
+        tokenManager.refreshExpiring();
+        tokenManager.refreshExpiring();
+
+        /* ASSERT */
+        assertSame(renewed, tokenManager.getDat());
+        verify(tokenProvider, times(2)).getDAT();
+    }
+
+    @Test
+    @SneakyThrows
+    public void refreshExpiring_noTokenRequested_doNothing() {
+        /* ACT */
+        tokenManager.refreshExpiring();
+
+        /* ASSERT */
+        verify(tokenProvider, times(0)).getDAT();
+    }
+
+    @Test
+    @SneakyThrows
+    public void getDat_unreadableExpiry_useDefaultLifetime() {
+        /* ARRANGE */
+        final var token = new DynamicAttributeTokenBuilder()
+                ._tokenFormat_(TokenFormat.OTHER)._tokenValue_("").build();
+        when(tokenProvider.getDAT()).thenReturn(token);
+
+        /* ACT */
+        tokenManager.getDat();
+        tokenManager.getDat();
+
+        /* ASSERT */
+        verify(tokenProvider, times(1)).getDAT();
+    }
+
+    @Test
+    @SneakyThrows
+    public void getDat_dapsUnreachable_throwAndCountFailure() {
+        /* ARRANGE */
+        final var registry = new SimpleMeterRegistry();
+        tokenManager.bindTo(registry);
+        when(tokenProvider.getDAT()).thenThrow(DapsConnectionException.class);
+
+        /* ACT && ASSERT */
+        assertThrows(DapsConnectionException.class, tokenManager::getDat);
+        assertEquals(1, registry.get("dsc.dat.refresh.failures").counter().count());
+        assertEquals(1, registry.get("dsc.dat.refresh").timer().count());
+    }
+
+    private static DynamicAttributeToken getToken(final Instant expiry) {
+        final var encoder = Base64.getUrlEncoder().withoutPadding();
+        final var header = encoder.encodeToString(
+                "{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8));
+        final var claims = encoder.encodeToString(("{\"exp\":" + expiry.getEpochSecond() + "}")
+                .getBytes(StandardCharsets.UTF_8));
+        return new DynamicAttributeTokenBuilder()
+                ._tokenFormat_(TokenFormat.JWT)
+                ._tokenValue_(header + "." + claims + ".signature")
+                .build();
+    }
+}
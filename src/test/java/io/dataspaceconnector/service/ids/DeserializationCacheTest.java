@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.ids;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeserializationCacheTest {
+
+    private final DeserializationCache cache = new DeserializationCache(2);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @SneakyThrows
+    public void get_sameContentTwice_deserializeOnce() {
+        /* ACT */
+        final var result = cache.get(String.class, "content", this::load);
+        final var cached = cache.get(String.class, "content", this::load);
+
+        /* ASSERT */
+        assertSame(result, cached);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @SneakyThrows
+    public void get_sameContentOtherType_deserializeAgain() {
+        /* ACT */
+        cache.get(String.class, "content", this::load);
+        cache.get(Object.class, "content", () -> load());
+
+        /* ASSERT */
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void get_deserializationFails_deserializeAgain() {
+        /* ARRANGE */
+        final DeserializationCache.Loader<String> failing = () -> {
+            loads.incrementAndGet();
+            throw new IOException("invalid");
+        };
+
+        /* ACT && ASSERT */
+        assertThrows(IOException.class, () -> cache.get(String.class, "invalid", failing));
+        assertThrows(IOException.class, () -> cache.get(String.class, "invalid", failing));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @SneakyThrows
+    public void get_cacheFull_evictLeastRecentlyUsed() {
+        /* ARRANGE */
+        final var registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        cache.get(String.class, "first", this::load);
+        cache.get(String.class, "second", this::load);
+        cache.get(String.class, "first", this::load);
+
+        /* ACT */
+        cache.get(String.class, "third", this::load);
+        cache.get(String.class, "second", this::load);
+
+        /* ASSERT */
+        assertEquals(4, loads.get());
+        assertEquals(1, registry.get("dsc.deserialization.cache.hits").functionCounter().count());
+        assertEquals(2, registry.get("dsc.deserialization.cache.evictions")
+                .functionCounter().count());
+    }
+
+    private String load() {
+        return "object" + loads.incrementAndGet();
+    }
+}
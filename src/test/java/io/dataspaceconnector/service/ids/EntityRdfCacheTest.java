@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.ids;
+
+import io.dataspaceconnector.model.AbstractEntity;
+import io.dataspaceconnector.model.ArtifactImpl;
+import io.dataspaceconnector.model.Catalog;
+import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.model.Representation;
+import io.dataspaceconnector.service.resource.EntityChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = {EntityRdfCache.class})
+class EntityRdfCacheTest {
+
+    @Autowired
+    private EntityRdfCache cache;
+
+    @Test
+    public void get_calledTwice_renderOnce() {
+        /* ARRANGE */
+        final var offer = getEntity(new OfferedResource());
+        final var renderCount = new AtomicInteger();
+
+        /* ACT */
+        final var result = cache.get(offer, cache.getVersion(),
+                () -> "rdf" + renderCount.incrementAndGet());
+        final var cached = cache.get(offer, cache.getVersion(),
+                () -> "rdf" + renderCount.incrementAndGet());
+
+        /* ASSERT */
+        assertEquals("rdf1", result);
+        assertEquals(result, cached);
+        assertEquals(1, renderCount.get());
+    }
+
+    @Test
+    public void get_entityModified_renderAgain() {
+        /* ARRANGE */
+        final var offer = getEntity(new OfferedResource());
+        cache.get(offer, cache.getVersion(), () -> "old");
+        ReflectionTestUtils.setField(offer, "modificationDate",
+                ZonedDateTime.now().plusSeconds(1));
+
+        /* ACT */
+        final var result = cache.get(offer, cache.getVersion(), () -> "new");
+
+        /* ASSERT */
+        assertEquals("new", result);
+    }
+
+    @Test
+    public void get_childChanged_renderParentAgain() {
+        /* ARRANGE */
+        final var representation = getEntity(new Representation());
+        final var artifact = getEntity(new ArtifactImpl());
+        ReflectionTestUtils.setField(artifact, "representations", List.of(representation));
+        cache.get(representation, cache.getVersion(), () -> "old");
+
+        /* ACT */
+        cache.onEntityChanged(new EntityChangedEvent(artifact, false));
+        final var result = cache.get(representation, cache.getVersion(), () -> "new");
+
+        /* ASSERT */
+        assertEquals("new", result);
+    }
+
+    @Test
+    public void get_otherChildChanged_keepParent() {
+        /* ARRANGE */
+        final var representation = getEntity(new Representation());
+        cache.get(representation, cache.getVersion(), () -> "old");
+
+        /* ACT */
+        cache.onEntityChanged(new EntityChangedEvent(getEntity(new ArtifactImpl()), false));
+        final var result = cache.get(representation, cache.getVersion(), () -> "new");
+
+        /* ASSERT */
+        assertEquals("old", result);
+    }
+
+    @Test
+    public void get_catalog_renderEveryTime() {
+        /* ARRANGE */
+        final var catalog = getEntity(new Catalog());
+        cache.get(catalog, cache.getVersion(), () -> "old");
+
+        /* ACT */
+        final var result = cache.get(catalog, cache.getVersion(), () -> "new");
+
+        /* ASSERT */
+        assertEquals("new", result);
+    }
+
+    @Test
+    public void get_cacheFull_evictLeastRecentlyUsed() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        final var first = getEntity(new Representation());
+        final var second = getEntity(new Representation());
+        final var third = getEntity(new Representation());
+
+        try {
+            cache.get(first, cache.getVersion(), () -> "first");
+            cache.get(second, cache.getVersion(), () -> "second");
+            cache.get(first, cache.getVersion(), () -> "first");
+
+            /* ACT */
+            cache.get(third, cache.getVersion(), () -> "third");
+
+            /* ASSERT */
+            assertEquals("first", cache.get(first, cache.getVersion(), () -> "new"));
+            assertEquals("new", cache.get(second, cache.getVersion(), () -> "new"));
+        } finally {
+            ReflectionTestUtils.setField(cache, "maxEntries", 10000);
+        }
+    }
+
+    @Test
+    public void get_descriptionTooLarge_renderAgain() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(cache, "maxSize", 3L);
+        final var offer = getEntity(new OfferedResource());
+
+        try {
+            cache.get(offer, cache.getVersion(), () -> "large");
+
+            /* ACT */
+            final var result = cache.get(offer, cache.getVersion(), () -> "new");
+
+            /* ASSERT */
+            assertEquals("new", result);
+        } finally {
+            ReflectionTestUtils.setField(cache, "maxSize", 16777216L);
+        }
+    }
+
+    @Test
+    public void get_childChangedAfterLoading_doNotCacheParent() {
+        /* ARRANGE */
+        final var representation = getEntity(new Representation());
+        final var artifact = getEntity(new ArtifactImpl());
+        ReflectionTestUtils.setField(artifact, "representations", List.of(representation));
+        final var loaded = cache.getVersion();
+        cache.onEntityChanged(new EntityChangedEvent(artifact, false));
+
+        /* ACT */
+        cache.get(representation, loaded, () -> "old");
+        final var result = cache.get(representation, cache.getVersion(), () -> "new");
+
+        /* ASSERT */
+        assertEquals("new", result);
+    }
+
+    @Test
+    public void get_parentChanged_keepChild() {
+        /* ARRANGE */
+        final var representation = getEntity(new Representation());
+        cache.get(representation, cache.getVersion(), () -> "old");
+
+        /* ACT */
+        cache.onEntityChanged(new EntityChangedEvent(getEntity(new OfferedResource()), false));
+        final var result = cache.get(representation, cache.getVersion(), () -> "new");
+
+        /* ASSERT */
+        assertEquals("old", result);
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    private <T extends AbstractEntity> T getEntity(final T entity) {
+        ReflectionTestUtils.setField(entity, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(entity, "modificationDate", ZonedDateTime.now());
+        return entity;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.ids;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.fraunhofer.iais.eis.Resource;
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import io.dataspaceconnector.model.Catalog;
+import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.service.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.service.ids.builder.IdsResourceBuilder;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {IdsCatalogWriter.class})
+class IdsCatalogWriterTest {
+
+    private static final String IDS = "https://w3id.org/idsa/core/";
+
+    @MockBean
+    private IdsCatalogBuilder catalogBuilder;
+
+    @MockBean
+    private IdsResourceBuilder<OfferedResource> resourceBuilder;
+
+    @MockBean
+    private EntityManager entityManager;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private IdsCatalogWriter writer;
+
+    @SuppressWarnings("unchecked")
+    private final TypedQuery<OfferedResource> query = mock(TypedQuery.class);
+
+    @BeforeEach
+    void init() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(entityManager.createQuery(anyString(), eq(OfferedResource.class))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.setFirstResult(anyInt())).thenReturn(query);
+        when(query.setMaxResults(anyInt())).thenReturn(query);
+        ReflectionTestUtils.setField(writer, "pageSize", 100);
+    }
+
+    @Test
+    @SneakyThrows
+    public void getAsRdf_twoPages_writeAllResourcesWithoutContext() {
+        /* ARRANGE */
+        final var catalog = new Catalog();
+        final var catalogId = UUID.randomUUID();
+        ReflectionTestUtils.setField(catalog, "id", catalogId);
+
+        final var idsCatalog = Mockito.mock(ResourceCatalog.class);
+        when(idsCatalog.toRdf()).thenReturn("{\"@context\":{\"ids\":\"" + IDS + "\"},"
+                + "\"@type\":\"ids:ResourceCatalog\",\"@id\":\"https://catalog\"}");
+        when(catalogBuilder.create(catalog, 0)).thenReturn(idsCatalog);
+
+        final var first = new OfferedResource();
+        final var second = new OfferedResource();
+        ReflectionTestUtils.setField(first, "title", "first");
+        ReflectionTestUtils.setField(second, "title", "second");
+        final var firstResource = getResource("https://first");
+        final var secondResource = getResource("https://second");
+        when(resourceBuilder.create(first, -1)).thenReturn(firstResource);
+        when(resourceBuilder.create(second, -1)).thenReturn(secondResource);
+
+        ReflectionTestUtils.setField(writer, "pageSize", 1);
+        when(query.getResultList()).thenReturn(List.of(first, second), List.of(second));
+
+        /* ACT */
+        final var result = new ObjectMapper().readTree(writer.getAsRdf(catalog));
+
+        /* ASSERT */
+        assertEquals("https://catalog", result.get("@id").asText());
+        assertEquals(2, result.get("ids:offeredResource").size());
+        final var resources = result.get("ids:offeredResource");
+        assertEquals("https://first", resources.get(0).get("@id").asText());
+        assertEquals("https://second", resources.get(1).get("@id").asText());
+        assertFalse(resources.get(0).has("@context"));
+        verify(query, times(2)).setParameter("catalogId", catalogId);
+        verify(query, times(1)).setFirstResult(0);
+        verify(query, times(1)).setFirstResult(1);
+        verify(entityManager, times(1)).clear();
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @SneakyThrows
+    public void getAsRdf_pagedWithDepth_writeOnlyRequestedPage() {
+        /* ARRANGE */
+        final var catalog = new Catalog();
+        final var catalogId = UUID.randomUUID();
+        ReflectionTestUtils.setField(catalog, "id", catalogId);
+
+        final var idsCatalog = Mockito.mock(ResourceCatalog.class);
+        when(idsCatalog.toRdf()).thenReturn("{\"@context\":{\"ids\":\"" + IDS + "\"},"
+                + "\"@type\":\"ids:ResourceCatalog\",\"@id\":\"https://catalog\"}");
+        when(catalogBuilder.create(catalog, 0)).thenReturn(idsCatalog);
+
+        final var offer = new OfferedResource();
+        final var resource = getResource("https://offer");
+        when(resourceBuilder.create(offer, 0)).thenReturn(resource);
+
+        final var page = PageRequest.of(3, 1);
+        when(query.getResultList()).thenReturn(List.of(offer, new OfferedResource()));
+
+        /* ACT */
+        final var result = new ObjectMapper().readTree(writer.getAsRdf(catalog, 1, page));
+
+        /* ASSERT */
+        assertEquals(1, result.get("ids:offeredResource").size());
+        verify(query, times(1)).setFirstResult(3);
+        verify(query, times(1)).getResultList();
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    @SneakyThrows
+    public void getAsRdf_callerTransactionWritable_keepPersistenceContext() {
+        /* ARRANGE */
+        final var catalog = new Catalog();
+        ReflectionTestUtils.setField(catalog, "id", UUID.randomUUID());
+
+        final var idsCatalog = Mockito.mock(ResourceCatalog.class);
+        when(idsCatalog.toRdf()).thenReturn("{\"@context\":{\"ids\":\"" + IDS + "\"},"
+                + "\"@type\":\"ids:ResourceCatalog\",\"@id\":\"https://catalog\"}");
+        when(catalogBuilder.create(catalog, 0)).thenReturn(idsCatalog);
+
+        final var offer = new OfferedResource();
+        final var resource = getResource("https://offer");
+        when(resourceBuilder.create(any(), eq(-1))).thenReturn(resource);
+
+        ReflectionTestUtils.setField(writer, "pageSize", 1);
+        when(transactionManager.getTransaction(any()))
+                .thenReturn(new SimpleTransactionStatus(false));
+        when(query.getResultList()).thenReturn(List.of(offer, offer), List.of(offer));
+
+        /* ACT */
+        final var result = new ObjectMapper().readTree(writer.getAsRdf(catalog));
+
+        /* ASSERT */
+        assertEquals(2, result.get("ids:offeredResource").size());
+        verify(entityManager, never()).clear();
+    }
+
+    private Resource getResource(final String id) {
+        final var resource = Mockito.mock(Resource.class);
+        when(resource.toRdf()).thenReturn("{\"@context\":{\"ids\":\"" + IDS + "\"},"
+                + "\"@type\":\"ids:Resource\",\"@id\":\"" + id + "\"}");
+        return resource;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.ids;
+
+import de.fraunhofer.iais.eis.BaseConnectorBuilder;
+import de.fraunhofer.iais.eis.Connector;
+import de.fraunhofer.iais.eis.ConnectorEndpointBuilder;
+import de.fraunhofer.iais.eis.ResourceCatalogBuilder;
+import de.fraunhofer.iais.eis.SecurityProfile;
+import de.fraunhofer.iais.eis.util.Util;
+import de.fraunhofer.ids.messaging.core.config.ConfigContainer;
+import io.dataspaceconnector.model.ArtifactImpl;
+import io.dataspaceconnector.model.Catalog;
+import io.dataspaceconnector.service.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.service.resource.CatalogService;
+import io.dataspaceconnector.service.resource.EntityChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {SelfDescriptionCache.class})
+class SelfDescriptionCacheTest {
+
+    @MockBean
+    private ConfigContainer configContainer;
+
+    @MockBean
+    private CatalogService catalogService;
+
+    @MockBean
+    private IdsCatalogBuilder catalogBuilder;
+
+    @MockBean
+    private DeserializationService deserializationService;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SelfDescriptionCache cache;
+
+    private final Catalog first = getCatalog();
+
+    private final Catalog second = getCatalog();
+
+    private final Connector connector = getConnector();
+
+    @BeforeEach
+    void init() {
+        cache.invalidateAll();
+        when(configContainer.getConnector()).thenReturn(connector);
+        when(deserializationService.getInfrastructureComponent(any()))
+                .thenAnswer(x -> getConnector());
+        when(catalogService.getAll(any())).thenReturn(new PageImpl<>(List.of(first, second)));
+        when(catalogBuilder.create(any(Catalog.class), eq(0)))
+                .thenAnswer(x -> new ResourceCatalogBuilder().build());
+    }
+
+    @Test
+    public void get_calledTwice_buildCatalogsOnce() {
+        /* ACT */
+        final var result = cache.get();
+        final var cached = cache.get();
+
+        /* ASSERT */
+        assertEquals(result, cached);
+        verify(catalogBuilder, times(1)).create(first, 0);
+        verify(catalogBuilder, times(1)).create(second, 0);
+    }
+
+    @Test
+    public void get_catalogChanged_rebuildOnlyChangedCatalog() {
+        /* ARRANGE */
+        cache.get();
+
+        /* ACT */
+        cache.onEntityChanged(new EntityChangedEvent(first, false));
+        cache.get();
+
+        /* ASSERT */
+        verify(catalogBuilder, times(2)).create(first, 0);
+        verify(catalogBuilder, times(1)).create(second, 0);
+    }
+
+    @Test
+    public void get_artifactChanged_keepCatalogs() {
+        /* ARRANGE */
+        final var result = cache.get();
+
+        /* ACT */
+        cache.onEntityChanged(new EntityChangedEvent(new ArtifactImpl(), false));
+        final var cached = cache.get();
+
+        /* ASSERT */
+        assertSame(result, cached);
+        verify(catalogBuilder, times(1)).create(first, 0);
+        verify(catalogBuilder, times(1)).create(second, 0);
+    }
+
+    @Test
+    public void getPage_connectorConfigured_keepConfiguredConnector() {
+        /* ARRANGE */
+        final var configured = connector.toRdf();
+
+        /* ACT */
+        cache.get();
+        cache.getPage(PageRequest.of(0, 1));
+
+        /* ASSERT */
+        assertEquals(configured, connector.toRdf());
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    private Catalog getCatalog() {
+        final var catalog = new Catalog();
+        ReflectionTestUtils.setField(catalog, "id", UUID.randomUUID());
+        return catalog;
+    }
+
+    private Connector getConnector() {
+        return new BaseConnectorBuilder(URI.create("https://connector-id.com"))
+                ._maintainer_(URI.create("https://example.com"))
+                ._curator_(URI.create("https://example.com"))
+                ._securityProfile_(SecurityProfile.BASE_SECURITY_PROFILE)
+                ._outboundModelVersion_("4.0.0")
+                ._inboundModelVersion_(Util.asList("4.0.0"))
+                ._hasDefaultEndpoint_(new ConnectorEndpointBuilder()
+                        ._accessURL_(URI.create("/api/ids/data"))
+                        .build())
+                .build();
+    }
+}
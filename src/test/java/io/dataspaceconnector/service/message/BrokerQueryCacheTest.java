@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BrokerQueryCacheTest {
+
+    private final BrokerQueryCache.Key key = new BrokerQueryCache.Key(
+            URI.create("https://broker/infrastructure"), "sparql", "SELECT ?s", null, null);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @SneakyThrows
+    public void get_sameQueryWithinTtl_loadOnce() {
+        /* ARRANGE */
+        final var cache = new BrokerQueryCache(60000, 10);
+
+        /* ACT */
+        final var first = cache.get(key, false, this::load);
+        final var second = cache.get(key, false, this::load);
+
+        /* ASSERT */
+        assertEquals(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @SneakyThrows
+    public void get_bypassCache_loadAgainAndReplaceEntry() {
+        /* ARRANGE */
+        final var cache = new BrokerQueryCache(60000, 10);
+        cache.get(key, false, this::load);
+
+        /* ACT */
+        final var refreshed = cache.get(key, true, this::load);
+        final var cached = cache.get(key, false, this::load);
+
+        /* ASSERT */
+        assertEquals(Optional.of("response-2"), refreshed);
+        assertEquals(refreshed, cached);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @SneakyThrows
+    public void get_ttlZero_loadEveryTime() {
+        /* ARRANGE */
+        final var cache = new BrokerQueryCache(0, 10);
+
+        /* ACT */
+        cache.get(key, false, this::load);
+        cache.get(key, false, this::load);
+
+        /* ASSERT */
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @SneakyThrows
+    public void get_emptyResponseOrError_doNotCache() {
+        /* ARRANGE */
+        final var cache = new BrokerQueryCache(60000, 10);
+
+        /* ACT */
+        cache.get(key, false, () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        assertThrows(IOException.class, () -> cache.get(key, false, () -> {
+            loads.incrementAndGet();
+            throw new IOException("unavailable");
+        }));
+        final var response = cache.get(key, false, this::load);
+
+        /* ASSERT */
+        assertEquals(Optional.of("response-3"), response);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @SneakyThrows
+    public void get_concurrentIdenticalQueries_loadOnce() {
+        /* ARRANGE */
+        final var cache = new BrokerQueryCache(60000, 10);
+        final var executor = Executors.newFixedThreadPool(4);
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final BrokerQueryCache.Loader slowLoader = () -> {
+            started.countDown();
+            await(release);
+            return load();
+        };
+
+        /* ACT */
+        final var first = executor.submit(() -> cache.get(key, false, slowLoader));
+        started.await();
+        final var second = executor.submit(() -> cache.get(key, false, slowLoader));
+        final var third = executor.submit(() -> cache.get(key, false, slowLoader));
+        Thread.sleep(100);
+        release.countDown();
+
+        /* ASSERT */
+        assertEquals(Optional.of("response-1"), first.get(5, TimeUnit.SECONDS));
+        assertEquals(Optional.of("response-1"), second.get(5, TimeUnit.SECONDS));
+        assertEquals(Optional.of("response-1"), third.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void normalize_whitespaceOutsideLiterals_collapse() {
+        /* ACT */
+        final var query = BrokerQueryCache.normalize(
+                "  SELECT ?s\n\tWHERE {  ?s <http://a b>  \"x   y\" . }  ");
+
+        /* ASSERT */
+        assertEquals("SELECT ?s WHERE { ?s <http://a b> \"x   y\" . }", query);
+        assertTrue(BrokerQueryCache.normalize(null).isEmpty());
+    }
+
+    @Test
+    public void normalize_lineBreakAfterComment_keepQueriesApart() {
+        /* ACT */
+        final var commented = BrokerQueryCache.normalize(
+                "SELECT ?s # all subjects\nWHERE { ?s ?p <http://a#b> . }");
+        final var uncommented = BrokerQueryCache.normalize(
+                "SELECT ?s # all subjects WHERE { ?s ?p <http://a#b> . }");
+
+        /* ASSERT */
+        assertEquals("SELECT ?s WHERE { ?s ?p <http://a#b> . }", commented);
+        assertEquals("SELECT ?s", uncommented);
+    }
+
+    @SneakyThrows
+    private void await(final CountDownLatch latch) {
+        latch.await();
+    }
+
+    private Optional<String> load() {
+        return Optional.of("response-" + loads.incrementAndGet());
+    }
+}
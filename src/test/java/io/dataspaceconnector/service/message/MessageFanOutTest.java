@@ -0,0 +1,252 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message;
+
+import io.dataspaceconnector.exception.MessageException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageFanOutTest {
+
+    private static final URI RECIPIENT = URI.create("https://localhost:8080/api/ids/data");
+
+    private final MessageFanOut fanOut = new MessageFanOut();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final AtomicInteger sent = new AtomicInteger();
+
+    private final Random random = new Random(1);
+
+    @BeforeEach
+    public void init() {
+        ReflectionTestUtils.setField(fanOut, "concurrency", 3);
+        ReflectionTestUtils.setField(fanOut, "maxThreads", 8);
+        fanOut.init();
+    }
+
+    @AfterEach
+    public void destroy() {
+        fanOut.destroy();
+    }
+
+    @Test
+    public void send_slowResponses_returnInOrderOfElements() {
+        /* ARRANGE */
+        final var elements = getElements(20);
+
+        /* ACT */
+        final var result = new ArrayList<String>();
+        try (var responses = fanOut.send(RECIPIENT, elements, this::respond)) {
+            while (responses.hasNext()) {
+                result.add(responses.next().get("header"));
+            }
+        }
+
+        /* ASSERT */
+        assertEquals(elements.size(), result.size());
+        for (var i = 0; i < elements.size(); i++) {
+            assertEquals(elements.get(i).toString(), result.get(i));
+        }
+    }
+
+    @Test
+    public void send_manyElements_sendAtMostConcurrencyAtOnce() {
+        /* ARRANGE */
+        final var elements = getElements(20);
+
+        /* ACT */
+        try (var responses = fanOut.send(RECIPIENT, elements, this::respond)) {
+            while (responses.hasNext()) {
+                responses.next();
+            }
+        }
+
+        /* ASSERT */
+        assertEquals(20, sent.get());
+        assertTrue(maxInFlight.get() <= 3);
+    }
+
+    @Test
+    @SneakyThrows
+    public void send_parallelFanOutsToSameRecipient_sendAtMostConcurrencyAtOnce() {
+        /* ARRANGE */
+        final var elements = getElements(20);
+        final Runnable fanOutAll = () -> {
+            try (var responses = fanOut.send(RECIPIENT, elements, this::respond)) {
+                while (responses.hasNext()) {
+                    responses.next();
+                }
+            }
+        };
+
+        /* ACT */
+        final var other = CompletableFuture.runAsync(fanOutAll);
+        fanOutAll.run();
+        other.get(10, TimeUnit.SECONDS);
+
+        /* ASSERT */
+        assertEquals(40, sent.get());
+        assertTrue(maxInFlight.get() <= 3);
+    }
+
+    @Test
+    @SneakyThrows
+    public void send_busyRecipient_doNotHoldThreadsOfOtherRecipients() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(fanOut, "concurrency", 2);
+        ReflectionTestUtils.setField(fanOut, "maxThreads", 3);
+        fanOut.destroy();
+        fanOut.init();
+
+        final var busy = URI.create("https://busy/api/ids/data");
+        final var release = new CountDownLatch(1);
+        final Function<URI, Map<String, String>> blocked = element -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return respond(element);
+        };
+
+        final var first = fanOut.send(busy, getElements(4), blocked);
+        final var second = fanOut.send(busy, getElements(4), blocked);
+
+        /* ACT */
+        final var other = CompletableFuture.supplyAsync(() -> {
+            try (var responses = fanOut.send(RECIPIENT, getElements(4), this::respond)) {
+                var count = 0;
+                while (responses.hasNext()) {
+                    responses.next();
+                    count++;
+                }
+                return count;
+            }
+        });
+
+        /* ASSERT */
+        try {
+            assertEquals(4, other.get(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    public void send_concurrencyOne_sendInCallingThread() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(fanOut, "concurrency", 1);
+        final var caller = Thread.currentThread();
+        final var elements = getElements(5);
+
+        /* ACT */
+        try (var responses = fanOut.send(RECIPIENT, elements, element -> {
+            assertEquals(caller, Thread.currentThread());
+            return respond(element);
+        })) {
+            while (responses.hasNext()) {
+                responses.next();
+            }
+        }
+
+        /* ASSERT */
+        assertEquals(5, sent.get());
+        assertEquals(1, maxInFlight.get());
+    }
+
+    @Test
+    public void send_requestFails_rethrowAtPositionOfElement() {
+        /* ARRANGE */
+        final var elements = getElements(5);
+        final var failing = elements.get(2);
+
+        /* ACT */
+        try (var responses = fanOut.send(RECIPIENT, elements, element -> {
+            if (element.equals(failing)) {
+                throw new MessageException("failed", null);
+            }
+            return respond(element);
+        })) {
+            responses.next();
+            responses.next();
+
+            /* ASSERT */
+            assertThrows(MessageException.class, responses::next);
+            assertEquals(elements.get(3).toString(), responses.next().get("header"));
+        }
+    }
+
+    @Test
+    public void send_noElements_returnNoResponses() {
+        /* ACT */
+        try (var responses = fanOut.send(RECIPIENT, List.of(), this::respond)) {
+            /* ASSERT */
+            assertFalse(responses.hasNext());
+        }
+        assertEquals(0, sent.get());
+    }
+
+    private List<URI> getElements(final int count) {
+        final var elements = new ArrayList<URI>();
+        for (var i = 0; i < count; i++) {
+            elements.add(URI.create("https://localhost/resources/" + i));
+        }
+        return elements;
+    }
+
+    private Map<String, String> respond(final URI element) {
+        final var current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            final int delay;
+            synchronized (random) {
+                delay = random.nextInt(5);
+            }
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+
+        sent.incrementAndGet();
+        return Map.of("header", element.toString());
+    }
+}
@@ -42,6 +42,7 @@ import io.dataspaceconnector.model.ArtifactFactory;
 import io.dataspaceconnector.model.message.DescriptionResponseMessageDesc;
 import io.dataspaceconnector.service.EntityResolver;
 import io.dataspaceconnector.service.ids.ConnectorService;
+import io.dataspaceconnector.service.ids.builder.AbstractIdsBuilder;
 import io.dataspaceconnector.service.message.type.DescriptionResponseService;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
@@ -50,6 +51,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.Pageable;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -100,7 +102,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
                                      ._issued_(xmlCalendar)
                                      .build();
 
-         Mockito.doReturn(connector).when(connectorService).getConnectorWithOfferedResources();
+         Mockito.doReturn(connector.toRdf()).when(connectorService)
+                 .getConnectorWithOfferedResourcesAsRdf();
 
          /* ACT */
          final var result =
@@ -162,7 +165,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
          Mockito.when(resolver.getEntityById(Mockito.eq(message.getRequestedElement())))
                  .thenReturn(artifact);
-         Mockito.when(resolver.getEntityAsRdfString(artifact)).thenReturn(getArtifact().toRdf());
+         Mockito.when(resolver.getEntityAsRdfString(Mockito.eq(artifact), Mockito.anyInt(),
+                 Mockito.any(), Mockito.anyLong())).thenReturn(getArtifact().toRdf());
 
          /* ACT */
          final var result =
@@ -276,14 +280,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
      @SneakyThrows
      private MessageResponse constructSelfDescription(final URI issuer, final URI messageId) {
-         final var connector = connectorService.getConnectorWithOfferedResources();
+         final var connector = connectorService.getConnectorWithOfferedResourcesAsRdf();
 
          // Build ids response message.
          final var desc = new DescriptionResponseMessageDesc(issuer, messageId);
          final var header = messageService.buildMessage(desc);
 
          // Send ids response message.
-         return BodyResponse.create(header, connector.toRdf());
+         return BodyResponse.create(header, connector);
      }
 
      @SneakyThrows
@@ -296,7 +300,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
              // If the element has been found, build the ids response message.
              final var desc = new DescriptionResponseMessageDesc(issuer, messageId);
              final var header = messageService.buildMessage(desc);
-             final var payload = resolver.getEntityAsRdfString(entity);
+             final var payload = resolver.getEntityAsRdfString(entity,
+                     AbstractIdsBuilder.DEFAULT_DEPTH, Pageable.unpaged(), 0);
 
              // Send ids response message.
              return BodyResponse.create(header, payload);
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message.handler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageHandlerLimiterTest {
+
+    private static final String ARTIFACTS = "direct:artifactRequestHandler";
+
+    private static final String DESCRIPTIONS = "direct:descriptionRequestHandler";
+
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("ids.handler.artifactRequestHandler.concurrency", "1")
+            .withProperty("ids.handler.artifactRequestHandler.queue-size", "1")
+            .withProperty("ids.handler.artifactRequestHandler.queue-timeout", "5000");
+
+    private final MessageHandlerLimiter limiter = new MessageHandlerLimiter(environment);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    public void init() {
+        ReflectionTestUtils.setField(limiter, "defaultConcurrency", 0);
+        ReflectionTestUtils.setField(limiter, "defaultQueueSize", 100);
+        ReflectionTestUtils.setField(limiter, "defaultQueueTimeout", 10000L);
+        ReflectionTestUtils.setField(limiter, "maxThreads", 200);
+        limiter.init();
+        limiter.bindTo(registry);
+    }
+
+    @Test
+    public void init_routeConfigured_createLimitBeforeFirstMessage() {
+        /* ACT & ASSERT */
+        assertEquals(0, getGauge("dsc.messages.inbound.active", "artifactRequestHandler"));
+        // Concurrency and queue size of the only limited route.
+        assertEquals(2, ((AtomicInteger) ReflectionTestUtils.getField(limiter,
+                "reservedThreads")).get());
+    }
+
+    @Test
+    public void tryAcquire_routeWithoutLimit_alwaysAcquire() {
+        /* ACT & ASSERT */
+        for (var i = 0; i < 50; i++) {
+            assertTrue(limiter.tryAcquire(DESCRIPTIONS));
+        }
+        assertEquals(50, getGauge("dsc.messages.inbound.active", "descriptionRequestHandler"));
+    }
+
+    @Test
+    @SneakyThrows
+    public void tryAcquire_routeSaturated_queueThenReject() {
+        /* ARRANGE */
+        assertTrue(limiter.tryAcquire(ARTIFACTS));
+        final var queued = CompletableFuture.supplyAsync(() -> limiter.tryAcquire(ARTIFACTS));
+        while (getGauge("dsc.messages.inbound.queued", "artifactRequestHandler") < 1) {
+            Thread.sleep(10);
+        }
+
+        /* ACT */
+        final var rejected = limiter.tryAcquire(ARTIFACTS);
+        limiter.release(ARTIFACTS);
+
+        /* ASSERT */
+        assertFalse(rejected);
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1, registry.get("dsc.messages.inbound.rejected")
+                .tag("route", "artifactRequestHandler").functionCounter().count());
+    }
+
+    @Test
+    public void tryAcquire_otherRouteSaturated_acquire() {
+        /* ARRANGE */
+        assertTrue(limiter.tryAcquire(ARTIFACTS));
+
+        /* ACT & ASSERT */
+        assertTrue(limiter.tryAcquire(DESCRIPTIONS));
+    }
+
+    @Test
+    public void release_afterAcquire_freeSlot() {
+        /* ARRANGE */
+        assertTrue(limiter.tryAcquire(ARTIFACTS));
+        limiter.release(ARTIFACTS);
+
+        /* ACT & ASSERT */
+        assertTrue(limiter.tryAcquire(ARTIFACTS));
+        assertEquals(1, getGauge("dsc.messages.inbound.active", "artifactRequestHandler"));
+    }
+
+    private double getGauge(final String name, final String route) {
+        return registry.get(name).tag("route", route).gauge().value();
+    }
+}
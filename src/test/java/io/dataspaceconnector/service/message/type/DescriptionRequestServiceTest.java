@@ -22,16 +22,23 @@ import io.dataspaceconnector.model.message.DescriptionRequestMessageDesc;
 import io.dataspaceconnector.service.ids.ConnectorService;
 import io.dataspaceconnector.service.ids.DeserializationService;
 import de.fraunhofer.ids.messaging.protocol.http.IdsHttpService;
+import io.dataspaceconnector.exception.MessageException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import okhttp3.MultipartBody;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import java.io.IOException;
 import java.net.URI;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 
 @SpringBootTest(classes = {DescriptionRequestService.class})
 class DescriptionRequestServiceTest {
@@ -83,4 +90,55 @@ class DescriptionRequestServiceTest {
         assertEquals(modelVersion, result.getModelVersion());
         assertEquals(token, result.getSecurityToken());
     }
+
+    @Test
+    @SneakyThrows
+    public void sendMessage_responseReceived_recordLatencyPerRecipient() {
+        /* ARRANGE */
+        final var registry = new SimpleMeterRegistry();
+        requestService.bindTo(registry);
+        mockConnector();
+        Mockito.when(idsHttpService.sendAndCheckDat(any(MultipartBody.class), any(URI.class)))
+                .thenReturn(Map.of("header", "header"));
+
+        /* ACT */
+        requestService.sendMessage(URI.create("https://recipient:8080/api/ids/data"), null);
+
+        /* ASSERT */
+        final var timer = registry.get("dsc.messages.outbound")
+                .tag("recipient", "https://recipient:8080")
+                .tag("outcome", "success")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    @SneakyThrows
+    public void sendMessage_recipientUnavailable_recordError() {
+        /* ARRANGE */
+        final var registry = new SimpleMeterRegistry();
+        requestService.bindTo(registry);
+        mockConnector();
+        Mockito.when(idsHttpService.sendAndCheckDat(any(MultipartBody.class), any(URI.class)))
+                .thenThrow(new IOException("unavailable"));
+
+        /* ACT */
+        assertThrows(MessageException.class, () -> requestService
+                .sendMessage(URI.create("https://recipient/api/ids/data"), null));
+
+        /* ASSERT */
+        final var timer = registry.get("dsc.messages.outbound")
+                .tag("recipient", "https://recipient")
+                .tag("outcome", "IOException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    private void mockConnector() {
+        final var token = new DynamicAttributeTokenBuilder()
+                ._tokenFormat_(TokenFormat.OTHER)._tokenValue_("").build();
+        Mockito.when(connectorService.getConnectorId()).thenReturn(URI.create("https://connector"));
+        Mockito.when(connectorService.getOutboundModelVersion()).thenReturn("4.0.0");
+        Mockito.when(connectorService.getCurrentDat()).thenReturn(token);
+    }
 }
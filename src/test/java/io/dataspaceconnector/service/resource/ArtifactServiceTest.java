@@ -16,9 +16,12 @@
 package io.dataspaceconnector.service.resource;
 
 import java.lang.reflect.Field;
+import java.net.URI;
 import java.net.URL;
+import java.util.Optional;
 import java.util.UUID;
 
+import io.dataspaceconnector.exception.PolicyRestrictionException;
 import io.dataspaceconnector.model.Artifact;
 import io.dataspaceconnector.model.ArtifactDesc;
 import io.dataspaceconnector.model.ArtifactFactory;
@@ -29,7 +32,12 @@ import io.dataspaceconnector.model.QueryInput;
 import io.dataspaceconnector.model.RemoteData;
 import io.dataspaceconnector.repository.ArtifactRepository;
 import io.dataspaceconnector.repository.DataRepository;
+import io.dataspaceconnector.service.ArtifactRetriever;
 import io.dataspaceconnector.service.HttpService;
+import io.dataspaceconnector.service.usagecontrol.AgreementSelector;
+import io.dataspaceconnector.service.usagecontrol.PolicyVerifier;
+import io.dataspaceconnector.service.usagecontrol.UsageQuotaService;
+import io.dataspaceconnector.service.usagecontrol.VerificationResult;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,7 +45,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -59,6 +69,12 @@ class ArtifactServiceTest {
     @MockBean
     private ArtifactFactory artifactFactory;
 
+    @MockBean
+    private AgreementSelector agreementSelector;
+
+    @MockBean
+    private UsageQuotaService usageQuota;
+
     @Autowired
     private ArtifactService service;
 
@@ -181,6 +197,32 @@ class ArtifactServiceTest {
         verify(artifactRepository, times(1)).saveAndFlush(artifact);
         verify(dataRepository, times(1)).saveAndFlush(data);
     }
+
+    /**************************************************************************
+     * getData
+     *************************************************************************/
+
+    @SneakyThrows
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getData_retrievalFails_releaseGrantedAccess() {
+        /* ARRANGE */
+        final var artifact = getLocalArtifact();
+        final PolicyVerifier<Artifact> verifier = mock(PolicyVerifier.class);
+        final var retriever = mock(ArtifactRetriever.class);
+        final var info = new RetrievalInformation(URI.create("https://agreement"), true, null);
+
+        when(artifactRepository.findById(artifact.getId())).thenReturn(Optional.of(artifact));
+        when(verifier.verify(artifact)).thenReturn(VerificationResult.ALLOWED);
+        when(retriever.retrieve(any(), any(), any(), any()))
+                .thenThrow(PolicyRestrictionException.class);
+
+        /* ACT && ASSERT */
+        assertThrows(PolicyRestrictionException.class,
+                () -> service.getData(verifier, retriever, artifact.getId(), info));
+        verify(usageQuota, times(1)).release(artifact.getId());
+        verify(usageQuota, never()).recordAccess(any());
+    }
 //
 //    /**************************************************************************
 //     * getData.
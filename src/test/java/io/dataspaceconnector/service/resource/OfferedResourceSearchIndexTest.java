@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.resource;
+
+import io.dataspaceconnector.model.OfferedResource;
+import io.dataspaceconnector.model.OfferedResourceDesc;
+import io.dataspaceconnector.model.OfferedResourceFactory;
+import io.dataspaceconnector.repository.OfferedResourcesRepository;
+import io.dataspaceconnector.service.resource.OfferedResourceSearchIndex.Facet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OfferedResourceSearchIndexTest {
+
+    private final OfferedResourcesRepository repository = mock(OfferedResourcesRepository.class);
+
+    private final OfferedResourceSearchIndex index = new OfferedResourceSearchIndex(repository,
+            mock(PlatformTransactionManager.class));
+
+    private final OfferedResource weather = getResource("Weather data",
+            "Hourly temperature and rain", List.of("weather", "climate"), "EN");
+
+    private final OfferedResource traffic = getResource("Traffic data",
+            "Traffic jams and weather warnings", List.of("traffic"), "DE");
+
+    private final OfferedResource energy = getResource("Energy prices",
+            "Daily energy prices", List.of("energy", "climate"), "EN");
+
+    @BeforeEach
+    public void init() {
+        when(repository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(weather, traffic, energy)));
+        index.rebuild();
+    }
+
+    @Test
+    public void search_term_rankTitleMatchFirst() {
+        /* ACT */
+        final var result = index.search("WEATHER", Map.of(), 0, 10);
+
+        /* ASSERT */
+        assertEquals(2, result.getTotal());
+        assertEquals(List.of(weather.getId(), traffic.getId()), result.getResources());
+    }
+
+    @Test
+    public void search_severalTerms_requireAllTerms() {
+        /* ACT */
+        final var result = index.search("weather jams", Map.of(), 0, 10);
+
+        /* ASSERT */
+        assertEquals(List.of(traffic.getId()), result.getResources());
+    }
+
+    @Test
+    public void search_facetFilter_restrictHitsAndCountFacets() {
+        /* ACT */
+        final var result = index.search(null, Map.of(Facet.KEYWORD, "climate"), 0, 10);
+
+        /* ASSERT */
+        assertEquals(2, result.getTotal());
+        assertEquals(Map.of("EN", 2), result.getFacets().get(Facet.LANGUAGE));
+        assertEquals(2, result.getFacets().get(Facet.KEYWORD).get("climate"));
+        assertEquals(1, result.getFacets().get(Facet.KEYWORD).get("energy"));
+    }
+
+    @Test
+    public void search_page_returnRequestedSlice() {
+        /* ACT */
+        final var first = index.search("", Map.of(), 0, 2);
+        final var second = index.search("", Map.of(), 2, 2);
+
+        /* ASSERT */
+        assertEquals(3, first.getTotal());
+        assertEquals(List.of(energy.getId(), traffic.getId()), first.getResources());
+        assertEquals(List.of(weather.getId()), second.getResources());
+    }
+
+    @Test
+    public void onEntityChanged_updatedAndDeleted_updateIndex() {
+        /* ARRANGE */
+        ReflectionTestUtils.setField(traffic, "title", "Parking spaces");
+        ReflectionTestUtils.setField(traffic, "modificationDate", ZonedDateTime.now());
+        when(repository.findById(traffic.getId())).thenReturn(Optional.of(traffic));
+
+        /* ACT */
+        index.onEntityChanged(new EntityChangedEvent(traffic, false));
+        index.onEntityChanged(new EntityChangedEvent(energy, true));
+
+        /* ASSERT */
+        assertEquals(List.of(traffic.getId()), index.search("parking", Map.of(), 0, 10)
+                .getResources());
+        assertTrue(index.search("energy", Map.of(), 0, 10).getResources().isEmpty());
+        assertEquals(2, index.search(null, Map.of(), 0, 10).getTotal());
+    }
+
+    private OfferedResource getResource(final String title, final String description,
+                                        final List<String> keywords, final String language) {
+        final var desc = new OfferedResourceDesc();
+        desc.setTitle(title);
+        desc.setDescription(description);
+        desc.setKeywords(keywords);
+        desc.setLanguage(language);
+        desc.setPublisher(URI.create("https://publisher"));
+
+        final var resource = new OfferedResourceFactory().create(desc);
+        ReflectionTestUtils.setField(resource, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(resource, "modificationDate",
+                ZonedDateTime.now().minusDays(1));
+        return resource;
+    }
+}
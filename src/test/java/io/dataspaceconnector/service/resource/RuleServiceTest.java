@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.service.resource;
 
+import io.dataspaceconnector.model.Contract;
 import io.dataspaceconnector.model.ContractRule;
 import io.dataspaceconnector.model.ContractRuleFactory;
 import io.dataspaceconnector.repository.RuleRepository;
@@ -22,12 +23,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = {RuleService.class})
@@ -39,6 +45,9 @@ public class RuleServiceTest {
     @MockBean
     private ContractRuleFactory factory;
 
+    @MockBean
+    private ContractService contractService;
+
     @Autowired
     private RuleService service;
 
@@ -62,4 +71,26 @@ public class RuleServiceTest {
         /* ASSERT */
         assertEquals(rules, result);
     }
+
+    @Test
+    public void delete_ruleUsedByContract_refreshContractWithoutRule() {
+        /* ARRANGE */
+        final var ruleId = UUID.randomUUID();
+        final var rule = new ContractRule();
+        ReflectionTestUtils.setField(rule, "id", ruleId);
+
+        final var contract = new Contract();
+        ReflectionTestUtils.setField(contract, "rules", new ArrayList<>(List.of(rule)));
+        ReflectionTestUtils.setField(rule, "contracts", List.of(contract));
+
+        when(repository.findById(ruleId)).thenReturn(Optional.of(rule));
+
+        /* ACT */
+        service.delete(ruleId);
+
+        /* ASSERT */
+        verify(repository).deleteById(ruleId);
+        verify(contractService).persist(contract);
+        assertTrue(contract.getRules().isEmpty());
+    }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import de.fraunhofer.iais.eis.Action;
+import de.fraunhofer.iais.eis.BinaryOperator;
+import de.fraunhofer.iais.eis.ConstraintBuilder;
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.ContractAgreementBuilder;
+import de.fraunhofer.iais.eis.LeftOperand;
+import de.fraunhofer.iais.eis.PermissionBuilder;
+import de.fraunhofer.iais.eis.ProhibitionBuilder;
+import de.fraunhofer.iais.eis.util.RdfResource;
+import de.fraunhofer.iais.eis.util.Util;
+import de.fraunhofer.ids.messaging.util.IdsMessageUtils;
+import io.dataspaceconnector.config.ConnectorConfiguration;
+import io.dataspaceconnector.exception.PolicyRestrictionException;
+import io.dataspaceconnector.model.Agreement;
+import io.dataspaceconnector.model.Artifact;
+import io.dataspaceconnector.model.ArtifactImpl;
+import io.dataspaceconnector.service.ids.DeserializationService;
+import io.dataspaceconnector.util.ErrorMessages;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {AgreementSelector.class})
+class AgreementSelectorTest {
+
+    @MockBean
+    private DeserializationService deserializationService;
+
+    @MockBean
+    private UsageQuotaService usageQuota;
+
+    @MockBean
+    private ConnectorConfiguration connectorConfig;
+
+    @Autowired
+    private AgreementSelector selector;
+
+    private final URI remoteId = URI.create("https://target.com");
+
+    @Test
+    public void select_noAgreements_throwPolicyRestrictionException() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+
+        /* ACT & ASSERT */
+        assertThrows(PolicyRestrictionException.class, () -> selector.select(artifact, List.of()));
+    }
+
+    @Test
+    public void select_prohibitingAgreement_ignoreProhibitionLikeAccessVerification() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var prohibited = getAgreement("https://prohibited.com", "prohibited");
+
+        when(deserializationService.getStoredContractAgreement("prohibited"))
+                .thenReturn(getProhibitingAgreement());
+
+        /* ACT */
+        final var result = selector.select(artifact, List.of(prohibited));
+
+        /* ASSERT */
+        assertEquals(URI.create("https://prohibited.com"), result);
+    }
+
+    @Test
+    public void select_allAgreementsExhausted_throwWithReason() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var exhausted = getAgreement("https://exhausted.com", "exhausted");
+
+        when(usageQuota.getAccessNumber(artifact.getId())).thenReturn(3L);
+        when(deserializationService.getStoredContractAgreement("exhausted"))
+                .thenReturn(getNTimesAgreement("3"));
+
+        /* ACT */
+        final var exception = assertThrows(PolicyRestrictionException.class,
+                () -> selector.select(artifact, List.of(exhausted)));
+
+        /* ASSERT */
+        assertEquals(ErrorMessages.DATA_ACCESS_NUMBER_REACHED.toString(),
+                exception.getMessage());
+    }
+
+    @Test
+    public void select_allAgreementsExhaustedButUnsupportedAllowed_returnFirst() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var first = getAgreement("https://first.com", "first");
+        final var second = getAgreement("https://second.com", "second");
+
+        when(connectorConfig.isAllowUnsupported()).thenReturn(true);
+        when(usageQuota.getAccessNumber(artifact.getId())).thenReturn(3L);
+        when(deserializationService.getStoredContractAgreement("first"))
+                .thenReturn(getNTimesAgreement("3"));
+        when(deserializationService.getStoredContractAgreement("second"))
+                .thenReturn(getNTimesAgreement("2"));
+
+        /* ACT */
+        final var result = selector.select(artifact, List.of(first, second));
+
+        /* ASSERT */
+        assertEquals(URI.create("https://first.com"), result);
+    }
+
+    @Test
+    public void select_exhaustedAndRemainingAccesses_preferMostRemaining() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var exhausted = getAgreement("https://exhausted.com", "exhausted");
+        final var few = getAgreement("https://few.com", "few");
+        final var many = getAgreement("https://many.com", "many");
+
+        when(usageQuota.getAccessNumber(artifact.getId())).thenReturn(3L);
+
+        when(deserializationService.getStoredContractAgreement("exhausted"))
+                .thenReturn(getNTimesAgreement("3"));
+        when(deserializationService.getStoredContractAgreement("few"))
+                .thenReturn(getNTimesAgreement("5"));
+        when(deserializationService.getStoredContractAgreement("many"))
+                .thenReturn(getNTimesAgreement("10"));
+
+        /* ACT */
+        final var result = selector.select(artifact, List.of(exhausted, few, many));
+
+        /* ASSERT */
+        assertEquals(URI.create("https://many.com"), result);
+    }
+
+    @Test
+    public void select_undeserializableAgreement_throwPolicyRestrictionException() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var agreement = getAgreement("https://invalid.com", "invalid");
+
+        when(deserializationService.getStoredContractAgreement("invalid"))
+                .thenThrow(IllegalArgumentException.class);
+
+        /* ACT & ASSERT */
+        assertThrows(PolicyRestrictionException.class,
+                () -> selector.select(artifact, List.of(agreement)));
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    private ContractAgreement getNTimesAgreement(final String max) {
+        return new ContractAgreementBuilder(URI.create("https://agreement.com"))
+                ._contractStart_(IdsMessageUtils.getGregorianNow())
+                ._permission_(Util.asList(new PermissionBuilder()
+                        ._action_(Util.asList(Action.USE))
+                        ._constraint_(Util.asList(new ConstraintBuilder()
+                                ._leftOperand_(LeftOperand.COUNT)
+                                ._operator_(BinaryOperator.LTEQ)
+                                ._rightOperand_(new RdfResource(max,
+                                        URI.create("xsd:double")))
+                                .build()))
+                        ._target_(remoteId)
+                        .build()))
+                .build();
+    }
+
+    private ContractAgreement getProhibitingAgreement() {
+        return new ContractAgreementBuilder(URI.create("https://agreement.com"))
+                ._contractStart_(IdsMessageUtils.getGregorianNow())
+                ._prohibition_(Util.asList(new ProhibitionBuilder()
+                        ._action_(Util.asList(Action.USE))
+                        ._target_(remoteId)
+                        .build()))
+                .build();
+    }
+
+    private Agreement getAgreement(final String agreementRemoteId, final String value) {
+        final var agreement = new Agreement();
+        ReflectionTestUtils.setField(agreement, "remoteId", URI.create(agreementRemoteId));
+        ReflectionTestUtils.setField(agreement, "value", value);
+        return agreement;
+    }
+
+    private Artifact getArtifact() {
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(artifact, "remoteId", remoteId);
+        return artifact;
+    }
+}
@@ -32,6 +32,8 @@ import io.dataspaceconnector.exception.PolicyRestrictionException;
 import io.dataspaceconnector.model.Artifact;
 import io.dataspaceconnector.model.ArtifactImpl;
 import io.dataspaceconnector.service.EntityResolver;
+import io.dataspaceconnector.service.resource.ArtifactService;
+import io.dataspaceconnector.util.ErrorMessages;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -44,8 +46,13 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = {DataAccessVerifier.class})
@@ -60,6 +67,15 @@ public class DataAccessVerifierTest {
     @MockBean
     private EntityResolver entityResolver;
 
+    @MockBean
+    private PolicyDecisionCache decisionCache;
+
+    @MockBean
+    private ArtifactService artifactService;
+
+    @MockBean
+    private UsageQuotaService usageQuota;
+
     @Autowired
     private DataAccessVerifier verifier;
 
@@ -101,6 +117,54 @@ public class DataAccessVerifierTest {
         assertEquals(VerificationResult.DENIED, result);
     }
 
+    @Test
+    public void verifyAll_knownAndUnknownArtifact_returnDecisionPerArtifact() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var agreement = getContractAgreement();
+        final var unknownId = UUID.randomUUID();
+
+        when(artifactService.getAllWithAgreements(any())).thenReturn(List.of(artifact));
+        when(entityResolver.getContractAgreements(artifact)).thenReturn(List.of(agreement));
+        doNothing().when(ruleValidator).validatePolicy(any(), any(), any(), any(), any());
+
+        /* ACT */
+        final var result = verifier.verifyAll(List.of(unknownId, artifactId));
+
+        /* ASSERT */
+        assertEquals(2, result.size());
+        assertEquals(unknownId, result.get(0).getArtifactId());
+        assertEquals(VerificationResult.DENIED, result.get(0).getResult());
+        assertEquals(artifactId, result.get(1).getArtifactId());
+        assertEquals(VerificationResult.ALLOWED, result.get(1).getResult());
+        verify(decisionCache, never()).allow(any(), any(), any(), any(), any(), anyLong());
+        verify(ruleValidator).validatePolicy(any(), any(), any(), isNull(), eq(artifact));
+        verify(ruleValidator, never()).validatePolicy(any(), any(), any(), any());
+        verify(ruleValidator, never()).getValidUntil(any(), any(), any());
+        verify(usageQuota, never()).getAccessNumber(any());
+    }
+
+    @Test
+    public void verifyAll_accessNotAllowed_returnDeniedWithReason() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var agreement = getContractAgreement();
+
+        when(artifactService.getAllWithAgreements(any())).thenReturn(List.of(artifact));
+        when(entityResolver.getContractAgreements(artifact)).thenReturn(List.of(agreement));
+        doThrow(new PolicyRestrictionException(ErrorMessages.DATA_ACCESS_INVALID_INTERVAL))
+                .when(ruleValidator).validatePolicy(any(), any(), any(), any(), any());
+        when(connectorConfig.isAllowUnsupported()).thenReturn(false);
+
+        /* ACT */
+        final var result = verifier.verifyAll(List.of(artifactId));
+
+        /* ASSERT */
+        assertEquals(VerificationResult.DENIED, result.get(0).getResult());
+        assertEquals(ErrorMessages.DATA_ACCESS_INVALID_INTERVAL.toString(),
+                result.get(0).getReason());
+    }
+
     /***********************************************************************************************
      * Utilities.                                                                                  *
      **********************************************************************************************/
@@ -38,8 +38,11 @@ import java.net.URI;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = {DataProvisionVerifier.class})
@@ -51,6 +54,9 @@ public class DataProvisionVerifierTest {
     @MockBean
     private ConnectorConfiguration connectorConfig;
 
+    @MockBean
+    private PolicyDecisionCache decisionCache;
+
     @Autowired
     private DataProvisionVerifier verifier;
 
@@ -92,6 +98,25 @@ public class DataProvisionVerifierTest {
         assertEquals(VerificationResult.DENIED, result);
     }
 
+    @Test
+    public void verify_decisionCached_skipValidation() {
+        /* ARRANGE */
+        final var agreement = getContractAgreement();
+        final var issuerConnector = URI.create("https://issuer.com");
+
+        final var input = new VerificationInput(target, issuerConnector, agreement);
+
+        when(decisionCache.isAllowed(eq(target), eq(agreement.getId()), eq(issuerConnector),
+                any())).thenReturn(true);
+
+        /* ACT */
+        final var result = verifier.verify(input);
+
+        /* ASSERT */
+        assertEquals(VerificationResult.ALLOWED, result);
+        verify(ruleValidator, never()).validatePolicy(any(), any(), any(), any());
+    }
+
     /***********************************************************************************************
      * Utilities.                                                                                  *
      **********************************************************************************************/
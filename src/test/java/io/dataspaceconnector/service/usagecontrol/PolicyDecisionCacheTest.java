@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.net.URI;
+import java.util.List;
+
+import io.dataspaceconnector.model.Agreement;
+import io.dataspaceconnector.service.resource.EntityChangedEvent;
+import io.dataspaceconnector.util.RuleUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PolicyDecisionCacheTest {
+
+    private final URI target = URI.create("https://localhost:8080/api/artifacts/1");
+
+    private final URI agreement = URI.create("https://localhost:8080/api/agreements/1");
+
+    private final URI issuer = URI.create("https://issuer.com");
+
+    private final List<PolicyPattern> patterns = List.of(PolicyPattern.PROVIDE_ACCESS,
+            PolicyPattern.USAGE_DURING_INTERVAL);
+
+    private PolicyDecisionCache cache;
+
+    @BeforeEach
+    void init() {
+        cache = new PolicyDecisionCache();
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxEntries", 10);
+    }
+
+    @Test
+    public void isAllowed_noDecision_returnFalse() {
+        /* ACT && ASSERT */
+        assertFalse(cache.isAllowed(target, agreement, issuer, patterns));
+    }
+
+    @Test
+    public void isAllowed_validDecision_returnTrue() {
+        /* ARRANGE */
+        final var validUntil = RuleUtils.getCurrentDate().plusHours(1);
+        cache.allow(target, agreement, issuer, patterns, validUntil, cache.getGeneration());
+
+        /* ACT && ASSERT */
+        assertTrue(cache.isAllowed(target, agreement, issuer, patterns));
+        assertFalse(cache.isAllowed(target, agreement, null, patterns));
+    }
+
+    @Test
+    public void isAllowed_expiredDecision_returnFalse() {
+        /* ARRANGE */
+        final var validUntil = RuleUtils.getCurrentDate().minusSeconds(1);
+        cache.allow(target, agreement, issuer, patterns, validUntil, cache.getGeneration());
+
+        /* ACT && ASSERT */
+        assertFalse(cache.isAllowed(target, agreement, issuer, patterns));
+    }
+
+    @Test
+    public void allow_noBoundary_doNotCache() {
+        /* ACT */
+        cache.allow(target, agreement, issuer, patterns, null, cache.getGeneration());
+
+        /* ASSERT */
+        assertFalse(cache.isAllowed(target, agreement, issuer, patterns));
+    }
+
+    @Test
+    public void allow_invalidatedDuringEvaluation_doNotCache() {
+        /* ARRANGE */
+        final var generation = cache.getGeneration();
+        cache.invalidateAll();
+
+        /* ACT */
+        cache.allow(target, agreement, issuer, patterns, PolicyDecisionCache.UNBOUNDED,
+                generation);
+
+        /* ASSERT */
+        assertFalse(cache.isAllowed(target, agreement, issuer, patterns));
+    }
+
+    @Test
+    public void invalidateAll_cachedDecision_dropDecision() {
+        /* ARRANGE */
+        cache.allow(target, agreement, issuer, patterns, PolicyDecisionCache.UNBOUNDED,
+                cache.getGeneration());
+
+        /* ACT */
+        cache.invalidateAll();
+
+        /* ASSERT */
+        assertFalse(cache.isAllowed(target, agreement, issuer, patterns));
+    }
+
+    @Test
+    public void isAllowed_otherPatterns_returnFalse() {
+        /* ARRANGE */
+        cache.allow(target, agreement, issuer, patterns, PolicyDecisionCache.UNBOUNDED,
+                cache.getGeneration());
+
+        /* ACT && ASSERT */
+        assertFalse(cache.isAllowed(target, agreement, issuer,
+                List.of(PolicyPattern.PROVIDE_ACCESS)));
+        assertTrue(cache.isAllowed(target, agreement, issuer,
+                List.of(PolicyPattern.USAGE_DURING_INTERVAL, PolicyPattern.PROVIDE_ACCESS)));
+    }
+
+    @Test
+    public void onEntityChanged_agreement_dropDecision() {
+        /* ARRANGE */
+        cache.allow(target, agreement, issuer, patterns, PolicyDecisionCache.UNBOUNDED,
+                cache.getGeneration());
+
+        /* ACT */
+        cache.onEntityChanged(new EntityChangedEvent(new Agreement(), false));
+
+        /* ASSERT */
+        assertFalse(cache.isAllowed(target, agreement, issuer, patterns));
+    }
+
+    @Test
+    public void restrict_anyBoundaryNull_returnNull() {
+        /* ACT && ASSERT */
+        assertNull(PolicyDecisionCache.restrict(PolicyDecisionCache.UNBOUNDED, null));
+        assertNull(PolicyDecisionCache.restrict(null, PolicyDecisionCache.UNBOUNDED));
+    }
+
+    @Test
+    public void restrict_twoBoundaries_returnEarlier() {
+        /* ARRANGE */
+        final var earlier = RuleUtils.getCurrentDate();
+
+        /* ACT && ASSERT */
+        assertEquals(earlier, PolicyDecisionCache.restrict(PolicyDecisionCache.UNBOUNDED,
+                earlier));
+    }
+}
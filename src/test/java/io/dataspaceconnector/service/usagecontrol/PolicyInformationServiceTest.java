@@ -43,8 +43,6 @@ public class PolicyInformationServiceTest {
 
     private final ZonedDateTime date = ZonedDateTime.now(ZoneOffset.UTC);
 
-    private final long numAccessed = 1;
-
     @Test
     public void getCreationDate_artifactPresent_returnCreationDate() {
         /* ARRANGE */
@@ -60,21 +58,6 @@ public class PolicyInformationServiceTest {
         assertEquals(date, result);
     }
 
-    @Test
-    public void getAccessNumber_artifactPresent_returnNumAccessed() {
-        /* ARRANGE */
-        final var artifact = getArtifact();
-        final var targetUri = URI.create("https://localhost:8080/api/artifacts" + artifact.getId());
-
-        when(artifactService.get(artifact.getId())).thenReturn(artifact);
-
-        /* ACT */
-        final var result = policyInformationService.getAccessNumber(targetUri);
-
-        /* ASSERT */
-        assertEquals(numAccessed, result);
-    }
-
     /***********************************************************************************************
      * Utilities.                                                                                  *
      **********************************************************************************************/
@@ -83,7 +66,6 @@ public class PolicyInformationServiceTest {
         final var artifact = new ArtifactImpl();
         ReflectionTestUtils.setField(artifact, "id", UUID.randomUUID());
         ReflectionTestUtils.setField(artifact, "creationDate", date);
-        ReflectionTestUtils.setField(artifact, "numAccessed", numAccessed);
         return artifact;
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import io.dataspaceconnector.controller.resource.view.ArtifactViewAssembler;
+import io.dataspaceconnector.model.ArtifactDesc;
+import io.dataspaceconnector.service.resource.ArtifactService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class UsageQuotaServiceIT {
+
+    @Autowired
+    private UsageQuotaService usageQuota;
+
+    @Autowired
+    private ArtifactService artifactService;
+
+    @Autowired
+    private ArtifactViewAssembler viewAssembler;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void recordAccess_artifactUpdatedAfterwards_viewReportsAccess() {
+        /* ARRANGE */
+        final var desc = new ArtifactDesc();
+        desc.setValue("data");
+        final var artifact = artifactService.create(desc);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> usageQuota.recordAccess(artifact.getId()));
+
+        /* ACT */
+        desc.setTitle("changed");
+        artifactService.update(artifact.getId(), desc);
+        final var result = viewAssembler.toModel(artifactService.get(artifact.getId()));
+
+        /* ASSERT */
+        assertEquals("changed", result.getTitle());
+        assertEquals(1L, result.getNumAccessed());
+    }
+
+    @Test
+    public void tryAcquire_maxReached_viewReportsGrantedAccessesOnly() {
+        /* ARRANGE */
+        final var artifact = artifactService.create(new ArtifactDesc());
+        final var template = new TransactionTemplate(transactionManager);
+
+        /* ACT */
+        final var first = template.execute(status -> usageQuota.tryAcquire(artifact.getId(), 1));
+        final var second = template.execute(status -> usageQuota.tryAcquire(artifact.getId(), 1));
+        final var result = viewAssembler.toModel(artifactService.get(artifact.getId()));
+
+        /* ASSERT */
+        assertEquals(Boolean.TRUE, first);
+        assertEquals(Boolean.FALSE, second);
+        assertEquals(1L, result.getNumAccessed());
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.util.UUID;
+
+import io.dataspaceconnector.repository.ArtifactRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UsageQuotaServiceTest {
+
+    private final UUID artifactId = UUID.randomUUID();
+
+    private ArtifactRepository repository;
+
+    private UsageQuotaService service;
+
+    @BeforeEach
+    void init() {
+        repository = Mockito.mock(ArtifactRepository.class);
+        when(repository.findNumAccessedById(artifactId)).thenReturn(2L);
+        when(repository.incrementNumAccessed(artifactId, 3)).thenReturn(1);
+        service = new UsageQuotaService(repository);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void cleanup() {
+        completeTransaction();
+    }
+
+    @Test
+    public void getAccessNumber_artifactExists_readFromDatabase() {
+        /* ACT && ASSERT */
+        assertEquals(2, service.getAccessNumber(artifactId));
+    }
+
+    @Test
+    public void getAccessNumber_unknownArtifact_returnZero() {
+        /* ACT && ASSERT */
+        assertEquals(0, service.getAccessNumber(UUID.randomUUID()));
+    }
+
+    @Test
+    public void tryAcquire_belowMax_grant() {
+        /* ACT */
+        final var result = service.tryAcquire(artifactId, 3);
+
+        /* ASSERT */
+        assertTrue(result);
+        verify(repository, times(1)).incrementNumAccessed(artifactId, 3);
+    }
+
+    @Test
+    public void tryAcquire_maxReached_deny() {
+        /* ARRANGE */
+        when(repository.incrementNumAccessed(artifactId, 2)).thenReturn(0);
+
+        /* ACT */
+        final var result = service.tryAcquire(artifactId, 2);
+
+        /* ASSERT */
+        assertFalse(result);
+    }
+
+    @Test
+    public void recordAccess_afterAcquire_countOnce() {
+        /* ARRANGE */
+        service.tryAcquire(artifactId, 3);
+
+        /* ACT */
+        service.recordAccess(artifactId);
+
+        /* ASSERT */
+        verify(repository, never()).incrementNumAccessed(artifactId);
+    }
+
+    @Test
+    public void recordAccess_withoutAcquire_count() {
+        /* ACT */
+        service.recordAccess(artifactId);
+
+        /* ASSERT */
+        verify(repository, times(1)).incrementNumAccessed(artifactId);
+    }
+
+    @Test
+    public void recordAccess_acquiredInOtherTransaction_count() {
+        /* ARRANGE */
+        service.tryAcquire(artifactId, 3);
+        completeTransaction();
+        TransactionSynchronizationManager.initSynchronization();
+
+        /* ACT */
+        service.recordAccess(artifactId);
+
+        /* ASSERT */
+        verify(repository, times(1)).incrementNumAccessed(artifactId);
+    }
+
+    @Test
+    public void release_afterAcquire_giveBackAccess() {
+        /* ARRANGE */
+        service.tryAcquire(artifactId, 3);
+
+        /* ACT */
+        service.release(artifactId);
+        service.recordAccess(artifactId);
+
+        /* ASSERT */
+        verify(repository, times(1)).decrementNumAccessed(artifactId);
+        verify(repository, times(1)).incrementNumAccessed(artifactId);
+    }
+
+    @Test
+    public void release_withoutAcquire_doNothing() {
+        /* ACT */
+        service.release(artifactId);
+
+        /* ASSERT */
+        verify(repository, never()).decrementNumAccessed(artifactId);
+    }
+
+    private void completeTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        for (final var synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.util;
+
+import io.dataspaceconnector.util.UUIDUtils;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EndpointUtilsTest {
+
+    @Test
+    public void getEndpointIdFromPath_artifactUri_returnBasePathAndId() {
+        /* ARRANGE */
+        final var id = UUID.randomUUID();
+        final var uri = URI.create("https://localhost:8080/api/artifacts/" + id);
+
+        /* ACT */
+        final var result = EndpointUtils.getEndpointIdFromPath(uri);
+
+        /* ASSERT */
+        assertEquals("https://localhost:8080/api/artifacts", result.getBasePath());
+        assertEquals(id, result.getResourceId());
+    }
+
+    @Test
+    public void getEndpointIdFromPath_uriWithoutUuid_throwIndexOutOfBoundsException() {
+        /* ARRANGE */
+        final var uri = URI.create("https://localhost:8080/api/artifacts");
+
+        /* ACT && ASSERT */
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> EndpointUtils.getEndpointIdFromPath(uri));
+    }
+
+    @Test
+    public void getEndpointIdFromPath_randomPaths_sameAsPreviousImplementation() {
+        /* ARRANGE */
+        final var random = new Random(42);
+        final var ids = new UUID[]{UUID.randomUUID(), UUID.randomUUID()};
+        final var segments = new String[]{"api", "artifacts", "offers", "x", ""};
+
+        for (int i = 0; i < 10000; i++) {
+            final var builder = new StringBuilder("https://localhost:8080");
+            final var length = 1 + random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                builder.append('/');
+                if (random.nextBoolean()) {
+                    builder.append(ids[random.nextInt(ids.length)]);
+                } else {
+                    builder.append(segments[random.nextInt(segments.length)]);
+                }
+            }
+            final var uri = URI.create(builder.toString());
+            if (UUIDUtils.findUuids(uri.toString()).isEmpty()) {
+                continue;
+            }
+
+            /* ACT */
+            final var result = EndpointUtils.getEndpointIdFromPath(uri);
+
+            /* ASSERT */
+            final var fullPath = uri.toString();
+            final var expectedId = UUID.fromString(UUIDUtils.findUuids(fullPath).get(0));
+            final var expectedBasePath = fullPath.substring(0,
+                    fullPath.lastIndexOf(expectedId.toString()) - 1);
+            assertEquals(expectedId, result.getResourceId(), fullPath);
+            assertEquals(expectedBasePath, result.getBasePath(), fullPath);
+        }
+    }
+
+    @Test
+    public void getUUIDFromPath_upperCaseUuid_returnUuid() {
+        /* ARRANGE */
+        final var id = UUID.randomUUID();
+        final var uri = URI.create("https://localhost:8080/api/offers/"
+                + id.toString().toUpperCase());
+
+        /* ACT */
+        final var result = EndpointUtils.getUUIDFromPath(uri);
+
+        /* ASSERT */
+        assertEquals(id, result);
+    }
+
+    @Test
+    public void getBasePathEnumFromString_unknownPath_returnNull() {
+        /* ACT && ASSERT */
+        assertNull(EndpointUtils.getBasePathEnumFromString("https://localhost:8080/api/other"));
+        assertEquals(BasePath.OFFERS,
+                EndpointUtils.getBasePathEnumFromString("https://localhost:8080/api/offers"));
+    }
+}
@@ -19,6 +19,7 @@ import de.fraunhofer.iais.eis.ArtifactRequestMessage;
 import de.fraunhofer.iais.eis.ArtifactRequestMessageBuilder;
 import de.fraunhofer.iais.eis.DescriptionRequestMessage;
 import de.fraunhofer.iais.eis.DescriptionRequestMessageBuilder;
+import de.fraunhofer.iais.eis.DescriptionRequestMessageImpl;
 import de.fraunhofer.iais.eis.DynamicAttributeToken;
 import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
 import de.fraunhofer.iais.eis.RejectionMessage;
@@ -31,6 +32,7 @@ import de.fraunhofer.iais.eis.util.Util;
 import io.dataspaceconnector.exception.MessageEmptyException;
 import io.dataspaceconnector.exception.VersionNotSupportedException;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
 
 import java.net.URI;
 import java.util.HashMap;
@@ -41,6 +43,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MessageUtilsTest {
 
@@ -88,6 +91,78 @@ class MessageUtilsTest {
         assertThrows(IllegalArgumentException.class, () -> MessageUtils.extractRequestedElement(null));
     }
 
+    @Test
+    public void extractDescriptionPage_pageAndSizeGiven_returnPage() {
+        /* ARRANGE */
+        final var message = (DescriptionRequestMessageImpl)
+                getDescriptionRequestMessageWithRequestedElement();
+        message.setProperty(MessageUtils.DESCRIPTION_PAGE, 2);
+        message.setProperty(MessageUtils.DESCRIPTION_SIZE, "10");
+
+        /* ACT */
+        final var result = MessageUtils.extractDescriptionPage(message, 100);
+
+        /* ASSERT */
+        assertEquals(PageRequest.of(2, 10), result);
+    }
+
+    @Test
+    public void extractDescriptionPage_sizeAboveMaximum_limitSize() {
+        /* ARRANGE */
+        final var message = (DescriptionRequestMessageImpl)
+                getDescriptionRequestMessageWithRequestedElement();
+        message.setProperty(MessageUtils.DESCRIPTION_PAGE, 0);
+        message.setProperty(MessageUtils.DESCRIPTION_SIZE, String.valueOf(Integer.MAX_VALUE));
+
+        /* ACT */
+        final var result = MessageUtils.extractDescriptionPage(message, 100);
+
+        /* ASSERT */
+        assertEquals(PageRequest.of(0, 100), result);
+    }
+
+    @Test
+    public void extractDescriptionPage_offsetAboveIntRange_limitOffset() {
+        /* ARRANGE */
+        final var message = (DescriptionRequestMessageImpl)
+                getDescriptionRequestMessageWithRequestedElement();
+        message.setProperty(MessageUtils.DESCRIPTION_PAGE, String.valueOf(Integer.MAX_VALUE));
+        message.setProperty(MessageUtils.DESCRIPTION_SIZE, "100");
+
+        /* ACT */
+        final var result = MessageUtils.extractDescriptionPage(message, 100);
+
+        /* ASSERT */
+        assertEquals(100, result.getPageSize());
+        assertTrue(result.getOffset() + result.getPageSize() + 1 <= Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void extractDescriptionPage_nothingGiven_returnUnpaged() {
+        /* ARRANGE */
+        final var message = getDescriptionRequestMessageWithRequestedElement();
+
+        /* ACT */
+        final var result = MessageUtils.extractDescriptionPage(message, 100);
+
+        /* ASSERT */
+        assertTrue(result.isUnpaged());
+    }
+
+    @Test
+    public void extractDescriptionDepth_invalidDepth_returnEmpty() {
+        /* ARRANGE */
+        final var message = (DescriptionRequestMessageImpl)
+                getDescriptionRequestMessageWithRequestedElement();
+        message.setProperty(MessageUtils.DESCRIPTION_DEPTH, "deep");
+
+        /* ACT */
+        final var result = MessageUtils.extractDescriptionDepth(message);
+
+        /* ASSERT */
+        assertTrue(result.isEmpty());
+    }
+
     @Test
     public void extractRequestedArtifact_messageWithRequestedArtifact_returnRequestedArtifact() {
         /* ARRANGE */
@@ -288,6 +288,56 @@ class RuleUtilsTest {
                 Util.asList(getRuleOne(), getRuleThree())));
     }
 
+    /**
+     * getRuleFingerprint
+     */
+    @Test
+    public void getRuleFingerprint_nullAndEmpty_returnSameFingerprint() {
+        /* ACT && ASSERT */
+        assertEquals(RuleUtils.getRuleFingerprint(null),
+                RuleUtils.getRuleFingerprint(new ArrayList<>()));
+    }
+
+    @Test
+    public void getRuleFingerprint_sameSetsInDifferentOrder_returnSameFingerprint() {
+        /* ACT && ASSERT */
+        assertEquals(
+                RuleUtils.getRuleFingerprint(Util.asList(getRuleOne(), getRuleTwo(), getRuleOne())),
+                RuleUtils.getRuleFingerprint(Util.asList(getRuleTwo(), getRuleOne())));
+    }
+
+    @Test
+    public void getRuleFingerprint_differentSets_returnDifferentFingerprint() {
+        /* ACT && ASSERT */
+        assertNotEquals(RuleUtils.getRuleFingerprint(Util.asList(getRuleOne(), getRuleTwo())),
+                RuleUtils.getRuleFingerprint(Util.asList(getRuleOne(), getRuleThree())));
+    }
+
+    @Test
+    public void getRuleFingerprint_differentConstraints_returnDifferentFingerprint() {
+        /* ARRANGE */
+        final var rule = new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._constraint_(Util.asList(new ConstraintBuilder()
+                        ._leftOperand_(LeftOperand.COUNT)
+                        ._operator_(BinaryOperator.LTEQ)
+                        ._rightOperand_(new RdfResource("5", URI.create("xsd:double")))
+                        .build()))
+                .build();
+        final var other = new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._constraint_(Util.asList(new ConstraintBuilder()
+                        ._leftOperand_(LeftOperand.COUNT)
+                        ._operator_(BinaryOperator.LTEQ)
+                        ._rightOperand_(new RdfResource("6", URI.create("xsd:double")))
+                        .build()))
+                .build();
+
+        /* ACT && ASSERT */
+        assertNotEquals(RuleUtils.getRuleFingerprint(Util.asList(rule)),
+                RuleUtils.getRuleFingerprint(Util.asList(other)));
+    }
+
     /**
      * removeContractsWithInvalidConsumer
      */
@@ -20,10 +20,15 @@ import io.dataspaceconnector.exception.UUIDFormatException;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -214,6 +219,72 @@ public class UUIDUtilsTests {
         assertThrows(IndexOutOfBoundsException.class, () -> UUIDUtils.uuidFromUri(inputUri, 1));
     }
 
+    @Test
+    public void findUuids_randomInputs_sameAsRegex() {
+        /* ARRANGE */
+        final var random = new Random(42);
+
+        for (int i = 0; i < 10000; i++) {
+            final var input = randomInput(random);
+
+            /* ACT && ASSERT */
+            assertEquals(findUuidsWithRegex(input), UUIDUtils.findUuids(input), input);
+        }
+    }
+
+    @Test
+    public void uuidFromUri_randomUris_sameAsRegex() {
+        /* ARRANGE */
+        final var random = new Random(7);
+
+        for (int i = 0; i < 10000; i++) {
+            final var uri = URI.create("https://dsc/api/" + randomInput(random)
+                    .replaceAll("[^0-9a-zA-Z/-]", "/"));
+            final var uuids = findUuidsWithRegex(uri.toString());
+
+            /* ACT && ASSERT */
+            for (int index = -1; index <= uuids.size(); index++) {
+                final var position = index < 0 ? uuids.size() - 1 : index;
+                if (position < 0 || position >= uuids.size()) {
+                    final var finalIndex = index;
+                    assertThrows(IndexOutOfBoundsException.class,
+                            () -> UUIDUtils.uuidFromUri(uri, finalIndex));
+                } else {
+                    assertEquals(UUID.fromString(uuids.get(position)),
+                            UUIDUtils.uuidFromUri(uri, index));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void isUuidAt_nonAsciiDigit_returnFalse() {
+        /* ARRANGE */
+        final var input = "c5af2999-7a7f-4cc5-9ce1-4531c60a715\uFF11";
+
+        /* ACT && ASSERT */
+        assertFalse(UUIDUtils.isUuidAt(input, 0));
+    }
+
+    @Test
+    public void parseUuid_upperCaseUuid_returnUuid() {
+        /* ARRANGE */
+        final var uuidString = "C5AF2999-7A7F-4CC5-9CE1-4531C60A7151";
+
+        /* ACT */
+        final var result = UUIDUtils.parseUuid("/" + uuidString, 1);
+
+        /* ASSERT */
+        assertEquals(UUID.fromString(uuidString), result);
+    }
+
+    @Test
+    public void parseUuid_noUuidAtIndex_throwIllegalArgumentException() {
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class,
+                () -> UUIDUtils.parseUuid("/c5af2999-7a7f-4cc5-9ce1-4531c60a7151", 0));
+    }
+
     @Test
     public void createUuid_functionFalseForAllUuids_returnUuid() {
         /* ARRANGE */
@@ -255,4 +326,46 @@ public class UUIDUtilsTests {
         /* ACT && ASSERT */
         assertThrows(IllegalArgumentException.class, () -> UUIDUtils.createUUID(function, maxNumTries));
     }
+
+    /**
+     * Builds inputs from fragments of uuids, hex digits, and separators, so that full, partial,
+     * overlapping, and adjacent uuids occur often.
+     */
+    private static String randomInput(final Random random) {
+        final var builder = new StringBuilder();
+        final var fragments = random.nextInt(8);
+        for (int i = 0; i < fragments; i++) {
+            switch (random.nextInt(5)) {
+                case 0:
+                    builder.append(UUID.randomUUID());
+                    break;
+                case 1:
+                    builder.append(UUID.randomUUID().toString().toUpperCase(),
+                            random.nextInt(36), 36);
+                    break;
+                case 2:
+                    builder.append(Integer.toHexString(random.nextInt()));
+                    break;
+                case 3:
+                    builder.append("-/ xg".charAt(random.nextInt(5)));
+                    break;
+                default:
+                    builder.append(UUID.randomUUID().toString(), 0, random.nextInt(36));
+                    break;
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static List<String> findUuidsWithRegex(final String input) {
+        final var matcher = Pattern.compile("\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-"
+                + "\\p{XDigit}{4}-\\p{XDigit}{12}").matcher(input);
+        final var output = new ArrayList<String>();
+        while (matcher.find()) {
+            output.add(matcher.group(0));
+        }
+
+        return output;
+    }
 }